@@ -37,6 +37,8 @@ create table comment
     topic_id    bigint,
     updated_at  datetime(6),
     group_id    varchar(255),
+    reply_count    bigint default 0 not null,
+    favorite_count bigint default 0 not null,
     text        TEXT   not null,
     primary key (id)
 ) engine = InnoDB;
@@ -80,18 +82,23 @@ create table member
 
 create table topic
 (
-    is_closed     bit    default 0 not null,
-    author_id     bigint,
-    category_id   bigint,
-    closed_at     datetime(6)      not null,
-    created_at    datetime(6),
-    id            bigint           not null auto_increment,
-    updated_at    datetime(6),
-    view_count    bigint default 0 not null,
-    description   TEXT             not null,
-    first_choice  varchar(255)     not null,
-    second_choice varchar(255)     not null,
-    title         varchar(255)     not null,
+    is_closed           bit    default 0 not null,
+    author_id           bigint,
+    category_id         bigint,
+    closed_at           datetime(6)      not null,
+    created_at          datetime(6),
+    id                  bigint           not null auto_increment,
+    updated_at          datetime(6),
+    view_count          bigint default 0 not null,
+    vote_count          bigint default 0 not null,
+    first_choice_count  bigint default 0 not null,
+    second_choice_count bigint default 0 not null,
+    comment_count       bigint default 0 not null,
+    favorite_count      bigint default 0 not null,
+    description         TEXT             not null,
+    first_choice        varchar(255)     not null,
+    second_choice       varchar(255)     not null,
+    title               varchar(255)     not null,
     primary key (id)
 ) engine = InnoDB;
 
@@ -106,6 +113,30 @@ create table topic_image
     primary key (id)
 ) engine = InnoDB;
 
+create table topic_result
+(
+    created_at          datetime(6),
+    id                  bigint  not null auto_increment,
+    topic_id            bigint  not null,
+    updated_at          datetime(6),
+    first_choice_count  bigint  not null,
+    second_choice_count bigint  not null,
+    participant_count   bigint  not null,
+    winner              tinyint check (winner between 0 and 1),
+    primary key (id)
+) engine = InnoDB;
+
+create table topic_result_comment
+(
+    topic_result_id bigint not null,
+    ranking         integer not null,
+    comment_id      bigint not null,
+    favorite_count  bigint not null,
+    author_name     varchar(255),
+    text            TEXT   not null,
+    primary key (topic_result_id, ranking)
+) engine = InnoDB;
+
 create table vote
 (
     vote_type  tinyint check (vote_type between 0 and 1),
@@ -195,4 +226,59 @@ alter table vote
 alter table vote
     add constraint FKkqlx1pm06wic6l5bvniuh1dmd
         foreign key (voter_id)
-            references member (id);
\ No newline at end of file
+            references member (id);
+create index idx_topic_created_at_id
+    on topic (created_at, id);
+
+create index idx_topic_is_closed_closed_at
+    on topic (is_closed, closed_at);
+
+create index idx_topic_category_created_at_id
+    on topic (category_id, created_at, id);
+
+create index idx_comment_topic_created_at_id
+    on comment (topic_id, created_at, id);
+
+create index idx_comment_topic_group_created_at
+    on comment (topic_id, group_id, created_at);
+
+create index idx_refresh_token_account_id
+    on refresh_token (account_id);
+
+create index idx_refresh_token_refresh_token
+    on refresh_token (refresh_token);
+
+-- 기존 데이터에 유니크 제약을 추가할 때는 아래 DELETE 로 중복 행을 먼저 지운 뒤 ALTER TABLE 을 실행해야 한다.
+-- 중복이 남아 있으면 ALTER TABLE 이 실패한다. 투표는 가장 최근 행을, 좋아요는 가장 먼저 누른 행을 남긴다.
+-- 지운 뒤 어긋난 집계 컬럼은 TopicCountReconciler 가 바로잡는다.
+delete v
+from vote v
+         join vote newer
+              on newer.topic_id = v.topic_id and newer.voter_id = v.voter_id and newer.id > v.id;
+
+delete tf
+from topic_favorite tf
+         join topic_favorite older
+              on older.topic_id = tf.topic_id and older.member_id = tf.member_id and older.id < tf.id;
+
+delete cf
+from comment_favorite cf
+         join comment_favorite older
+              on older.comment_id = cf.comment_id and older.member_id = cf.member_id and older.id < cf.id;
+
+alter table vote
+    add constraint uk_vote_topic_voter unique (topic_id, voter_id);
+
+alter table topic_favorite
+    add constraint uk_topic_favorite_topic_member unique (topic_id, member_id);
+
+alter table comment_favorite
+    add constraint uk_comment_favorite_comment_member unique (comment_id, member_id);
+
+alter table topic_result
+    add constraint uk_topic_result_topic unique (topic_id);
+
+alter table topic_result_comment
+    add constraint FK_topic_result_comment_topic_result
+        foreign key (topic_result_id)
+            references topic_result (id);
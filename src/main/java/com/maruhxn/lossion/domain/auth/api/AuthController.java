@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 
+import static com.maruhxn.lossion.global.common.Constants.ACCESS_TOKEN_HEADER;
 import static com.maruhxn.lossion.global.common.Constants.REFRESH_TOKEN_HEADER;
 
 @RestController
@@ -135,8 +136,9 @@ public class AuthController {
     @PatchMapping("/logout")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void logout(
+            @RequestHeader(value = ACCESS_TOKEN_HEADER, required = false) String bearerAccessToken,
             @RequestHeader(value = REFRESH_TOKEN_HEADER, required = true) String bearerRefreshToken
     ) {
-        jwtService.logout(bearerRefreshToken);
+        jwtService.logout(bearerAccessToken, bearerRefreshToken);
     }
 }
@@ -6,6 +6,7 @@ import com.maruhxn.lossion.domain.auth.dto.*;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.member.dto.request.UpdateAnonymousPasswordReq;
+import com.maruhxn.lossion.domain.member.event.MemberChangedEvent;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.global.error.exception.AlreadyExistsResourceException;
 import com.maruhxn.lossion.global.error.exception.BadRequestException;
@@ -14,6 +15,7 @@ import com.maruhxn.lossion.global.error.exception.ExpirationException;
 import com.maruhxn.lossion.global.util.AesUtil;
 import com.maruhxn.lossion.infra.email.EmailService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,7 @@ public class AuthService {
     private final AuthTokenRepository authTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void signUp(SignUpReq req) {
         // 제약조건 검사
@@ -43,6 +46,7 @@ public class AuthService {
             Member findMember = optionalMember.get();
             if (findMember.getSnsId() != null) {
                 findMember.rewriteOAuth2User(req.getUsername(), req.getAccountId(), hashedPwd);
+                eventPublisher.publishEvent(new MemberChangedEvent(findMember.getId()));
             } else {
                 throw new AlreadyExistsResourceException(ErrorCode.EXISTING_EMAIL);
             }
@@ -112,6 +116,7 @@ public class AuthService {
 
         // 인증 완료
         member.verifyEmail();
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
 
         authTokenRepository.deleteAllByMember_Id(member.getId());
     }
@@ -150,6 +155,7 @@ public class AuthService {
 
         String hashedPwd = passwordEncoder.encode(req.getNewPassword());
         findMember.updatePassword(hashedPwd);
+        eventPublisher.publishEvent(new MemberChangedEvent(findMember.getId()));
 
         authTokenRepository.deleteAllByMember_Id(findMember.getId());
 
@@ -0,0 +1,83 @@
+package com.maruhxn.lossion.domain.auth.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 refresh token 저장소.
+ * token -> 항목, accountId -> 항목 두 개의 해시 인덱스로 O(1) 조회하며,
+ * 만료된 항목은 조회 시점과 주기적인 정리 작업에서 제거한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Entry> byRefreshToken = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byAccountId = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String accountId, String refreshToken, Duration ttl) {
+        Entry entry = new Entry(accountId, refreshToken, System.currentTimeMillis() + ttl.toMillis());
+        byAccountId.compute(accountId, (key, before) -> {
+            if (before != null) byRefreshToken.remove(before.refreshToken(), before);
+            byRefreshToken.put(refreshToken, entry);
+            return entry;
+        });
+    }
+
+    @Override
+    public Optional<String> findAccountIdByRefreshToken(String refreshToken) {
+        return findValid(byRefreshToken, refreshToken).map(Entry::accountId);
+    }
+
+    @Override
+    public Optional<String> findRefreshTokenByAccountId(String accountId) {
+        return findValid(byAccountId, accountId).map(Entry::refreshToken);
+    }
+
+    @Override
+    public void deleteAllByAccountId(String accountId) {
+        byAccountId.computeIfPresent(accountId, (key, entry) -> {
+            byRefreshToken.remove(entry.refreshToken(), entry);
+            return null;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.sweep-interval:600000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        byAccountId.values().removeIf(entry -> entry.isExpired(now));
+        byRefreshToken.values().removeIf(entry -> entry.isExpired(now));
+        log.debug("만료된 refresh token 정리 완료 | remaining={}", byAccountId.size());
+    }
+
+    private Optional<Entry> findValid(Map<String, Entry> index, String key) {
+        Entry entry = index.get(key);
+        if (entry == null) return Optional.empty();
+        if (entry.isExpired(System.currentTimeMillis())) {
+            remove(entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    // 만료된 항목만 지운다. 그사이 같은 계정으로 저장된 새 항목은 두 인덱스 모두에서 남는다.
+    private void remove(Entry entry) {
+        byAccountId.remove(entry.accountId(), entry);
+        byRefreshToken.remove(entry.refreshToken(), entry);
+    }
+
+    private record Entry(String accountId, String refreshToken, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
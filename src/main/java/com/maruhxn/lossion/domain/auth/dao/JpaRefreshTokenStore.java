@@ -0,0 +1,50 @@
+package com.maruhxn.lossion.domain.auth.dao;
+
+import com.maruhxn.lossion.domain.auth.domain.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * refresh_token 테이블을 사용하는 저장소. 만료 여부는 토큰 자체의 exp 로 검증하므로 ttl 은 저장하지 않는다.
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "jpa")
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public void save(String accountId, String refreshToken, Duration ttl) {
+        refreshTokenRepository.findByAccountId(accountId)
+                .ifPresentOrElse(
+                        token -> token.updateToken(refreshToken),
+                        () -> refreshTokenRepository.save(new RefreshToken(refreshToken, accountId))
+                );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findAccountIdByRefreshToken(String refreshToken) {
+        return refreshTokenRepository.findByRefreshToken(refreshToken)
+                .map(RefreshToken::getAccountId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findRefreshTokenByAccountId(String accountId) {
+        return refreshTokenRepository.findByAccountId(accountId)
+                .map(RefreshToken::getRefreshToken);
+    }
+
+    @Override
+    public void deleteAllByAccountId(String accountId) {
+        refreshTokenRepository.deleteAllByAccountId(accountId);
+    }
+}
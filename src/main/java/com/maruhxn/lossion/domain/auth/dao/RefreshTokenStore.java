@@ -0,0 +1,22 @@
+package com.maruhxn.lossion.domain.auth.dao;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * refresh token 저장소. 계정당 하나의 refresh token 만 유지하며, token 과 accountId 양쪽으로 조회할 수 있다.
+ * 기본 구현은 InMemoryRefreshTokenStore 이며, auth.refresh-token.store=jpa 로 설정하면 JpaRefreshTokenStore 를 사용한다.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 계정의 refresh token 을 저장한다. 기존 token 이 있다면 교체한다.
+     */
+    void save(String accountId, String refreshToken, Duration ttl);
+
+    Optional<String> findAccountIdByRefreshToken(String refreshToken);
+
+    Optional<String> findRefreshTokenByAccountId(String accountId);
+
+    void deleteAllByAccountId(String accountId);
+}
@@ -2,6 +2,8 @@ package com.maruhxn.lossion.domain.auth.domain;
 
 import com.maruhxn.lossion.global.common.BaseEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,6 +13,10 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_account_id", columnList = "account_id"),
+        @Index(name = "idx_refresh_token_refresh_token", columnList = "refresh_token")
+})
 public class RefreshToken extends BaseEntity {
 
     @NotBlank
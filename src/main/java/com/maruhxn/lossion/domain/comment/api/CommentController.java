@@ -4,10 +4,12 @@ import com.maruhxn.lossion.domain.comment.application.CommentService;
 import com.maruhxn.lossion.domain.comment.dto.request.CreateCommentReq;
 import com.maruhxn.lossion.domain.comment.dto.request.UpdateCommentReq;
 import com.maruhxn.lossion.domain.comment.dto.response.CommentItem;
+import com.maruhxn.lossion.domain.comment.dto.response.ReplyGroupItem;
 import com.maruhxn.lossion.global.auth.dto.CustomUserDetails;
 import com.maruhxn.lossion.global.common.dto.BaseResponse;
 import com.maruhxn.lossion.global.common.dto.DataResponse;
 import com.maruhxn.lossion.global.common.dto.PageItem;
+import com.maruhxn.lossion.global.common.dto.SliceItem;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -50,6 +52,16 @@ public class CommentController {
         return ResponseEntity.ok(DataResponse.of("댓글 조회 성공", result));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<DataResponse<SliceItem<CommentItem>>> getTopLevelCommentsByCursor(
+            @PathVariable Long topicId,
+            @RequestParam String cursor,
+            Pageable pageable
+    ) {
+        SliceItem<CommentItem> result = commentService.getTopLevelCommentsByCursor(topicId, cursor, pageable.getPageSize());
+        return ResponseEntity.ok(DataResponse.of("댓글 조회 성공", result));
+    }
+
     @PatchMapping("/{commentId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("@authChecker.isCommentAuthor(#commentId)")
@@ -79,4 +91,25 @@ public class CommentController {
         List<CommentItem> replies = commentService.getRepliesByGroupId(topicId, groupId);
         return ResponseEntity.ok(DataResponse.of("답글 조회 성공", replies));
     }
+
+    @GetMapping("/groups")
+    public ResponseEntity<DataResponse<List<ReplyGroupItem>>> getReplyGroups(
+            @PathVariable Long topicId,
+            @RequestParam List<String> groupIds,
+            @RequestParam(defaultValue = "3") int size
+    ) {
+        List<ReplyGroupItem> result = commentService.getReplyGroups(topicId, groupIds, size);
+        return ResponseEntity.ok(DataResponse.of("답글 조회 성공", result));
+    }
+
+    @GetMapping(value = "/groups/{groupId}", params = "cursor")
+    public ResponseEntity<DataResponse<SliceItem<CommentItem>>> getRepliesByCursor(
+            @PathVariable Long topicId,
+            @PathVariable String groupId,
+            @RequestParam String cursor,
+            Pageable pageable
+    ) {
+        SliceItem<CommentItem> result = commentService.getRepliesByCursor(topicId, groupId, cursor, pageable.getPageSize());
+        return ResponseEntity.ok(DataResponse.of("답글 조회 성공", result));
+    }
 }
@@ -6,28 +6,42 @@ import com.maruhxn.lossion.domain.comment.domain.Comment;
 import com.maruhxn.lossion.domain.comment.dto.request.CreateCommentReq;
 import com.maruhxn.lossion.domain.comment.dto.request.UpdateCommentReq;
 import com.maruhxn.lossion.domain.comment.dto.response.CommentItem;
+import com.maruhxn.lossion.domain.comment.dto.response.ReplyGroupItem;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
 import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent.ActivityType;
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
+import com.maruhxn.lossion.global.common.dto.Cursor;
 import com.maruhxn.lossion.global.common.dto.PageItem;
+import com.maruhxn.lossion.global.common.dto.SliceItem;
 import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.BadRequestException;
 import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_REPLY_GROUPS = 100;
+    private static final int MAX_REPLIES_PER_GROUP = 20;
+
     private final CommentRepository commentRepository;
     private final CommentQueryRepository commentQueryRepository;
     private final TopicRepository topicRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createComment(Member author, Long topicId, CreateCommentReq req, String groupId) {
@@ -43,6 +57,12 @@ public class CommentService {
         }
 
         commentRepository.save(comment);
+        if (req.getReplyToId() != null) {
+            commentRepository.updateReplyCount(req.getReplyToId(), 1L);
+        }
+        topicRepository.updateCommentCount(topicId, 1L);
+        eventPublisher.publishEvent(new TopicChangedEvent(topicId));
+        eventPublisher.publishEvent(new TopicActivityEvent(topicId, ActivityType.COMMENT));
     }
 
     public PageItem getTopLevelComments(Long topicId, Pageable pageable) {
@@ -50,6 +70,11 @@ public class CommentService {
         return PageItem.from(topLevelComments);
     }
 
+    public SliceItem<CommentItem> getTopLevelCommentsByCursor(Long topicId, String cursor, int size) {
+        List<CommentItem> commentItems = commentQueryRepository.findTopLevelCommentsByCursor(topicId, Cursor.decode(cursor), size);
+        return SliceItem.of(commentItems, size, item -> Cursor.of(item.getCreatedAt(), item.getId()));
+    }
+
     @Transactional
     public void updateComment(Long topicId, Long commentId, UpdateCommentReq req) {
         Comment findComment = commentRepository.findByTopicIdAndId(topicId, commentId)
@@ -63,10 +88,48 @@ public class CommentService {
         Comment findComment = commentRepository.findByTopicIdAndId(topicId, commentId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_COMMENT));
 
+        // 하위 답글도 함께 삭제되므로 삭제 전에 개수를 계산한다.
+        long deletedCount = commentRepository.countWithReplies(commentId);
+        if (findComment.getReplyTo() != null) {
+            commentRepository.updateReplyCount(findComment.getReplyTo().getId(), -1L);
+        }
         commentRepository.delete(findComment);
+        topicRepository.updateCommentCount(topicId, -deletedCount);
+        eventPublisher.publishEvent(new TopicChangedEvent(topicId));
     }
 
     public List<CommentItem> getRepliesByGroupId(Long topicId, String groupId) {
         return commentQueryRepository.findRepliesByGroupId(topicId, groupId);
     }
+
+    /**
+     * 화면에 보이는 최상위 댓글 그룹들의 첫 답글을 그룹별로 size 건(최대 20건)씩 한 번에 조회한다.
+     */
+    public List<ReplyGroupItem> getReplyGroups(Long topicId, List<String> groupIds, int size) {
+        List<String> distinctGroupIds = groupIds.stream().distinct().toList();
+        if (distinctGroupIds.size() > MAX_REPLY_GROUPS) {
+            throw new BadRequestException(ErrorCode.TOO_MANY_IDS);
+        }
+        if (distinctGroupIds.isEmpty()) return List.of();
+        int limit = Math.max(1, Math.min(size, MAX_REPLIES_PER_GROUP));
+
+        // 다음 답글 존재 여부 판단을 위해 그룹별로 size + 1 건을 조회한다.
+        Map<String, List<CommentItem>> repliesByGroupId = commentQueryRepository
+                .findFirstRepliesByGroupIds(topicId, distinctGroupIds, limit + 1)
+                .stream()
+                .collect(Collectors.groupingBy(CommentItem::getGroupId));
+
+        return distinctGroupIds.stream()
+                .map(groupId -> ReplyGroupItem.builder()
+                        .groupId(groupId)
+                        .replies(SliceItem.of(repliesByGroupId.getOrDefault(groupId, List.of()), limit,
+                                item -> Cursor.of(item.getCreatedAt(), item.getId())))
+                        .build())
+                .toList();
+    }
+
+    public SliceItem<CommentItem> getRepliesByCursor(Long topicId, String groupId, String cursor, int size) {
+        List<CommentItem> replies = commentQueryRepository.findRepliesByCursor(topicId, groupId, Cursor.decode(cursor), size);
+        return SliceItem.of(replies, size, item -> Cursor.of(item.getCreatedAt(), item.getId()));
+    }
 }
@@ -2,8 +2,11 @@ package com.maruhxn.lossion.domain.comment.dao;
 
 import com.maruhxn.lossion.domain.comment.dto.response.CommentItem;
 import com.maruhxn.lossion.domain.comment.dto.response.QCommentItem;
+import com.maruhxn.lossion.global.common.dto.Cursor;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,33 +16,27 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 import static com.maruhxn.lossion.domain.comment.domain.QComment.comment;
-import static com.maruhxn.lossion.domain.favorite.domain.QCommentFavorite.commentFavorite;
 
 @Repository
 @RequiredArgsConstructor
 public class CommentQueryRepository {
 
+    private static final String FIRST_REPLY_IDS_PER_GROUP_SQL = """
+            select r.id from (
+                select c.id, row_number() over (partition by c.group_id order by c.created_at, c.id) as rn
+                from comment c
+                where c.topic_id = :topicId and c.group_id in (:groupIds) and c.reply_to_id is not null
+            ) r
+            where r.rn <= :limit
+            """;
+
     private final JPAQueryFactory query;
+    private final EntityManager em;
 
     public Page<CommentItem> findTopLevelCommentsByTopicId(Long topicId, Pageable pageable) {
 
-        List<CommentItem> commentItems = query
-                .select(new QCommentItem(
-                        comment.id,
-                        comment.text,
-                        comment.author,
-                        comment.groupId,
-                        commentFavorite.countDistinct(),
-                        comment.replyTo.id,
-                        comment.replies.size(),
-                        comment.createdAt,
-                        comment.updatedAt
-                ))
-                .from(comment)
-                .leftJoin(comment.replyTo)
-                .leftJoin(comment.favorites, commentFavorite)
+        List<CommentItem> commentItems = selectCommentItems()
                 .where(comment.topic.id.eq(topicId).and(comment.replyTo.isNull()))
-                .groupBy(comment.id)
                 .orderBy(comment.createdAt.desc(), comment.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -49,30 +46,85 @@ public class CommentQueryRepository {
         JPAQuery<Long> countQuery = query
                 .select(comment.count())
                 .from(comment)
-                .leftJoin(comment.replyTo)
                 .where(comment.topic.id.eq(topicId).and(comment.replyTo.isNull()));
 
         return PageableExecutionUtils.getPage(commentItems, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 키셋 방식 최상위 댓글 조회. 다음 페이지 존재 여부 판단을 위해 size + 1 건을 조회한다.
+     */
+    public List<CommentItem> findTopLevelCommentsByCursor(Long topicId, Cursor cursor, int size) {
+        return selectCommentItems()
+                .where(comment.topic.id.eq(topicId).and(comment.replyTo.isNull()), beforeCursor(cursor))
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
     public List<CommentItem> findRepliesByGroupId(Long topicId, String groupId) {
+        return selectCommentItems()
+                .where(comment.topic.id.eq(topicId).and(comment.groupId.eq(groupId)).and(comment.replyTo.isNotNull()))
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 여러 그룹의 답글을 그룹별로 작성 순서대로 최대 limit 건씩 조회한다.
+     * ROW_NUMBER() 윈도우 쿼리 한 번으로 그룹별 대상 id 를 고르고, 한 번의 IN 쿼리로 조회한다.
+     */
+    public List<CommentItem> findFirstRepliesByGroupIds(Long topicId, List<String> groupIds, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Number> replyIds = em.createNativeQuery(FIRST_REPLY_IDS_PER_GROUP_SQL)
+                .setParameter("topicId", topicId)
+                .setParameter("groupIds", groupIds)
+                .setParameter("limit", limit)
+                .getResultList();
+        if (replyIds.isEmpty()) return List.of();
+
+        return selectCommentItems()
+                .where(comment.id.in(replyIds.stream().map(Number::longValue).toList()))
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 키셋 방식 답글 조회. 커서 이후의 답글을 작성 순서대로 size + 1 건 조회한다.
+     */
+    public List<CommentItem> findRepliesByCursor(Long topicId, String groupId, Cursor cursor, int size) {
+        return selectCommentItems()
+                .where(comment.topic.id.eq(topicId).and(comment.groupId.eq(groupId)).and(comment.replyTo.isNotNull()),
+                        afterCursor(cursor))
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    private JPAQuery<CommentItem> selectCommentItems() {
         return query
                 .select(new QCommentItem(
                         comment.id,
                         comment.text,
                         comment.author,
                         comment.groupId,
-                        commentFavorite.countDistinct(),
+                        comment.favoriteCount,
                         comment.replyTo.id,
-                        comment.replies.size(),
+                        comment.replyCount,
                         comment.createdAt,
                         comment.updatedAt
                 ))
-                .from(comment)
-                .leftJoin(comment.replyTo)
-                .leftJoin(comment.favorites, commentFavorite)
-                .where(comment.topic.id.eq(topicId).and(comment.groupId.eq(groupId)).and(comment.replyTo.isNotNull()))
-                .groupBy(comment.id)
-                .fetch();
+                .from(comment);
+    }
+
+    private static BooleanExpression beforeCursor(Cursor cursor) {
+        if (cursor == null) return null;
+        return comment.createdAt.lt(cursor.getCreatedAt())
+                .or(comment.createdAt.eq(cursor.getCreatedAt()).and(comment.id.lt(cursor.getId())));
+    }
+
+    private static BooleanExpression afterCursor(Cursor cursor) {
+        if (cursor == null) return null;
+        return comment.createdAt.gt(cursor.getCreatedAt())
+                .or(comment.createdAt.eq(cursor.getCreatedAt()).and(comment.id.gt(cursor.getId())));
     }
 }
@@ -1,11 +1,53 @@
 package com.maruhxn.lossion.domain.comment.dao;
 
 import com.maruhxn.lossion.domain.comment.domain.Comment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Optional<Comment> findByTopicIdAndId(Long topicId, Long commentId);
+
+    @EntityGraph(attributePaths = {"author"})
+    List<Comment> findTop3ByTopicIdOrderByFavoriteCountDescIdAsc(Long topicId);
+
+    /**
+     * 댓글 자신과 모든 하위 답글의 개수. 답글 트리를 reply_to_id 로 한 번에 따라가므로, 답글을 엔티티로 불러오지 않는다.
+     */
+    @Query(value = "with recursive subtree (id) as (" +
+            " select c.id from comment c where c.id = :commentId" +
+            " union all" +
+            " select r.id from comment r join subtree s on r.reply_to_id = s.id" +
+            ") select count(*) from subtree", nativeQuery = true)
+    long countWithReplies(@Param("commentId") Long commentId);
+
+    // 집계 컬럼 갱신
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + :delta where c.id = :commentId")
+    int updateReplyCount(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update Comment c set c.favoriteCount = c.favoriteCount + :delta where c.id = :commentId")
+    int updateFavoriteCount(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    // 집계 컬럼 보정
+
+    @Query("select max(c.id) from Comment c")
+    Optional<Long> findMaxId();
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c" +
+            " set c.replyCount = (select count(r) from Comment r where r.replyTo.id = c.id)," +
+            " c.favoriteCount = (select count(f) from CommentFavorite f where f.comment.id = c.id)" +
+            " where c.id between :fromId and :toId")
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
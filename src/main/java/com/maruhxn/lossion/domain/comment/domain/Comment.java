@@ -10,6 +10,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
@@ -18,6 +19,10 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_comment_topic_created_at_id", columnList = "topic_id, created_at, id"),
+        @Index(name = "idx_comment_topic_group_created_at", columnList = "topic_id, group_id, created_at")
+})
 public class Comment extends BaseEntity {
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -43,6 +48,18 @@ public class Comment extends BaseEntity {
 
     private String groupId;
 
+    /**
+     * 집계 컬럼은 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false 로 두고, CommentRepository 의 벌크 연산으로만 갱신한다.
+     * 저장 전 엔티티에서 addReply 로 늘어난 답글 수는 최초 INSERT 에 함께 반영된다.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long replyCount;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long favoriteCount;
+
     @Builder
     public Comment(String text, Member author, Topic topic, String groupId) {
 
@@ -54,6 +71,8 @@ public class Comment extends BaseEntity {
         this.author = author;
         this.topic = topic;
         this.groupId = groupId;
+        this.replyCount = 0L;
+        this.favoriteCount = 0L;
     }
 
     public static Comment of(Member author, Topic topic, CreateCommentReq req, String groupId) {
@@ -68,6 +87,7 @@ public class Comment extends BaseEntity {
     // 연관관계 메서드 //
     public void addReply(Comment reply) {
         replies.add(reply);
+        replyCount++;
         reply.groupId = this.groupId;
         reply.replyTo = this;
     }
@@ -17,7 +17,7 @@ public class CommentItem {
     private String text;
     private AuthorInfoItem author;
     private Long replyToId;
-    private Integer repliesCount;
+    private Long repliesCount;
     private String groupId;
     private Long favoriteCount;
     private LocalDateTime createdAt;
@@ -25,7 +25,7 @@ public class CommentItem {
 
     @Builder
     @QueryProjection
-    public CommentItem(Long id, String text, Member author, String groupId, Long favoriteCount, Long replyToId, Integer repliesCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public CommentItem(Long id, String text, Member author, String groupId, Long favoriteCount, Long replyToId, Long repliesCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.text = text;
         this.author = AuthorInfoItem.from(author);
@@ -42,7 +42,8 @@ public class CommentItem {
                 .id(reply.getId())
                 .text(reply.getText())
                 .author(reply.getAuthor())
-                .favoriteCount((long) reply.getFavorites().size())
+                .favoriteCount(reply.getFavoriteCount())
+                .repliesCount(reply.getReplyCount())
                 .replyToId(reply.getReplyTo().getId())
                 .groupId(reply.getGroupId())
                 .createdAt(reply.getCreatedAt())
@@ -0,0 +1,22 @@
+package com.maruhxn.lossion.domain.comment.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글에 대한 본인의 좋아요 여부
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentReactionItem {
+    private Long commentId;
+    private Boolean isFavorite;
+
+    @Builder
+    public CommentReactionItem(Long commentId, Boolean isFavorite) {
+        this.commentId = commentId;
+        this.isFavorite = isFavorite;
+    }
+}
@@ -0,0 +1,23 @@
+package com.maruhxn.lossion.domain.comment.dto.response;
+
+import com.maruhxn.lossion.global.common.dto.SliceItem;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최상위 댓글 그룹의 첫 답글 목록. 이어지는 답글은 nextCursor 로 그룹별로 조회한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReplyGroupItem {
+    private String groupId;
+    private SliceItem<CommentItem> replies;
+
+    @Builder
+    public ReplyGroupItem(String groupId, SliceItem<CommentItem> replies) {
+        this.groupId = groupId;
+        this.replies = replies;
+    }
+}
@@ -1,14 +1,19 @@
 package com.maruhxn.lossion.domain.favorite.api;
 
+import com.maruhxn.lossion.domain.comment.dto.response.CommentReactionItem;
 import com.maruhxn.lossion.domain.favorite.application.FavoriteService;
 import com.maruhxn.lossion.global.auth.dto.CustomUserDetails;
+import com.maruhxn.lossion.global.common.dto.DataResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/favorites")
@@ -53,4 +58,13 @@ public class FavoriteController {
     ) {
         favoriteService.checkCommentFavorite(commentId, userDetails.getMember());
     }
+
+    @GetMapping("/comments")
+    public ResponseEntity<DataResponse<List<CommentReactionItem>>> getCommentReactions(
+            @RequestParam List<Long> commentIds,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        List<CommentReactionItem> result = favoriteService.getCommentReactions(commentIds, userDetails.getMember());
+        return ResponseEntity.ok(DataResponse.of("댓글 좋아요 정보 조회 성공", result));
+    }
 }
@@ -1,67 +1,73 @@
 package com.maruhxn.lossion.domain.favorite.application;
 
 import com.maruhxn.lossion.domain.comment.dao.CommentRepository;
-import com.maruhxn.lossion.domain.comment.domain.Comment;
+import com.maruhxn.lossion.domain.comment.dto.response.CommentReactionItem;
 import com.maruhxn.lossion.domain.favorite.dao.CommentFavoriteRepository;
+import com.maruhxn.lossion.domain.favorite.dao.FavoriteInsertRepository;
 import com.maruhxn.lossion.domain.favorite.dao.TopicFavoriteRepository;
-import com.maruhxn.lossion.domain.favorite.domain.CommentFavorite;
-import com.maruhxn.lossion.domain.favorite.domain.TopicFavorite;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
-import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent.ActivityType;
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
 import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.BadRequestException;
 import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class FavoriteService {
 
+    private static final int MAX_REACTION_IDS = 100;
+
     private final TopicRepository topicRepository;
     private final CommentRepository commentRepository;
     private final TopicFavoriteRepository topicFavoriteRepository;
     private final CommentFavoriteRepository commentFavoriteRepository;
+    private final FavoriteInsertRepository favoriteInsertRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 좋아요 삭제를 먼저 시도하고, 삭제된 행이 없을 때만 저장한다. 주제는 조회하지 않는다.
+     */
     @Transactional
     public void topicFavorite(Long topicId, Member member) {
-        Topic findTopic = topicRepository.findById(topicId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC));
-
-        Optional<TopicFavorite> optionalTopicFav = topicFavoriteRepository.findByTopic_IdAndMember_Id(topicId, member.getId());
-        boolean isEmpty = optionalTopicFav.isEmpty();
-
-        if (isEmpty) {
-            TopicFavorite topicFavorite = TopicFavorite.builder()
-                    .member(member)
-                    .topic(findTopic)
-                    .build();
-            topicFavoriteRepository.save(topicFavorite);
-        } else {
-            topicFavoriteRepository.delete(optionalTopicFav.get());
+        if (topicFavoriteRepository.deleteByTopicIdAndMemberId(topicId, member.getId()) > 0) {
+            changeFavoriteCount(topicId, -1L);
+            return;
+        }
+        if (favoriteInsertRepository.insertTopicFavoriteIfAbsent(topicId, member.getId()) > 0) {
+            changeFavoriteCount(topicId, 1L);
+            eventPublisher.publishEvent(new TopicActivityEvent(topicId, ActivityType.FAVORITE));
+            return;
+        }
+        // 저장된 행이 없다면 주제가 없거나, 동시 요청이 먼저 좋아요를 저장한 경우이다.
+        if (!topicRepository.existsById(topicId)) {
+            throw new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC);
         }
     }
 
     @Transactional
     public void commentFavorite(Long commentId, Member member) {
-        Comment findComment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_COMMENT));
-
-        Optional<CommentFavorite> optionalCommentFav = commentFavoriteRepository.findByComment_IdAndMember_Id(commentId, member.getId());
-        boolean isEmpty = optionalCommentFav.isEmpty();
-
-        if (isEmpty) {
-            CommentFavorite commentFavorite = CommentFavorite.builder()
-                    .member(member)
-                    .comment(findComment)
-                    .build();
-            commentFavoriteRepository.save(commentFavorite);
-        } else {
-            commentFavoriteRepository.delete(optionalCommentFav.get());
+        if (commentFavoriteRepository.deleteByCommentIdAndMemberId(commentId, member.getId()) > 0) {
+            commentRepository.updateFavoriteCount(commentId, -1L);
+            return;
+        }
+        if (favoriteInsertRepository.insertCommentFavoriteIfAbsent(commentId, member.getId()) > 0) {
+            commentRepository.updateFavoriteCount(commentId, 1L);
+            return;
+        }
+        if (!commentRepository.existsById(commentId)) {
+            throw new EntityNotFoundException(ErrorCode.NOT_FOUND_COMMENT);
         }
     }
 
@@ -78,4 +84,28 @@ public class FavoriteService {
             throw new EntityNotFoundException(ErrorCode.NOT_FOUND_FAVORITE);
         }
     }
+
+    /**
+     * 댓글 목록에 대한 본인의 좋아요 여부를 IN 쿼리 한 번으로 조회한다.
+     */
+    public List<CommentReactionItem> getCommentReactions(List<Long> commentIds, Member member) {
+        List<Long> distinctCommentIds = commentIds.stream().distinct().toList();
+        if (distinctCommentIds.size() > MAX_REACTION_IDS) {
+            throw new BadRequestException(ErrorCode.TOO_MANY_IDS);
+        }
+        if (distinctCommentIds.isEmpty()) return List.of();
+
+        Set<Long> favoriteCommentIds = new HashSet<>(commentFavoriteRepository.findFavoriteCommentIds(member.getId(), distinctCommentIds));
+        return distinctCommentIds.stream()
+                .map(commentId -> CommentReactionItem.builder()
+                        .commentId(commentId)
+                        .isFavorite(favoriteCommentIds.contains(commentId))
+                        .build())
+                .toList();
+    }
+
+    private void changeFavoriteCount(Long topicId, long delta) {
+        topicRepository.updateFavoriteCount(topicId, delta);
+        eventPublisher.publishEvent(new TopicChangedEvent(topicId));
+    }
 }
@@ -2,7 +2,11 @@ package com.maruhxn.lossion.domain.favorite.dao;
 
 import com.maruhxn.lossion.domain.favorite.domain.CommentFavorite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentFavoriteRepository extends JpaRepository<CommentFavorite, Long> {
@@ -10,4 +14,11 @@ public interface CommentFavoriteRepository extends JpaRepository<CommentFavorite
     Optional<CommentFavorite> findByComment_IdAndMember_Id(Long topicId, Long memberId);
 
     boolean existsByComment_IdAndMember_Id(Long commentId, Long id);
+
+    @Query("select cf.comment.id from CommentFavorite cf where cf.member.id = :memberId and cf.comment.id in :commentIds")
+    List<Long> findFavoriteCommentIds(@Param("memberId") Long memberId, @Param("commentIds") List<Long> commentIds);
+
+    @Modifying
+    @Query("delete from CommentFavorite cf where cf.comment.id = :commentId and cf.member.id = :memberId")
+    int deleteByCommentIdAndMemberId(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
 }
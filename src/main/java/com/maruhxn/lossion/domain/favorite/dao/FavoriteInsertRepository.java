@@ -0,0 +1,84 @@
+package com.maruhxn.lossion.domain.favorite.dao;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요를 대상 엔티티 조회 없이 한 번의 쿼리로 저장한다.
+ * 대상(주제/댓글)이 존재하고 아직 좋아요가 없을 때만 저장하며, 동시 요청으로 이미 저장된 경우에는 유니크 제약 위반 대신 0을 반환한다.
+ * 운영(MySQL)은 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE, 테스트(H2)는 MERGE 를 사용한다.
+ * INSERT IGNORE 는 유니크 제약 위반 외의 오류(잘린 값, NOT NULL 위반 등)까지 경고로 바꾸므로 사용하지 않는다.
+ */
+@Repository
+public class FavoriteInsertRepository {
+
+    // 이미 좋아요가 있다면 updated_at 만 현재 시각으로 바꾸므로, 영향받은 행 수가 새로 저장했다면 1, 기존 행이면 2 이다.
+    private static final String MYSQL_INSERT_TOPIC_FAVORITE = """
+            insert into topic_favorite (topic_id, member_id, created_at, updated_at)
+            select s.target_id, s.member_id, s.now, s.now
+            from (select t.id as target_id, :memberId as member_id, :now as now from topic t where t.id = :targetId) s
+            on duplicate key update updated_at = s.now
+            """;
+
+    private static final String H2_INSERT_TOPIC_FAVORITE = """
+            merge into topic_favorite f
+            using (select t.id as target_id from topic t where t.id = :targetId) s
+            on f.topic_id = s.target_id and f.member_id = :memberId
+            when not matched then insert (topic_id, member_id, created_at, updated_at)
+                values (s.target_id, :memberId, :now, :now)
+            """;
+
+    private static final String MYSQL_INSERT_COMMENT_FAVORITE = """
+            insert into comment_favorite (comment_id, member_id, created_at, updated_at)
+            select s.target_id, s.member_id, s.now, s.now
+            from (select c.id as target_id, :memberId as member_id, :now as now from comment c where c.id = :targetId) s
+            on duplicate key update updated_at = s.now
+            """;
+
+    private static final String H2_INSERT_COMMENT_FAVORITE = """
+            merge into comment_favorite f
+            using (select c.id as target_id from comment c where c.id = :targetId) s
+            on f.comment_id = s.target_id and f.member_id = :memberId
+            when not matched then insert (comment_id, member_id, created_at, updated_at)
+                values (s.target_id, :memberId, :now, :now)
+            """;
+
+    private final EntityManager em;
+    private final boolean isH2;
+
+    public FavoriteInsertRepository(EntityManager em) {
+        this.em = em;
+        this.isH2 = em.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof H2Dialect;
+    }
+
+    /**
+     * @return 저장된 행 수. 주제가 없거나 이미 좋아요가 있다면 0
+     */
+    public int insertTopicFavoriteIfAbsent(Long topicId, Long memberId) {
+        return insert(isH2 ? H2_INSERT_TOPIC_FAVORITE : MYSQL_INSERT_TOPIC_FAVORITE, topicId, memberId);
+    }
+
+    /**
+     * @return 저장된 행 수. 댓글이 없거나 이미 좋아요가 있다면 0
+     */
+    public int insertCommentFavoriteIfAbsent(Long commentId, Long memberId) {
+        return insert(isH2 ? H2_INSERT_COMMENT_FAVORITE : MYSQL_INSERT_COMMENT_FAVORITE, commentId, memberId);
+    }
+
+    private int insert(String sql, Long targetId, Long memberId) {
+        int affected = em.createNativeQuery(sql)
+                .setParameter("targetId", targetId)
+                .setParameter("memberId", memberId)
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+        // MySQL 은 기존 행을 갱신하면 2 를 반환하므로, 새로 저장한 경우만 1 로 센다.
+        return affected == 1 ? 1 : 0;
+    }
+}
@@ -2,7 +2,11 @@ package com.maruhxn.lossion.domain.favorite.dao;
 
 import com.maruhxn.lossion.domain.favorite.domain.TopicFavorite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TopicFavoriteRepository extends JpaRepository<TopicFavorite, Long> {
@@ -10,4 +14,11 @@ public interface TopicFavoriteRepository extends JpaRepository<TopicFavorite, Lo
     Optional<TopicFavorite> findByTopic_IdAndMember_Id(Long topicId, Long memberId);
 
     boolean existsByTopic_IdAndMember_Id(Long topicId, Long memberId);
+
+    @Query("select tf.topic.id from TopicFavorite tf where tf.member.id = :memberId and tf.topic.id in :topicIds")
+    List<Long> findFavoriteTopicIds(@Param("memberId") Long memberId, @Param("topicIds") List<Long> topicIds);
+
+    @Modifying
+    @Query("delete from TopicFavorite tf where tf.topic.id = :topicId and tf.member.id = :memberId")
+    int deleteByTopicIdAndMemberId(@Param("topicId") Long topicId, @Param("memberId") Long memberId);
 }
@@ -3,14 +3,14 @@ package com.maruhxn.lossion.domain.favorite.domain;
 import com.maruhxn.lossion.domain.comment.domain.Comment;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.global.common.BaseEntity;
-import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.util.Assert;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_favorite_comment_member", columnNames = {"comment_id", "member_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
@@ -3,10 +3,7 @@ package com.maruhxn.lossion.domain.favorite.domain;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.topic.domain.Topic;
 import com.maruhxn.lossion.global.common.BaseEntity;
-import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.util.Assert;
 
@@ -14,6 +11,9 @@ import org.springframework.util.Assert;
  * 있거나, 없거나의 2가지 경우의 수이므로 기본 필드 외에 어떠한 다른 필드도 필요하지 않음.
  */
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_topic_favorite_topic_member", columnNames = {"topic_id", "member_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TopicFavorite extends BaseEntity {
@@ -1,16 +1,18 @@
 package com.maruhxn.lossion.domain.member.application;
 
-import com.maruhxn.lossion.domain.auth.dao.RefreshTokenRepository;
+import com.maruhxn.lossion.domain.auth.dao.RefreshTokenStore;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.member.dto.request.UpdateMemberProfileReq;
 import com.maruhxn.lossion.domain.member.dto.request.UpdatePasswordReq;
 import com.maruhxn.lossion.domain.member.dto.response.ProfileItem;
+import com.maruhxn.lossion.domain.member.event.MemberChangedEvent;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.global.error.exception.BadRequestException;
 import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import com.maruhxn.lossion.infra.file.FileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,7 +30,8 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final FileService fileService;
     private final PasswordEncoder passwordEncoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public ProfileItem getProfile(Long memberId) {
@@ -48,6 +51,7 @@ public class MemberService {
                 updateMemberProfileReq.getUsername(),
                 updateMemberProfileReq.getEmail(),
                 newProfileImageName);
+        eventPublisher.publishEvent(new MemberChangedEvent(findMember.getId()));
     }
 
     public void updatePassword(Long memberId, UpdatePasswordReq updatePasswordReq) {
@@ -71,6 +75,7 @@ public class MemberService {
         findMember.updatePassword(
                 passwordEncoder.encode(updatePasswordReq.getNewPassword())
         );
+        eventPublisher.publishEvent(new MemberChangedEvent(findMember.getId()));
     }
 
     private boolean checkPasswordMatching(UpdatePasswordReq updatePasswordReq, Member findMember) {
@@ -87,7 +92,8 @@ public class MemberService {
         Member findMember = findMemberOrElseThrowById(memberId);
         deleteProfileImageOfFindMember(findMember);
         memberRepository.delete(findMember);
-        refreshTokenRepository.deleteAllByAccountId(findMember.getAccountId());
+        refreshTokenStore.deleteAllByAccountId(findMember.getAccountId());
+        eventPublisher.publishEvent(new MemberChangedEvent(findMember.getId()));
     }
 
     private Member findMemberOrElseThrowById(Long memberId) {
@@ -0,0 +1,13 @@
+package com.maruhxn.lossion.domain.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증 정보(프로필, 비밀번호, 이메일 인증 여부, 권한 등)에 영향을 주는 회원 정보 변경이 발생했음을 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+    private final Long memberId;
+}
@@ -9,21 +9,29 @@ import com.maruhxn.lossion.domain.topic.dto.request.VoteRequest;
 import com.maruhxn.lossion.domain.topic.dto.response.MyTopicItem;
 import com.maruhxn.lossion.domain.topic.dto.response.TopicDetailItem;
 import com.maruhxn.lossion.domain.topic.dto.response.TopicItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicReactionItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicResultItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicSuggestItem;
 import com.maruhxn.lossion.global.auth.dto.CustomUserDetails;
 import com.maruhxn.lossion.global.common.dto.BaseResponse;
 import com.maruhxn.lossion.global.common.dto.DataResponse;
 import com.maruhxn.lossion.global.common.dto.PageItem;
+import com.maruhxn.lossion.global.common.dto.SliceItem;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @RequestMapping("/api/topics")
@@ -43,6 +51,34 @@ public class TopicController {
         return ResponseEntity.ok(DataResponse.of("주제 리스트 조회 성공", result));
     }
 
+    /**
+     * cursor 파라미터가 있으면 전체 개수 없이 키셋 방식으로 조회한다. 첫 페이지는 빈 cursor 로 요청한다.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<DataResponse<SliceItem<TopicItem>>> getTopicsByCursor(
+            @ModelAttribute @Valid TopicSearchCond cond,
+            @RequestParam String cursor,
+            Pageable pageable
+    ) {
+        SliceItem<TopicItem> result = topicService.getTopicsByCursor(cond, cursor, pageable.getPageSize());
+        return ResponseEntity.ok(DataResponse.of("주제 리스트 조회 성공", result));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<DataResponse<List<TopicSuggestItem>>> suggestTopics(@RequestParam String q) {
+        List<TopicSuggestItem> result = topicService.suggestTopics(q);
+        return ResponseEntity.ok(DataResponse.of("주제 자동완성 조회 성공", result));
+    }
+
+    /**
+     * 최근 활동이 많은 주제를 점수 순으로 조회한다. size 는 인기 주제 보관 개수를 넘길 수 없다.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<DataResponse<List<TopicItem>>> getTrendingTopics(@RequestParam(defaultValue = "10") int size) {
+        List<TopicItem> result = topicService.getTrendingTopics(size);
+        return ResponseEntity.ok(DataResponse.of("인기 주제 조회 성공", result));
+    }
+
     @PostMapping
     @PreAuthorize("@authChecker.isVerified()")
     public ResponseEntity<BaseResponse> createTopic(
@@ -53,9 +89,19 @@ public class TopicController {
         return new ResponseEntity<>(new BaseResponse("주제 생성 성공"), HttpStatus.CREATED);
     }
 
+    /**
+     * 로그인한 회원은 회원 id 로, 그 외에는 클라이언트 주소로 조회자를 구분한다.
+     */
     @GetMapping("/{topicId}")
-    public ResponseEntity<DataResponse<TopicDetailItem>> getTopicDetail(@PathVariable Long topicId) {
-        TopicDetailItem result = topicService.getTopicDetail(topicId);
+    public ResponseEntity<DataResponse<TopicDetailItem>> getTopicDetail(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long topicId,
+            HttpServletRequest request
+    ) {
+        String viewerKey = userDetails != null
+                ? "member:" + userDetails.getMember().getId()
+                : "addr:" + request.getRemoteAddr();
+        TopicDetailItem result = topicService.getTopicDetail(topicId, viewerKey);
         return ResponseEntity.ok(DataResponse.of("주제 조회 성공", result));
     }
 
@@ -108,6 +154,33 @@ public class TopicController {
     }
 
 
+    @GetMapping("/reactions")
+    @PreAuthorize("@authChecker.isVerified()")
+    public ResponseEntity<DataResponse<List<TopicReactionItem>>> getTopicReactions(
+            @RequestParam List<Long> topicIds,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        List<TopicReactionItem> result = topicService.getTopicReactions(topicIds, userDetails.getId());
+        return ResponseEntity.ok(DataResponse.of("투표 및 좋아요 정보 조회 성공", result));
+    }
+
+    /**
+     * 종료된 주제의 최종 결과(투표 수, 참여자 수, 승자, 인기 댓글)를 조회한다. 아직 종료되지 않았다면 404 에러를 반환한다.
+     */
+    @GetMapping("/{topicId}/result")
+    public ResponseEntity<DataResponse<TopicResultItem>> getTopicResult(@PathVariable Long topicId) {
+        TopicResultItem result = topicService.getTopicResult(topicId);
+        return ResponseEntity.ok(DataResponse.of("주제 결과 조회 성공", result));
+    }
+
+    /**
+     * 주제의 투표 집계 변화를 SSE 로 전달한다. 처음에는 현재 집계(snapshot)를, 이후에는 누적된 변화량(delta)을 보낸다.
+     */
+    @GetMapping(value = "/{topicId}/votes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamVotes(@PathVariable Long topicId) {
+        return topicService.subscribeVoteStream(topicId);
+    }
+
     @PatchMapping("/{topicId}/vote")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("@authChecker.isVerified()")
@@ -0,0 +1,57 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.dto.response.CategoryItem;
+import com.maruhxn.lossion.domain.topic.event.CategoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 카테고리 목록의 불변 스냅샷.
+ * 카테고리는 거의 바뀌지 않으므로 TTL 없이 보관하고, 카테고리가 생성/수정/삭제되어 커밋된 경우에만 목록 전체를 다시 읽어 교체한다.
+ * 조회는 교체된 스냅샷을 그대로 반환하며 DB 에 접근하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryListCache {
+
+    private static final String FIND_ALL_SQL = "SELECT id, name, created_at, updated_at FROM category ORDER BY id";
+    private static final RowMapper<CategoryItem> CATEGORY_MAPPER = (rs, rowNum) -> CategoryItem.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile List<CategoryItem> snapshot;
+
+    public List<CategoryItem> getAll() {
+        if (snapshot == null) rebuild();
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        snapshot = List.copyOf(jdbcTemplate.query(FIND_ALL_SQL, CATEGORY_MAPPER));
+
+        log.info("카테고리 목록 적재 완료 | categories={}", snapshot.size());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+    }
+}
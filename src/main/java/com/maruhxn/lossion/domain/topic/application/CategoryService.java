@@ -5,11 +5,14 @@ import com.maruhxn.lossion.domain.topic.domain.Category;
 import com.maruhxn.lossion.domain.topic.dto.request.CreateCategoryReq;
 import com.maruhxn.lossion.domain.topic.dto.request.UpdateCategoryReq;
 import com.maruhxn.lossion.domain.topic.dto.response.CategoryItem;
+import com.maruhxn.lossion.domain.topic.event.CategoryChangedEvent;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.global.error.exception.AlreadyExistsResourceException;
 import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,19 +23,23 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryListCache categoryListCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional(readOnly = true)
+    /**
+     * 카테고리 목록은 메모리 스냅샷에서 반환하므로 트랜잭션을 시작하지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CategoryItem> getAll() {
-        List<Category> categories = categoryRepository.findAll();
-        return categories.stream()
-                .map(CategoryItem::from)
-                .toList();
+        return categoryListCache.getAll();
     }
 
     public Category createCategory(CreateCategoryReq req) {
         uniqueCheck(req.getName());
         Category category = Category.from(req);
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent());
+        return savedCategory;
     }
 
     private void uniqueCheck(String name) {
@@ -47,6 +54,7 @@ public class CategoryService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_CATEGORY));
 
         findCategory.updateName(req.getName());
+        eventPublisher.publishEvent(new CategoryChangedEvent());
     }
 
     public void deleteCategory(Long categoryId) {
@@ -55,5 +63,6 @@ public class CategoryService {
             throw new EntityNotFoundException(ErrorCode.NOT_FOUND_CATEGORY);
         }
         categoryRepository.deleteById(categoryId);
+        eventPublisher.publishEvent(new CategoryChangedEvent());
     }
 }
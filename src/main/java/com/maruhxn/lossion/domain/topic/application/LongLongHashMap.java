@@ -0,0 +1,111 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+/**
+ * long 키, long 값을 박싱 없이 저장하는 선형 탐사 해시 맵. 0 은 빈 칸을 뜻하므로 키로 쓸 수 없다.
+ * 동기화하지 않으므로 사용하는 쪽에서 잠금을 잡아야 한다.
+ */
+class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongLongHashMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    long get(long key) {
+        int slot = indexOf(key);
+        return slot < 0 ? 0L : values[slot];
+    }
+
+    /**
+     * 값에 delta 를 더하고 더한 결과를 반환한다. 없던 키라면 delta 로 저장한다.
+     */
+    long add(long key, long delta) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return values[slot] += delta;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size * 2 > keys.length) resize();
+        return delta;
+    }
+
+    void put(long key, long value) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) resize();
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) consumer.accept(keys[slot], values[slot]);
+        }
+    }
+
+    private int indexOf(long key) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // 연속된 id 가 인접한 칸에 몰리지 않도록 섞는다.
+    private int slotOf(long key) {
+        return Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] == EMPTY) continue;
+            int newSlot = slotOf(oldKeys[slot]);
+            while (keys[newSlot] != EMPTY) {
+                newSlot = (newSlot + 1) & mask;
+            }
+            keys[newSlot] = oldKeys[slot];
+            values[newSlot] = oldValues[slot];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+}
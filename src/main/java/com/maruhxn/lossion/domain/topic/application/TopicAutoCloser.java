@@ -0,0 +1,182 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicClosedAtChangedEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicClosedEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 종료 시각이 된 주제를 자동으로 종료한다.
+ * 앞으로 horizon 안에 종료될 주제만 종료 시각 순으로 정렬된 메모리 큐에 올려 두고, 매 tick 마다 시각이 지난 주제를 꺼내 배치 UPDATE 로 종료한다.
+ * <p>
+ * 큐는 (is_closed, closed_at) 인덱스를 이용해 이미 읽은 시각 이후의 구간만 주기적으로 이어 읽으므로, 전체 테이블을 반복해서 훑지 않는다.
+ * 이미 읽은 구간 안으로 종료 시각이 정해진 주제는 TopicClosedAtChangedEvent 를 받아 바로 큐에 넣는다.
+ * 실제로 종료된 주제에 대해서는 TopicClosedEvent 와 TopicChangedEvent 를 발행한다.
+ */
+@Slf4j
+@Component
+public class TopicAutoCloser {
+
+    private static final String FIND_UNCLOSED_SQL = "SELECT id, closed_at FROM topic" +
+            " WHERE is_closed = false AND closed_at <= ?";
+    private static final String FIND_UPCOMING_SQL = "SELECT id, closed_at FROM topic" +
+            " WHERE is_closed = false AND closed_at > ? AND closed_at <= ?";
+    private static final String CLOSE_SQL = "UPDATE topic SET is_closed = true" +
+            " WHERE id = ? AND is_closed = false AND closed_at <= ?";
+    private static final RowMapper<Deadline> DEADLINE_MAPPER = (rs, rowNum) ->
+            new Deadline(rs.getObject("closed_at", LocalDateTime.class), rs.getLong("id"));
+
+    private final NavigableSet<Deadline> deadlines = new TreeSet<>();
+    private final Map<Long, Deadline> scheduled = new HashMap<>();
+    private LocalDateTime loadedUntil;
+
+    private final Duration horizon;
+    private final int batchSize;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TopicAutoCloser(
+            @Value("${topic.auto-close.horizon:10m}") Duration horizon,
+            @Value("${topic.auto-close.batch-size:500}") int batchSize,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.horizon = horizon;
+        this.batchSize = batchSize;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${topic.auto-close.load-interval:60000}")
+    public void loadUpcoming() {
+        loadUpcoming(LocalDateTime.now());
+    }
+
+    /**
+     * 처음에는 지나간 것을 포함해 horizon 안에 종료될 주제를 모두 읽고, 이후에는 마지막으로 읽은 시각 이후의 구간만 이어 읽는다.
+     */
+    public synchronized void loadUpcoming(LocalDateTime now) {
+        LocalDateTime until = now.plus(horizon);
+        if (loadedUntil != null && !until.isAfter(loadedUntil)) return;
+
+        List<Deadline> upcoming = loadedUntil == null
+                ? jdbcTemplate.query(FIND_UNCLOSED_SQL, DEADLINE_MAPPER, until)
+                : jdbcTemplate.query(FIND_UPCOMING_SQL, DEADLINE_MAPPER, loadedUntil, until);
+        upcoming.forEach(deadline -> schedule(deadline.topicId(), deadline.closedAt()));
+        loadedUntil = until;
+
+        log.debug("종료 예정 주제 적재 완료 | loaded={}, scheduled={}, until={}", upcoming.size(), scheduled.size(), until);
+    }
+
+    @Scheduled(fixedDelayString = "${topic.auto-close.tick:1000}")
+    public void closeDue() {
+        closeDue(LocalDateTime.now());
+    }
+
+    /**
+     * 종료 시각이 지난 주제를 batchSize 단위로 종료한다. 그사이 직접 종료되었거나 종료 시각이 바뀐 주제는 UPDATE 조건에서 걸러진다.
+     * 배치 UPDATE 가 실패하면 꺼낸 주제를 큐에 되돌려 두고 이번 tick 을 끝내므로, 다음 tick 에 다시 종료를 시도한다.
+     */
+    public void closeDue(LocalDateTime now) {
+        List<Deadline> due;
+        while (!(due = pollDue(now)).isEmpty()) {
+            List<Object[]> args = due.stream()
+                    .map(deadline -> new Object[]{deadline.topicId(), now})
+                    .toList();
+            int[] updated;
+            try {
+                updated = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(CLOSE_SQL, args));
+            } catch (RuntimeException e) {
+                requeue(due);
+                log.error("주제 자동 종료 실패 | due={}", due.size(), e);
+                return;
+            }
+
+            int closed = 0;
+            for (int i = 0; i < due.size(); i++) {
+                if (updated[i] == 0) continue;
+                closed++;
+                eventPublisher.publishEvent(new TopicClosedEvent(due.get(i).topicId()));
+                eventPublisher.publishEvent(new TopicChangedEvent(due.get(i).topicId()));
+            }
+            log.debug("주제 자동 종료 완료 | due={}, closed={}", due.size(), closed);
+        }
+    }
+
+    // 이미 읽은 구간 밖의 종료 시각은 이후의 적재에서 읽히므로 큐에서 빼 둔다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClosedAtChanged(TopicClosedAtChangedEvent event) {
+        if (event.getClosedAt().isAfter(LocalDateTime.now().plus(horizon))) {
+            cancel(event.getTopicId());
+            return;
+        }
+        schedule(event.getTopicId(), event.getClosedAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicClosed(TopicClosedEvent event) {
+        cancel(event.getTopicId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicContentChanged(TopicContentChangedEvent event) {
+        if (event.isDeleted()) cancel(event.getTopicId());
+    }
+
+    private synchronized void schedule(Long topicId, LocalDateTime closedAt) {
+        Deadline deadline = new Deadline(closedAt, topicId);
+        Deadline previous = scheduled.put(topicId, deadline);
+        if (previous != null) deadlines.remove(previous);
+        deadlines.add(deadline);
+    }
+
+    private synchronized void cancel(Long topicId) {
+        Deadline previous = scheduled.remove(topicId);
+        if (previous != null) deadlines.remove(previous);
+    }
+
+    private synchronized List<Deadline> pollDue(LocalDateTime now) {
+        List<Deadline> due = new ArrayList<>();
+        while (due.size() < batchSize && !deadlines.isEmpty() && !deadlines.first().closedAt().isAfter(now)) {
+            Deadline deadline = deadlines.pollFirst();
+            scheduled.remove(deadline.topicId());
+            due.add(deadline);
+        }
+        return due;
+    }
+
+    // 꺼낸 뒤 이벤트로 다시 예약된 주제는 새 종료 시각을 따른다.
+    private synchronized void requeue(List<Deadline> due) {
+        for (Deadline deadline : due) {
+            if (scheduled.putIfAbsent(deadline.topicId(), deadline) == null) deadlines.add(deadline);
+        }
+    }
+
+    private record Deadline(LocalDateTime closedAt, Long topicId) implements Comparable<Deadline> {
+        @Override
+        public int compareTo(Deadline other) {
+            int compared = closedAt.compareTo(other.closedAt);
+            return compared != 0 ? compared : topicId.compareTo(other.topicId);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.comment.dao.CommentRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Topic 의 집계 컬럼(투표/댓글/좋아요 수)과 Comment 의 집계 컬럼(답글/좋아요 수)이 실제 데이터와 어긋난 경우 이를 바로잡는다.
+ * 투표 수는 메모리 집계(VoteTallyEngine)도 vote 테이블 기준으로 다시 집계한다.
+ * 메모리 집계는 집계 컬럼에 변화량만 더하므로, 보정 직전에 쌓인 변화량을 먼저 저장해 두 값이 겹치는 구간을 줄인다.
+ * 한 번에 전체 테이블을 잠그지 않도록 id 구간 단위로 나누어 각각 별도의 트랜잭션에서 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopicCountReconciler {
+
+    private static final long CHUNK_SIZE = 500;
+
+    private final TopicRepository topicRepository;
+    private final CommentRepository commentRepository;
+    private final VoteTallyEngine voteTallyEngine;
+
+    @Scheduled(cron = "${topic.count-reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        voteTallyEngine.rebuild();
+
+        long beforeTime = System.currentTimeMillis();
+        long maxId = topicRepository.findMaxId().orElse(0L);
+        int updated = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            // 이미 vote 테이블에 반영된 투표의 변화량이 보정 뒤에 한 번 더 더해지지 않도록, 구간마다 직전에 변화량을 먼저 저장한다.
+            voteTallyEngine.checkpoint();
+            updated += topicRepository.reconcileCounts(fromId, fromId + CHUNK_SIZE - 1, VoteType.FIRST, VoteType.SECOND);
+        }
+
+        log.info("주제 집계 컬럼 보정 완료 | updated={}, 실행 시간(ms)={}", updated, System.currentTimeMillis() - beforeTime);
+
+        reconcileComments();
+    }
+
+    private void reconcileComments() {
+        long beforeTime = System.currentTimeMillis();
+        long maxId = commentRepository.findMaxId().orElse(0L);
+        int updated = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            updated += commentRepository.reconcileCounts(fromId, fromId + CHUNK_SIZE - 1);
+        }
+
+        log.info("댓글 집계 컬럼 보정 완료 | updated={}, 실행 시간(ms)={}", updated, System.currentTimeMillis() - beforeTime);
+    }
+}
@@ -0,0 +1,62 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maruhxn.lossion.domain.member.event.MemberChangedEvent;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicDetailItem;
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 주제 상세 응답 캐시.
+ * 크기와 TTL 로 제한되며, 서비스가 발행하는 TopicChangedEvent 를 커밋 이후에 받아 해당 주제를 무효화한다.
+ * 응답에 작성자 정보(이름, 프로필 이미지)가 담기므로, MemberChangedEvent 를 받으면 그 회원이 작성한 주제도 무효화한다.
+ * 적중/실패 횟수는 cache.gets 등 Micrometer 지표(cache=topicDetail)로 노출된다.
+ */
+@Component
+public class TopicDetailCache {
+
+    public static final String CACHE_NAME = "topicDetail";
+
+    private final Cache<Long, TopicDetailItem> cache;
+
+    public TopicDetailCache(
+            @Value("${topic.detail-cache.max-size:10000}") long maxSize,
+            @Value("${topic.detail-cache.ttl:30s}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public TopicDetailItem get(Long topicId, Supplier<TopicDetailItem> loader) {
+        return cache.get(topicId, id -> loader.get());
+    }
+
+    public void evict(Long topicId) {
+        cache.invalidate(topicId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicChanged(TopicChangedEvent event) {
+        evict(event.getTopicId());
+    }
+
+    // 회원 정보 변경은 드물므로 캐시를 한 번 훑어 작성자가 같은 항목을 지운다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        cache.asMap().values().removeIf(item ->
+                item.getAuthor() != null && event.getMemberId().equals(item.getAuthor().getAuthorId()));
+    }
+}
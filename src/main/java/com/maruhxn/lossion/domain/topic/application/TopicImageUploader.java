@@ -0,0 +1,102 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.domain.TopicImage;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.InternalServerException;
+import com.maruhxn.lossion.infra.file.FileService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 요청의 주제 이미지들을 제한된 크기의 스레드 풀에서 병렬로 업로드한다.
+ * 하나라도 실패하면 이미 올라간 이미지를 지우고 예외를 그대로 던지므로, 호출하는 쪽은 전부 올라갔거나 하나도 남지 않은 상태만 보게 된다.
+ * 풀과 대기열이 모두 찼다면 요청 스레드가 직접 업로드하여 자연스럽게 속도를 늦춘다.
+ */
+@Slf4j
+@Component
+public class TopicImageUploader {
+
+    private final FileService fileService;
+    private final ExecutorService executor;
+
+    public TopicImageUploader(
+            @Value("${topic.image-upload.threads:4}") int threads,
+            @Value("${topic.image-upload.queue-capacity:100}") int queueCapacity,
+            FileService fileService
+    ) {
+        this.fileService = fileService;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "topic-image-upload-" + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * 이미지를 병렬로 업로드하고, 전달받은 순서대로 TopicImage 를 반환한다.
+     */
+    public List<TopicImage> upload(List<MultipartFile> images) {
+        if (images == null || images.isEmpty()) return new ArrayList<>();
+
+        List<CompletableFuture<TopicImage>> futures = images.stream()
+                .map(image -> CompletableFuture.supplyAsync(() -> TopicImage.builder()
+                        .originalName(image.getOriginalFilename())
+                        .storedName(fileService.storeOneFile(image))
+                        .build(), executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            deleteQuietly(futures.stream()
+                    .filter(future -> !future.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .toList());
+            throw unwrap(e);
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    /**
+     * 저장에 실패한 요청의 이미지를 지운다. 보상 작업이므로 삭제 실패는 기록만 하고 원래 예외를 가리지 않는다.
+     */
+    public void deleteQuietly(List<TopicImage> topicImages) {
+        for (TopicImage topicImage : topicImages) {
+            try {
+                fileService.deleteFile(topicImage.getStoredName());
+            } catch (RuntimeException e) {
+                log.warn("업로드된 이미지 삭제 실패 | storedName={}", topicImage.getStoredName(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        return new InternalServerException(ErrorCode.S3_UPLOAD_ERROR, cause);
+    }
+}
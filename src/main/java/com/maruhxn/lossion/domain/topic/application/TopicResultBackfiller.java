@@ -0,0 +1,44 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 종료되었지만 결과 스냅샷이 없는 주제의 결과를 저장한다.
+ * 결과 스냅샷 도입 전에 종료된 주제와, 종료 이벤트 처리 중 저장에 실패한 주제가 대상이다.
+ * 주제마다 별도의 트랜잭션으로 저장하므로, 한 주제의 실패가 나머지를 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopicResultBackfiller {
+
+    private final TopicRepository topicRepository;
+    private final TopicResultService topicResultService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${topic.result.backfill-interval:600000}")
+    public void backfill() {
+        long beforeTime = System.currentTimeMillis();
+        List<Long> topicIds = topicRepository.findClosedIdsWithoutResult();
+        if (topicIds.isEmpty()) return;
+
+        int failed = 0;
+        for (Long topicId : topicIds) {
+            try {
+                topicResultService.finalizeResult(topicId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("주제 결과 스냅샷 보충 실패 | topicId={}", topicId, e);
+            }
+        }
+        log.info("주제 결과 스냅샷 보충 완료 | topics={}, failed={}, 실행 시간(ms)={}", topicIds.size(), failed, System.currentTimeMillis() - beforeTime);
+    }
+}
@@ -0,0 +1,46 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicResultItem;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * 종료된 주제의 결과 캐시.
+ * 결과 스냅샷은 저장 이후 바뀌지 않으므로 TTL 없이 크기로만 제한하고, 주제가 삭제된 경우에만 무효화한다.
+ * 아직 스냅샷이 없는 주제(loader 가 null 을 반환)는 캐시하지 않는다.
+ */
+@Component
+public class TopicResultCache {
+
+    public static final String CACHE_NAME = "topicResult";
+
+    private final Cache<Long, TopicResultItem> cache;
+
+    public TopicResultCache(
+            @Value("${topic.result-cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public TopicResultItem get(Long topicId, Supplier<TopicResultItem> loader) {
+        return cache.get(topicId, id -> loader.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicContentChanged(TopicContentChangedEvent event) {
+        if (event.isDeleted()) cache.invalidate(event.getTopicId());
+    }
+}
@@ -0,0 +1,97 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.comment.dao.CommentRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicResultRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteRepository.VoteTypeCount;
+import com.maruhxn.lossion.domain.topic.domain.TopicResult;
+import com.maruhxn.lossion.domain.topic.domain.TopicResultComment;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicResultItem;
+import com.maruhxn.lossion.domain.topic.event.TopicClosedEvent;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종료된 주제의 결과 스냅샷을 만들고 조회한다.
+ * 주제가 종료되면(TopicClosedEvent) vote 테이블을 한 번 집계하여 최종 투표 수, 참여자 수, 승자와 인기 댓글을 저장하고,
+ * 이후 종료된 주제의 결과는 스냅샷으로만 응답한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TopicResultService {
+
+    private final TopicRepository topicRepository;
+    private final TopicResultRepository topicResultRepository;
+    private final VoteRepository voteRepository;
+    private final CommentRepository commentRepository;
+    private final TopicResultCache topicResultCache;
+    private final VoteIngestionQueue voteIngestionQueue;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicClosed(TopicClosedEvent event) {
+        finalizeResult(event.getTopicId());
+    }
+
+    /**
+     * 결과 스냅샷을 저장한다. 이미 저장되었거나 주제가 삭제되었다면 아무 것도 하지 않는다.
+     * 투표 큐를 사용하는 경우 집계하기 전에 큐에 남은 이 주제의 투표를 먼저 반영한다.
+     * 큐는 자신의 트랜잭션에서 커밋하므로, 스냅샷 저장이 롤백되어도 반영된 투표는 남는다.
+     */
+    @Transactional
+    public void finalizeResult(Long topicId) {
+        if (voteIngestionQueue.isEnabled()) voteIngestionQueue.flush(topicId);
+        if (topicResultRepository.existsByTopicId(topicId) || !topicRepository.existsById(topicId)) return;
+
+        long firstChoiceCount = 0;
+        long secondChoiceCount = 0;
+        for (VoteTypeCount voteTypeCount : voteRepository.countByVoteType(topicId)) {
+            if (voteTypeCount.getVoteType() == VoteType.FIRST) {
+                firstChoiceCount = voteTypeCount.getCount();
+            } else {
+                secondChoiceCount = voteTypeCount.getCount();
+            }
+        }
+
+        List<TopicResultComment> topComments = commentRepository.findTop3ByTopicIdOrderByFavoriteCountDescIdAsc(topicId).stream()
+                .map(comment -> TopicResultComment.builder()
+                        .commentId(comment.getId())
+                        .text(comment.getText())
+                        .authorName(comment.getAuthor() == null ? null : comment.getAuthor().getUsername())
+                        .favoriteCount(comment.getFavoriteCount())
+                        .build())
+                .toList();
+
+        topicResultRepository.save(TopicResult.builder()
+                .topicId(topicId)
+                .firstChoiceCount(firstChoiceCount)
+                .secondChoiceCount(secondChoiceCount)
+                .topComments(topComments)
+                .build());
+        log.info("주제 결과 스냅샷 저장 완료 | topicId={}, first={}, second={}", topicId, firstChoiceCount, secondChoiceCount);
+    }
+
+    public TopicResultItem getTopicResult(Long topicId) {
+        return findTopicResult(topicId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC_RESULT));
+    }
+
+    public Optional<TopicResultItem> findTopicResult(Long topicId) {
+        return Optional.ofNullable(topicResultCache.get(topicId, () -> topicResultRepository.findByTopicId(topicId)
+                .map(TopicResultItem::from)
+                .orElse(null)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maruhxn.lossion.domain.topic.dao.TopicSearchIndex;
+import com.maruhxn.lossion.domain.topic.dto.request.TopicSearchCond;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import com.maruhxn.lossion.global.common.dto.PageItem;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 주제 리스트(검색) 결과 캐시.
+ * 검색 색인과 같은 규칙으로 정규화한 검색 조건과 페이지를 키로 사용하므로, 대소문자 등만 다른 같은 검색어는 하나의 항목을 공유한다.
+ * 크기와 짧은 TTL 로 제한되며, 주제가 생성/수정/삭제되면 커밋 이후 전체를 무효화하여 새 주제가 TTL 동안 가려지지 않도록 한다.
+ * 적중/실패 횟수는 Micrometer 지표(cache=topicSearch)로 노출된다.
+ */
+@Component
+public class TopicSearchCache {
+
+    public static final String CACHE_NAME = "topicSearch";
+
+    private final Cache<SearchKey, PageItem> cache;
+
+    public TopicSearchCache(
+            @Value("${topic.search-cache.max-size:1000}") long maxSize,
+            @Value("${topic.search-cache.ttl:10s}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public PageItem get(TopicSearchCond cond, Pageable pageable, Supplier<PageItem> loader) {
+        SearchKey key = new SearchKey(
+                TopicSearchIndex.normalize(cond.getTitle()),
+                TopicSearchIndex.normalize(cond.getDescription()),
+                hasText(cond.getAuthor()) ? cond.getAuthor() : "",
+                cond.getCategoryId(),
+                pageable.getPageNumber(),
+                pageable.getPageSize()
+        );
+        return cache.get(key, k -> loader.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicContentChanged(TopicContentChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private record SearchKey(String title, String description, String author, Long categoryId, int page, int size) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.maruhxn.lossion.domain.topic.application;
 
-import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.favorite.dao.TopicFavoriteRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.application.VoteTallyEngine.TallySnapshot;
 import com.maruhxn.lossion.domain.topic.dao.*;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository.VotingPeriod;
+import com.maruhxn.lossion.domain.topic.dao.VoteUpsertRepository.VoteToggle;
 import com.maruhxn.lossion.domain.topic.domain.*;
 import com.maruhxn.lossion.domain.topic.dto.request.CreateTopicReq;
 import com.maruhxn.lossion.domain.topic.dto.request.TopicSearchCond;
@@ -11,52 +14,120 @@ import com.maruhxn.lossion.domain.topic.dto.request.VoteRequest;
 import com.maruhxn.lossion.domain.topic.dto.response.MyTopicItem;
 import com.maruhxn.lossion.domain.topic.dto.response.TopicDetailItem;
 import com.maruhxn.lossion.domain.topic.dto.response.TopicItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicReactionItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicResultItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicSuggestItem;
+import com.maruhxn.lossion.domain.topic.dto.response.VoteCountInfo;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent.ActivityType;
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicClosedAtChangedEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicClosedEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import com.maruhxn.lossion.domain.topic.event.VoteCountChangedEvent;
+import com.maruhxn.lossion.global.common.dto.Cursor;
 import com.maruhxn.lossion.global.common.dto.PageItem;
+import com.maruhxn.lossion.global.common.dto.SliceItem;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.global.error.exception.BadRequestException;
 import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import com.maruhxn.lossion.infra.file.FileService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Supplier;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TopicService {
 
-    private final MemberRepository memberRepository;
+    private static final int MAX_REACTION_IDS = 100;
+
     private final TopicRepository topicRepository;
     private final CategoryRepository categoryRepository;
     private final TopicImageRepository topicImageRepository;
     private final TopicQueryRepository topicQueryRepository;
     private final VoteRepository voteRepository;
+    private final VoteUpsertRepository voteUpsertRepository;
+    private final TopicFavoriteRepository topicFavoriteRepository;
 
     private final FileService fileService;
+    private final TopicViewCountBuffer topicViewCountBuffer;
+    private final TopicViewDeduplicator topicViewDeduplicator;
+    private final TopicResultRepository topicResultRepository;
+    private final TopicDetailCache topicDetailCache;
+    private final TopicSearchCache topicSearchCache;
+    private final TopicSearchIndex topicSearchIndex;
+    private final VoteIngestionQueue voteIngestionQueue;
+    private final VoteStreamHub voteStreamHub;
+    private final VoteTallyEngine voteTallyEngine;
+    private final TopicResultService topicResultService;
+    private final TopicTrendingRanker topicTrendingRanker;
+    private final TopicImageUploader topicImageUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PageItem getTopics(@Valid TopicSearchCond cond, Pageable pageable) {
-        Page<TopicItem> result = topicQueryRepository.findAllByConditions(cond, pageable);
-        return PageItem.from(result);
+        return topicSearchCache.get(cond, pageable, () -> {
+            Page<TopicItem> result = topicQueryRepository.findAllByConditions(cond, pageable)
+                    .map(this::applyVoteTally);
+            return PageItem.from(result);
+        });
     }
 
-    @Transactional
+    /**
+     * 제목 자동완성. DB 를 거치지 않고 검색 색인의 접두사 트라이에서만 조회한다.
+     */
+    public List<TopicSuggestItem> suggestTopics(String prefix) {
+        return topicSearchIndex.suggest(prefix, TopicSearchIndex.MAX_SUGGESTIONS);
+    }
+
+    /**
+     * 인기 주제. 순위는 메모리의 시간 감쇠 점수에서 가져오고, 해당 주제들만 id 로 조회한다.
+     */
+    public List<TopicItem> getTrendingTopics(int size) {
+        List<Long> topicIds = topicTrendingRanker.getTrendingIds(Math.max(0, Math.min(size, topicTrendingRanker.getMaxSize())));
+        return topicQueryRepository.findAllByIds(topicIds).stream()
+                .map(this::applyVoteTally)
+                .toList();
+    }
+
+    public SliceItem<TopicItem> getTopicsByCursor(@Valid TopicSearchCond cond, String cursor, int size) {
+        List<TopicItem> topicItems = topicQueryRepository.findAllByCursor(cond, Cursor.decode(cursor), size).stream()
+                .map(this::applyVoteTally)
+                .toList();
+        return SliceItem.of(topicItems, size, item -> Cursor.of(item.getCreatedAt(), item.getTopicId()));
+    }
+
+    /**
+     * 이미지는 트랜잭션 밖에서 병렬로 먼저 업로드하고, 주제 저장만 트랜잭션으로 묶는다.
+     * 저장에 실패하면 업로드한 이미지를 지운다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Topic createTopic(Member author, CreateTopicReq req, LocalDateTime now) {
-        Category findCategory = findCategoryByIdOrThrow(req.getCategoryId());
+        List<TopicImage> topicImages = topicImageUploader.upload(req.getImages());
 
-        List<TopicImage> topicImages = storeTopicImageList(req.getImages());
+        return executeOrDeleteImages(topicImages, () -> {
+            Category findCategory = findCategoryByIdOrThrow(req.getCategoryId());
 
-        Topic topic = Topic.of(author, findCategory, topicImages, req, now);
+            Topic topic = Topic.of(author, findCategory, topicImages, req, now);
 
-        return topicRepository.save(topic);
+            Topic savedTopic = topicRepository.save(topic);
+            eventPublisher.publishEvent(TopicContentChangedEvent.saved(savedTopic.getId(), savedTopic.getTitle(), savedTopic.getDescription(), savedTopic.getCreatedAt()));
+            eventPublisher.publishEvent(new TopicClosedAtChangedEvent(savedTopic.getId(), savedTopic.getClosedAt()));
+            return savedTopic;
+        });
     }
 
     private Category findCategoryByIdOrThrow(Long categoryId) {
@@ -64,27 +135,44 @@ public class TopicService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_CATEGORY));
     }
 
-    private List<TopicImage> storeTopicImageList(List<MultipartFile> images) {
-        if (images != null && !images.isEmpty()) {
-            return images.stream()
-                    .map(image -> {
-                        String storedFileName = fileService.storeOneFile(image);
-                        return TopicImage.builder()
-                                .originalName(image.getOriginalFilename())
-                                .storedName(storedFileName)
-                                .build();
-                    })
-                    .toList();
+    // 호출한 쪽에 트랜잭션이 없다면 새 트랜잭션을 열고, 있다면 참여한다.
+    private <T> T executeOrDeleteImages(List<TopicImage> topicImages, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (RuntimeException e) {
+            topicImageUploader.deleteQuietly(topicImages);
+            throw e;
         }
-        return new ArrayList<>();
     }
 
-    @Transactional
-    public TopicDetailItem getTopicDetail(Long topicId) {
-        Topic findTopic = topicQueryRepository.findTopicDetail(topicId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC));
-        findTopic.addViewCount();
-        return TopicDetailItem.from(findTopic);
+    /**
+     * 조회 수는 매번 누적하고, 인기 주제 점수에 반영되는 조회 활동은 조회자별로 window 마다 한 번만 발행한다.
+     * 응답의 조회 수에는 아직 반영되지 않은 조회 수를 더한다.
+     */
+    public TopicDetailItem getTopicDetail(Long topicId, String viewerKey) {
+        TopicDetailItem topicDetailItem = topicDetailCache.get(topicId, () -> {
+            TopicDetailItem item = topicQueryRepository.findTopicDetail(topicId)
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC));
+            // 종료된 주제는 결과 스냅샷의 최종 집계를 사용한다.
+            Optional<VoteCountInfo> finalVoteCountInfo = item.getIsClosed()
+                    ? topicResultService.findTopicResult(topicId).map(TopicResultItem::toVoteCountInfo)
+                    : Optional.empty();
+            return finalVoteCountInfo.or(() -> voteTallyEngine.find(topicId))
+                    .map(item::withVoteCountInfo)
+                    .orElse(item);
+        });
+        topicViewCountBuffer.increment(topicId);
+        if (topicViewDeduplicator.isFirstView(topicId, viewerKey)) {
+            eventPublisher.publishEvent(new TopicActivityEvent(topicId, ActivityType.VIEW));
+        }
+        return topicDetailItem.withViewCount(topicDetailItem.getViewCount() + topicViewCountBuffer.getPendingCount(topicId));
+    }
+
+    // 투표 집계는 스냅샷 주기만큼 늦게 저장되므로, 메모리 집계가 있다면 그 값으로 새 항목을 만든다.
+    private TopicItem applyVoteTally(TopicItem item) {
+        return voteTallyEngine.find(item.getTopicId())
+                .map(voteCountInfo -> item.withVoteCount(voteCountInfo.getVoteCount()))
+                .orElse(item);
     }
 
     private Topic findTopicByIdOrThrow(Long postId) {
@@ -92,26 +180,37 @@ public class TopicService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC));
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updateTopic(Long topicId, UpdateTopicReq req) {
-        Topic findTopic = findTopicByIdOrThrow(topicId);
+        List<TopicImage> topicImages = topicImageUploader.upload(req.getImages());
 
-        if (req.getCategoryId() != null) {
-            Category findCategory = findCategoryByIdOrThrow(req.getCategoryId());
-            findTopic.changeCategory(findCategory);
-        }
+        executeOrDeleteImages(topicImages, () -> {
+            Topic findTopic = findTopicByIdOrThrow(topicId);
 
-        List<TopicImage> topicImages = storeTopicImageList(req.getImages());
+            if (req.getCategoryId() != null) {
+                Category findCategory = findCategoryByIdOrThrow(req.getCategoryId());
+                findTopic.changeCategory(findCategory);
+            }
 
-        findTopic.updateTopic(req, topicImages);
+            findTopic.updateTopic(req, topicImages);
+            eventPublisher.publishEvent(new TopicChangedEvent(topicId));
+            eventPublisher.publishEvent(TopicContentChangedEvent.saved(topicId, findTopic.getTitle(), findTopic.getDescription(), findTopic.getCreatedAt()));
+            if (req.getClosedAt() != null) {
+                eventPublisher.publishEvent(new TopicClosedAtChangedEvent(topicId, findTopic.getClosedAt()));
+            }
+            return findTopic;
+        });
     }
 
     @Transactional
     public void deleteTopic(Long topicId) {
         Topic findTopic = findTopicByIdOrThrow(topicId);
+        topicResultRepository.deleteByTopicId(topicId);
         topicRepository.delete(findTopic);
         findTopic.getImages()
                 .forEach(topicImage -> fileService.deleteFile(topicImage.getStoredName()));
+        eventPublisher.publishEvent(new TopicChangedEvent(topicId));
+        eventPublisher.publishEvent(TopicContentChangedEvent.deleted(topicId));
     }
 
     @Transactional
@@ -122,50 +221,131 @@ public class TopicService {
         topicImageRepository.delete(findTopicImage);
 
         fileService.deleteFile(findTopicImage.getStoredName());
+        eventPublisher.publishEvent(new TopicChangedEvent(findTopicImage.getTopic().getId()));
     }
 
     @Transactional
     public void updateCloseStatus(Long topicId) {
         Topic findTopic = findTopicByIdOrThrow(topicId);
         findTopic.updateCloseStatus();
+        eventPublisher.publishEvent(new TopicChangedEvent(topicId));
+        eventPublisher.publishEvent(new TopicClosedEvent(topicId));
     }
 
+    /**
+     * 투표는 (topic_id, voter_id) 유니크 제약 위에서 행을 잠근 채 upsert 로 반영하고, 집계 변화량은 그 결과에서 계산한다.
+     * 회원은 인증 정보의 id 를 그대로 사용하며, 별도로 조회하지 않는다.
+     * 투표 큐를 사용하는 경우 요청을 큐에 담고, 반영될 투표 결과를 바로 반환한다.
+     */
     @Transactional
-    public Vote vote(Long topicId, Long memberId, VoteRequest req) {
-
-        Topic findTopic = findTopicByIdOrThrow(topicId);
-        validateVoteTime(findTopic.getClosedAt(), req.getVoteAt());
+    public VoteType vote(Long topicId, Long memberId, VoteRequest req) {
+        VotingPeriod votingPeriod = topicRepository.findVotingPeriodById(topicId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC));
+        validateVoteTime(votingPeriod, req.getVoteAt());
 
-        Member findMember = memberRepository.findById(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+        VoteType afterVoteType;
+        if (voteIngestionQueue.isEnabled()) {
+            afterVoteType = voteIngestionQueue.submit(topicId, memberId, req.getVoteType());
+        } else {
+            VoteToggle voteToggle = voteUpsertRepository.upsert(topicId, memberId, req.getVoteType());
 
-        Optional<Vote> optionalVote = voteRepository.findByTopicIdAndVoter_Id(topicId, findMember.getId());
-        boolean isNewVote = optionalVote.isEmpty();
+            afterVoteType = voteToggle.after();
+            updateVoteCount(topicId, voteToggle.before(), afterVoteType);
+        }
 
-        if (isNewVote) {
-            Vote vote = Vote.of(findMember, findTopic, req);
-            return voteRepository.save(vote);
-        } else {
-            Vote findVote = optionalVote.get();
-            findVote.updateVoteType(req);
-            return findVote;
+        if (afterVoteType != null) {
+            eventPublisher.publishEvent(new TopicActivityEvent(topicId, ActivityType.VOTE));
         }
+        return afterVoteType;
     }
 
-    private static void validateVoteTime(LocalDateTime closedAt, LocalDateTime voteAt) {
-        if (voteAt.isAfter(closedAt)) {
+    /**
+     * 투표 전후의 선택지를 비교하여 변화량을 알린다. 메모리 집계는 커밋 후에 이 변화량을 반영하고, topic 의 집계 컬럼에는 주기적인 스냅샷으로 저장된다.
+     */
+    private void updateVoteCount(Long topicId, VoteType before, VoteType after) {
+        long voteDelta = countOf(after != null) - countOf(before != null);
+        long firstDelta = countOf(after == VoteType.FIRST) - countOf(before == VoteType.FIRST);
+        long secondDelta = countOf(after == VoteType.SECOND) - countOf(before == VoteType.SECOND);
+
+        eventPublisher.publishEvent(new TopicChangedEvent(topicId));
+        eventPublisher.publishEvent(new VoteCountChangedEvent(topicId, voteDelta, firstDelta, secondDelta));
+    }
+
+    private static long countOf(boolean condition) {
+        return condition ? 1L : 0L;
+    }
+
+    // 종료 시각 전이라도 직접 종료된 주제에는 투표할 수 없다.
+    private static void validateVoteTime(VotingPeriod votingPeriod, LocalDateTime voteAt) {
+        if (votingPeriod.getIsClosed() || voteAt.isAfter(votingPeriod.getClosedAt())) {
             throw new BadRequestException(ErrorCode.ALREADY_CLOSED);
         }
     }
 
+    public TopicResultItem getTopicResult(Long topicId) {
+        return topicResultService.getTopicResult(topicId);
+    }
+
+    /**
+     * 메모리 집계에 아직 적재되지 않은 주제는 topic 의 집계 컬럼을 snapshot 으로 쓰고, 순번은 읽은 시점의 메모리 집계 순번을 따른다.
+     */
+    public SseEmitter subscribeVoteStream(Long topicId) {
+        return voteStreamHub.subscribe(topicId, () -> {
+            TallySnapshot snapshot = voteTallyEngine.snapshot(topicId);
+            if (snapshot.voteCountInfo() != null) return snapshot;
+
+            VoteCountInfo voteCountInfo = topicRepository.findVoteCountInfoById(topicId)
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC));
+            return new TallySnapshot(snapshot.sequence(), voteCountInfo);
+        });
+    }
+
     public PageItem getMyTopics(Long memberId, Pageable pageable) {
-        Page<MyTopicItem> result = topicQueryRepository.findMyTopics(memberId, pageable);
+        Page<MyTopicItem> result = topicQueryRepository.findMyTopics(memberId, pageable)
+                .map(item -> voteTallyEngine.find(item.getTopicId())
+                        .map(voteCountInfo -> item.withVoteCount(voteCountInfo.getVoteCount()))
+                        .orElse(item));
         return PageItem.from(result);
     }
 
     public VoteType checkVote(Long topicId, Long memberId) {
+        // 아직 반영되지 않은 투표가 있다면 그 결과를 우선한다.
+        Optional<VoteIngestionQueue.PendingVote> pendingVote = voteIngestionQueue.findPendingVote(topicId, memberId);
+        if (pendingVote.isPresent()) {
+            return pendingVote.get().voteType();
+        }
+
         Vote findVote = voteRepository.findByTopicIdAndVoter_Id(topicId, memberId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_VOTE));
         return findVote.getVoteType();
     }
+
+    /**
+     * 주제 목록에 대한 본인의 투표 결과와 좋아요 여부를 각각 IN 쿼리 한 번으로 조회한다.
+     * 투표하지 않았거나 좋아요를 누르지 않은 주제도 예외 없이 결과에 포함된다.
+     */
+    public List<TopicReactionItem> getTopicReactions(List<Long> topicIds, Long memberId) {
+        List<Long> distinctTopicIds = topicIds.stream().distinct().toList();
+        if (distinctTopicIds.size() > MAX_REACTION_IDS) {
+            throw new BadRequestException(ErrorCode.TOO_MANY_IDS);
+        }
+        if (distinctTopicIds.isEmpty()) return List.of();
+
+        Map<Long, VoteType> voteTypes = new HashMap<>();
+        voteRepository.findVoteTypes(memberId, distinctTopicIds)
+                .forEach(vote -> voteTypes.put(vote.getTopicId(), vote.getVoteType()));
+        Set<Long> favoriteTopicIds = new HashSet<>(topicFavoriteRepository.findFavoriteTopicIds(memberId, distinctTopicIds));
+
+        return distinctTopicIds.stream()
+                .map(topicId -> {
+                    // 아직 반영되지 않은 투표가 있다면 그 결과를 우선한다.
+                    Optional<VoteIngestionQueue.PendingVote> pendingVote = voteIngestionQueue.findPendingVote(topicId, memberId);
+                    return TopicReactionItem.builder()
+                            .topicId(topicId)
+                            .voteType(pendingVote.isPresent() ? pendingVote.get().voteType() : voteTypes.get(topicId))
+                            .isFavorite(favoriteTopicIds.contains(topicId))
+                            .build();
+                })
+                .toList();
+    }
 }
@@ -0,0 +1,178 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent.ActivityType;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 최근 활동(투표, 댓글, 좋아요, 조회)에 시간 감쇠를 적용한 점수로 인기 주제 순위를 메모리에서 유지한다.
+ * 활동 하나의 점수는 가중치 * 2^(-경과 시간 / halfLife) 이다.
+ * <p>
+ * 모든 주제의 점수를 매번 감쇠시키지 않도록, 기준 시각(epoch) 이후 경과한 만큼 가중치를 키워서 더한다(forward decay).
+ * 이렇게 더한 점수끼리는 시간이 지나도 순서가 바뀌지 않으므로, 점수가 바뀐 주제만 상위 K 개 집합과 비교하면 순위가 유지된다.
+ * 더한 값이 너무 커지기 전에 기준 시각을 옮겨 전체 점수를 다시 줄이고, 그때 무시할 만큼 작아진 주제는 버린다.
+ * <p>
+ * 순위 조회는 메모리의 상위 K 개만 읽으며 집계 쿼리를 실행하지 않는다.
+ * 애플리케이션 시작 시에는 warmupWindow 안에 저장된 투표, 댓글, 좋아요를 한 번 읽어 점수를 채운다. 조회는 저장되지 않으므로 채우지 않는다.
+ */
+@Slf4j
+@Component
+public class TopicTrendingRanker {
+
+    private static final String[] WARMUP_SQLS = {
+            "SELECT topic_id, created_at FROM vote WHERE created_at >= ? AND vote_type IS NOT NULL",
+            "SELECT topic_id, created_at FROM comment WHERE created_at >= ?",
+            "SELECT topic_id, created_at FROM topic_favorite WHERE created_at >= ?"
+    };
+    private static final ActivityType[] WARMUP_TYPES = {ActivityType.VOTE, ActivityType.COMMENT, ActivityType.FAVORITE};
+
+    // e^64 배까지 커지면 기준 시각을 옮긴다.
+    private static final double RESCALE_EXPONENT = 64.0;
+    // 현재 기준으로 조회 한 번의 가중치보다 훨씬 작아진 점수는 버린다.
+    private static final double MIN_SCORE = 0.001;
+
+    private final LongDoubleHashMap scores = new LongDoubleHashMap(1024);
+    private final NavigableSet<Ranked> top = new TreeSet<>();
+    private final Map<Long, Ranked> ranked = new HashMap<>();
+    private LocalDateTime epoch;
+
+    private final double decayPerMilli;
+    private final int maxSize;
+    private final Duration warmupWindow;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TopicTrendingRanker(
+            @Value("${topic.trending.half-life:6h}") Duration halfLife,
+            @Value("${topic.trending.max-size:100}") int maxSize,
+            @Value("${topic.trending.warmup-window:48h}") Duration warmupWindow,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.maxSize = maxSize;
+        this.warmupWindow = warmupWindow;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmUp(LocalDateTime.now());
+    }
+
+    public void warmUp(LocalDateTime now) {
+        long beforeTime = System.currentTimeMillis();
+        LocalDateTime since = now.minus(warmupWindow);
+        for (int i = 0; i < WARMUP_SQLS.length; i++) {
+            ActivityType activityType = WARMUP_TYPES[i];
+            jdbcTemplate.query(WARMUP_SQLS[i], rs -> {
+                record(rs.getLong("topic_id"), activityType, rs.getObject("created_at", LocalDateTime.class));
+            }, since);
+        }
+
+        log.info("인기 주제 점수 적재 완료 | topics={}, 실행 시간(ms)={}", size(), System.currentTimeMillis() - beforeTime);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicActivity(TopicActivityEvent event) {
+        record(event.getTopicId(), event.getActivityType(), LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicContentChanged(TopicContentChangedEvent event) {
+        if (event.isDeleted()) remove(event.getTopicId());
+    }
+
+    public synchronized void record(Long topicId, ActivityType activityType, LocalDateTime occurredAt) {
+        if (epoch == null) epoch = occurredAt;
+        double exponent = decayPerMilli * Duration.between(epoch, occurredAt).toMillis();
+        if (exponent > RESCALE_EXPONENT) {
+            rescale(occurredAt);
+            exponent = 0.0;
+        }
+
+        double score = scores.add(topicId, activityType.getWeight() * Math.exp(exponent));
+        offer(topicId, score);
+    }
+
+    public synchronized void remove(Long topicId) {
+        scores.remove(topicId);
+        Ranked previous = ranked.remove(topicId);
+        if (previous == null) return;
+        top.remove(previous);
+        // 상위 K 개에서 빠진 자리는 나머지 주제 중에서 다시 채운다.
+        if (scores.size() > top.size()) rebuildTop();
+    }
+
+    /**
+     * 점수가 높은 순으로 최대 limit 개의 주제 id 를 반환한다. 점수가 같다면 최신 주제가 먼저다.
+     */
+    public synchronized List<Long> getTrendingIds(int limit) {
+        List<Long> topicIds = new ArrayList<>(Math.min(limit, top.size()));
+        for (Ranked entry : top) {
+            if (topicIds.size() >= limit) break;
+            topicIds.add(entry.topicId());
+        }
+        return topicIds;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    synchronized int size() {
+        return scores.size();
+    }
+
+    private void offer(long topicId, double score) {
+        Ranked candidate = new Ranked(score, topicId);
+        Ranked previous = ranked.remove(topicId);
+        if (previous != null) {
+            top.remove(previous);
+        } else if (top.size() >= maxSize) {
+            Ranked lowest = top.last();
+            if (candidate.compareTo(lowest) >= 0) return;
+            top.pollLast();
+            ranked.remove(lowest.topicId());
+        }
+        top.add(candidate);
+        ranked.put(topicId, candidate);
+    }
+
+    private void rescale(LocalDateTime newEpoch) {
+        scores.scaleAll(Math.exp(-decayPerMilli * Duration.between(epoch, newEpoch).toMillis()));
+        epoch = newEpoch;
+
+        List<Long> expiredIds = new ArrayList<>();
+        scores.forEach((topicId, score) -> {
+            if (score < MIN_SCORE) expiredIds.add(topicId);
+        });
+        expiredIds.forEach(scores::remove);
+        rebuildTop();
+
+        log.debug("인기 주제 점수 기준 시각 이동 | topics={}, expired={}", scores.size(), expiredIds.size());
+    }
+
+    private void rebuildTop() {
+        top.clear();
+        ranked.clear();
+        scores.forEach(this::offer);
+    }
+
+    private record Ranked(double score, long topicId) implements Comparable<Ranked> {
+        @Override
+        public int compareTo(Ranked other) {
+            int compared = Double.compare(other.score, score);
+            return compared != 0 ? compared : Long.compare(other.topicId, topicId);
+        }
+    }
+}
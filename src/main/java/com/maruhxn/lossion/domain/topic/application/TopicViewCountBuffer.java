@@ -0,0 +1,129 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주제 조회 수를 메모리에 모아 두었다가 주기적으로 한 번에 반영한다.
+ * 조회마다 topic 행을 UPDATE 하면 인기 주제에 대한 요청이 하나의 행 잠금에 줄을 서게 되므로,
+ * 주제별 LongAdder 로 증가분만 누적하고 flush 시점에 배치 UPDATE 로 더한다.
+ * 반영한 주제는 TopicChangedEvent 로 알려 상세 캐시를 비우므로, 캐시된 조회 수에 아직 반영되지 않은 조회 수를 더하면 현재 조회 수가 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopicViewCountBuffer {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE topic SET view_count = view_count + ? WHERE id = ?";
+
+    private final Map<Long, LongAdder> buffer = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void increment(Long topicId) {
+        add(topicId, 1L);
+    }
+
+    /**
+     * 아직 반영되지 않은 조회 수
+     */
+    public long getPendingCount(Long topicId) {
+        LongAdder adder = buffer.get(topicId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 증가분을 배치 UPDATE 로 더한다. 반영에 실패하거나 트랜잭션이 커밋되지 않으면 꺼낸 증가분을 버퍼에 되돌려 다음 flush 에서 다시 반영한다.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${topic.view-count.flush-interval:5000}")
+    public void flush() {
+        List<Map.Entry<Long, Long>> deltas = drain();
+        if (deltas.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Map.Entry<Long, Long> delta = deltas.get(i);
+                    ps.setLong(1, delta.getValue());
+                    ps.setLong(2, delta.getKey());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return deltas.size();
+                }
+            });
+        } catch (RuntimeException e) {
+            restore(deltas);
+            throw e;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) restore(deltas);
+                }
+            });
+        }
+        deltas.forEach(delta -> eventPublisher.publishEvent(new TopicChangedEvent(delta.getKey())));
+
+        log.debug("조회 수 반영 완료 | topics={}", deltas.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void restore(List<Map.Entry<Long, Long>> deltas) {
+        deltas.forEach(delta -> add(delta.getKey(), delta.getValue()));
+    }
+
+    /**
+     * 비어 있는 LongAdder 를 버퍼에서 제거하는 drain 과 엇갈려 제거된 LongAdder 에 더했다면, 새 LongAdder 에 다시 더한다.
+     * 제거는 합이 0 일 때만 일어나므로, 더한 뒤에도 같은 LongAdder 가 남아 있다면 그 증가분은 다음 drain 에서 읽힌다.
+     */
+    private void add(Long topicId, long delta) {
+        while (true) {
+            LongAdder adder = buffer.computeIfAbsent(topicId, id -> new LongAdder());
+            adder.add(delta);
+            if (buffer.get(topicId) == adder) return;
+        }
+    }
+
+    private List<Map.Entry<Long, Long>> drain() {
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>();
+        buffer.forEach((topicId, adder) -> {
+            // sumThenReset 은 동시에 더해진 값을 잃을 수 있으므로, 읽은 만큼만 뺀다.
+            long delta = adder.sum();
+            if (delta > 0) {
+                adder.add(-delta);
+                deltas.add(Map.entry(topicId, delta));
+            } else {
+                // 한 주기 동안 조회가 없던 주제는 버퍼에서 제거한다. 그사이 더해졌다면 남겨 둔다.
+                buffer.computeIfPresent(topicId, (id, current) -> current == adder && current.sum() == 0 ? null : current);
+            }
+        });
+        return deltas;
+    }
+}
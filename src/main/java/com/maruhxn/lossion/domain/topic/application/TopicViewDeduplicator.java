@@ -0,0 +1,39 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 같은 조회자가 같은 주제를 window 안에 다시 조회했는지 판별한다.
+ * 새로고침을 반복하는 것만으로 인기 주제 점수가 오르지 않도록, 조회 활동은 window 마다 조회자별로 한 번만 반영한다.
+ * 조회자 키는 로그인한 회원이면 회원 id, 아니면 클라이언트 주소이며, 기억하는 (주제, 조회자) 쌍의 수는 maxSize 로 제한된다.
+ */
+@Component
+public class TopicViewDeduplicator {
+
+    private final Cache<ViewKey, Boolean> recentViews;
+
+    public TopicViewDeduplicator(
+            @Value("${topic.view-dedupe.window:10m}") Duration window,
+            @Value("${topic.view-dedupe.max-size:100000}") long maxSize
+    ) {
+        this.recentViews = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * window 안에서 처음 조회한 경우에만 true 를 반환한다.
+     */
+    public boolean isFirstView(Long topicId, String viewerKey) {
+        return recentViews.asMap().putIfAbsent(new ViewKey(topicId, viewerKey), Boolean.TRUE) == null;
+    }
+
+    private record ViewKey(Long topicId, String viewerKey) {
+    }
+}
@@ -0,0 +1,367 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.dao.VoteRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteUpsertRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteUpsertRepository.VoteState;
+import com.maruhxn.lossion.domain.topic.domain.Vote;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
+import com.maruhxn.lossion.domain.topic.event.VoteCountChangedEvent;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 투표 요청을 주제 id 로 샤딩된 메모리 큐에 담아 두고, 샤드별 워커가 마이크로 배치로 반영한다.
+ * 마감 직전처럼 투표가 몰리는 구간에서 요청마다 트랜잭션을 여는 대신, 배치 단위로 투표를 저장하고 주제별 집계 변화량을 한 번에 반영한다.
+ * <p>
+ * 같은 주제의 투표는 항상 같은 샤드에서 순서대로 처리된다. 요청 시점에 토글 결과를 미리 계산하여 대기 목록에 기록하므로,
+ * 반영 전이라도 본인의 투표 정보를 조회할 수 있다.
+ * <p>
+ * 저장은 호출한 쪽의 트랜잭션과 관계없이 항상 새 트랜잭션에서 커밋하므로, flush 를 호출한 트랜잭션이 롤백되어도 반영된 투표는 사라지지 않는다.
+ * 한 건씩 저장해도 실패한 투표는 버리지 않고 샤드의 재시도 목록에 담아, 새로 들어온 투표보다 먼저 다시 반영한다.
+ * MAX_REQUEUES 번 다시 반영해도 실패하면 버리며, 재시도와 버림 횟수는 vote.ingestion.failures 지표(outcome=requeued/dropped)로 노출된다.
+ * topic.vote-queue.enabled=true 일 때만 사용한다.
+ */
+@Slf4j
+@Component
+public class VoteIngestionQueue {
+
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+    private static final int VERSION_STRIPES = 1024;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final int MAX_REQUEUES = 3;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final List<Shard> shards;
+    private final Map<VoteKey, VoteCommand> pendingVotes = new ConcurrentHashMap<>();
+    // 대기 목록에서 반영되어 빠진 횟수. 키를 나눈 구간별로 센다.
+    private final AtomicLongArray appliedVersions = new AtomicLongArray(VERSION_STRIPES);
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final VoteRepository voteRepository;
+    private final VoteUpsertRepository voteUpsertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter requeuedCounter;
+    private final Counter droppedCounter;
+
+    public VoteIngestionQueue(
+            @Value("${topic.vote-queue.enabled:false}") boolean enabled,
+            @Value("${topic.vote-queue.shards:4}") int shardCount,
+            @Value("${topic.vote-queue.capacity-per-shard:10000}") int capacityPerShard,
+            @Value("${topic.vote-queue.batch-size:500}") int batchSize,
+            VoteRepository voteRepository,
+            VoteUpsertRepository voteUpsertRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(new ArrayBlockingQueue<>(capacityPerShard)));
+        }
+        this.voteRepository = voteRepository;
+        this.voteUpsertRepository = voteUpsertRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.requeuedCounter = Counter.builder("vote.ingestion.failures")
+                .tag("outcome", "requeued")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("vote.ingestion.failures")
+                .tag("outcome", "dropped")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+
+        running = true;
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get(i);
+            Thread worker = new Thread(() -> runWorker(shard), "vote-ingestion-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 투표 요청을 큐에 담고, 반영될 투표 결과를 반환한다. 샤드가 가득 찼다면 429 에러를 발생시킨다.
+     */
+    public VoteType submit(Long topicId, Long memberId, VoteType requested) {
+        VoteKey key = new VoteKey(topicId, memberId);
+        int stripe = stripeOf(key);
+        VoteCommand[] previous = new VoteCommand[1];
+        VoteCommand command;
+
+        while (true) {
+            // 저장된 투표는 맵의 잠금 밖에서 읽고, 읽는 사이 같은 키의 대기 목록이나 반영 상태가 바뀌었다면 다시 읽는다.
+            VoteCommand observed = pendingVotes.get(key);
+            long observedVersion = appliedVersions.get(stripe);
+            VoteType stored = observed == null ? voteRepository.findVoteType(topicId, memberId).orElse(null) : null;
+
+            boolean[] conflicted = new boolean[1];
+            command = pendingVotes.compute(key, (k, prev) -> {
+                if (prev != observed || appliedVersions.get(stripe) != observedVersion) {
+                    conflicted[0] = true;
+                    return prev;
+                }
+                previous[0] = prev;
+                VoteType before = prev != null ? prev.after() : stored;
+                return new VoteCommand(key, before, Vote.toggle(before, requested));
+            });
+            if (!conflicted[0]) break;
+        }
+
+        VoteCommand submitted = command;
+        if (!shardOf(topicId).queue.offer(submitted)) {
+            pendingVotes.computeIfPresent(key, (k, current) -> current == submitted ? previous[0] : current);
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_VOTE_REQUESTS);
+        }
+        return submitted.after();
+    }
+
+    /**
+     * 아직 반영되지 않은 본인의 투표 정보
+     */
+    public Optional<PendingVote> findPendingVote(Long topicId, Long memberId) {
+        VoteCommand command = pendingVotes.get(new VoteKey(topicId, memberId));
+        return command == null ? Optional.empty() : Optional.of(new PendingVote(command.after()));
+    }
+
+    /**
+     * 큐에 남은 투표를 호출한 스레드에서 모두 반영한다.
+     */
+    public void flush() {
+        shards.forEach(this::flush);
+    }
+
+    /**
+     * 주제가 속한 샤드에 남은 투표를 호출한 스레드에서 모두 반영한다. 워커가 이미 꺼낸 배치가 있다면 그 반영이 끝날 때까지 기다리므로,
+     * 반환된 뒤에는 호출 전에 접수된 이 주제의 투표가 모두 저장되어 있다.
+     */
+    public void flush(Long topicId) {
+        flush(shardOf(topicId));
+    }
+
+    private void flush(Shard shard) {
+        List<VoteCommand> batch = new ArrayList<>(batchSize);
+        synchronized (shard) {
+            while (shard.drainTo(batch, batchSize)) {
+                apply(shard, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        flush();
+    }
+
+    /**
+     * 샤드를 꺼내고 반영하는 동안에는 샤드의 모니터를 잡아, flush 가 반영 중인 배치를 놓치지 않도록 한다.
+     * 샤드가 비어 있다면 모니터를 놓고 잠시 기다린다. 요청 스레드가 알리지 않으므로 한가할 때 접수된 투표는 최대 POLL_INTERVAL_MILLIS 뒤에 반영된다.
+     */
+    private void runWorker(Shard shard) {
+        List<VoteCommand> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                synchronized (shard) {
+                    if (!shard.drainTo(batch, batchSize)) {
+                        shard.wait(POLL_INTERVAL_MILLIS);
+                        continue;
+                    }
+                    apply(shard, batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 저장은 끝났고 이후의 이벤트 처리에서 실패한 경우이므로, 워커가 멈추지 않도록 기록만 남긴다.
+                log.error("투표 배치 반영 후 처리 실패 | size={}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치를 저장하고, 저장된 투표의 집계 변화량을 알린다.
+     * 배치 저장이 계속 실패하면 한 건씩 저장하고, 그래도 저장하지 못한 회원의 투표는 재시도 목록에 되돌린다.
+     */
+    private void apply(Shard shard, List<VoteCommand> batch) {
+        // 같은 회원의 연속된 투표는 첫 요청의 이전 상태와 마지막 요청의 결과로 합친다.
+        Map<VoteKey, VoteCommand> merged = new LinkedHashMap<>();
+        Map<VoteKey, VoteCommand> latest = new HashMap<>();
+        for (VoteCommand command : batch) {
+            merged.merge(command.key(), command, (first, next) -> new VoteCommand(first.key(), first.before(), next.after()));
+            latest.put(command.key(), command);
+        }
+
+        List<VoteCommand> saved = saveWithRetry(new ArrayList<>(merged.values()));
+
+        Map<Long, long[]> deltas = new LinkedHashMap<>();
+        for (VoteCommand command : saved) {
+            merged.remove(command.key());
+            shard.failures.remove(command.key());
+            long[] delta = deltas.computeIfAbsent(command.key().topicId(), id -> new long[3]);
+            delta[0] += countOf(command.after() != null) - countOf(command.before() != null);
+            delta[1] += countOf(command.after() == VoteType.FIRST) - countOf(command.before() == VoteType.FIRST);
+            delta[2] += countOf(command.after() == VoteType.SECOND) - countOf(command.before() == VoteType.SECOND);
+        }
+
+        // 남은 항목은 저장하지 못한 회원의 투표다. 재시도할 투표는 요청 순서 그대로 재시도 목록에 담는다.
+        Set<VoteKey> requeued = new HashSet<>();
+        for (VoteKey key : merged.keySet()) {
+            int failures = shard.failures.merge(key, 1, Integer::sum);
+            if (failures <= MAX_REQUEUES) {
+                requeued.add(key);
+                continue;
+            }
+            shard.failures.remove(key);
+            droppedCounter.increment();
+            VoteCommand command = latest.get(key);
+            log.error("투표 저장 실패, 투표를 버립니다 | topicId={}, memberId={}, voteType={}",
+                    key.topicId(), key.memberId(), command.after());
+        }
+        batch.stream()
+                .filter(command -> requeued.contains(command.key()))
+                .forEach(shard.retries::add);
+        requeuedCounter.increment(requeued.size());
+
+        // 버린 투표도 대기 목록에서 지워, 본인 조회가 실제로 저장된 상태를 보도록 한다.
+        latest.values().stream()
+                .filter(command -> !requeued.contains(command.key()))
+                .forEach(command -> {
+                    appliedVersions.incrementAndGet(stripeOf(command.key()));
+                    pendingVotes.remove(command.key(), command);
+                });
+        // 호출한 쪽에 트랜잭션이 있더라도 그 커밋을 기다리지 않도록, 집계 변화량도 새 트랜잭션에서 알린다.
+        if (!deltas.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach((topicId, delta) -> {
+                eventPublisher.publishEvent(new TopicChangedEvent(topicId));
+                eventPublisher.publishEvent(new VoteCountChangedEvent(topicId, delta[0], delta[1], delta[2]));
+            }));
+        }
+        log.debug("투표 배치 반영 완료 | votes={}, saved={}, requeued={}, topics={}", latest.size(), saved.size(), requeued.size(), deltas.size());
+    }
+
+    private List<VoteCommand> saveWithRetry(List<VoteCommand> commands) {
+        for (int attempt = 1; attempt <= MAX_BATCH_ATTEMPTS; attempt++) {
+            try {
+                save(commands);
+                return commands;
+            } catch (RuntimeException e) {
+                log.warn("투표 배치 저장 실패 | size={}, attempt={}", commands.size(), attempt, e);
+                if (attempt < MAX_BATCH_ATTEMPTS && !sleepBeforeRetry(attempt)) break;
+            }
+        }
+
+        List<VoteCommand> saved = new ArrayList<>(commands.size());
+        for (VoteCommand command : commands) {
+            try {
+                save(List.of(command));
+                saved.add(command);
+            } catch (RuntimeException e) {
+                log.warn("투표 저장 실패 | topicId={}, memberId={}, voteType={}",
+                        command.key().topicId(), command.key().memberId(), command.after(), e);
+            }
+        }
+        return saved;
+    }
+
+    // 종료 중에 인터럽트되면 기다리지 않고 한 건씩 저장으로 넘어간다.
+    private static boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void save(List<VoteCommand> commands) {
+        List<VoteState> votes = commands.stream()
+                .map(command -> new VoteState(command.key().topicId(), command.key().memberId(), command.after()))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> voteUpsertRepository.batchSave(votes));
+    }
+
+    private Shard shardOf(Long topicId) {
+        return shards.get((int) Math.floorMod(topicId, (long) shards.size()));
+    }
+
+    private static int stripeOf(VoteKey key) {
+        return (key.hashCode() & 0x7FFFFFFF) % VERSION_STRIPES;
+    }
+
+    private static long countOf(boolean condition) {
+        return condition ? 1L : 0L;
+    }
+
+    public record PendingVote(VoteType voteType) {
+    }
+
+    private record VoteKey(Long topicId, Long memberId) {
+    }
+
+    private record VoteCommand(VoteKey key, VoteType before, VoteType after) {
+    }
+
+    /**
+     * 샤드의 큐와 재시도 상태. 재시도 목록과 실패 횟수는 샤드의 모니터를 잡은 채로만 읽고 쓴다.
+     */
+    private static final class Shard {
+        private final BlockingQueue<VoteCommand> queue;
+        private final List<VoteCommand> retries = new ArrayList<>();
+        private final Map<VoteKey, Integer> failures = new HashMap<>();
+
+        private Shard(BlockingQueue<VoteCommand> queue) {
+            this.queue = queue;
+        }
+
+        // 재시도 목록을 먼저 담아, 같은 회원의 투표가 요청 순서대로 반영되도록 한다.
+        private boolean drainTo(List<VoteCommand> batch, int maxElements) {
+            batch.addAll(retries);
+            retries.clear();
+            queue.drainTo(batch, maxElements);
+            return !batch.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.application.VoteTallyEngine.TallySnapshot;
+import com.maruhxn.lossion.domain.topic.dto.response.VoteCountInfo;
+import com.maruhxn.lossion.domain.topic.event.VoteTallyChangedEvent;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 주제별 투표 집계 변화를 SSE 구독자에게 전달하는 발행/구독 허브.
+ * 투표마다 바로 전송하지 않고 주제별로 변화량을 누적해 두었다가 flush 주기마다 한 번씩 전송하므로,
+ * 주제당 전송 횟수는 초당 (1000 / flush-interval) 회로 제한된다.
+ * 구독자가 없는 주제의 변화량은 누적하지 않는다.
+ * <p>
+ * 변화량은 메모리 집계에 반영된 순번과 함께 전달된다. 구독자는 snapshot 의 순번을 기억해 두고 그보다 큰 순번의 변화량만 받으므로,
+ * snapshot 에 이미 포함된 투표가 delta 로 한 번 더 더해지지 않는다.
+ * <p>
+ * 인증 없이 구독할 수 있으므로 주제별 구독자 수와 전체 구독자 수를 제한하며, 넘치면 429 에러를 발생시킨다.
+ */
+@Slf4j
+@Component
+public class VoteStreamHub {
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String DELTA_EVENT = "delta";
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final long emitterTimeoutMillis;
+    private final int maxSubscribersPerTopic;
+    private final int maxSubscribers;
+
+    public VoteStreamHub(
+            @Value("${topic.vote-stream.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${topic.vote-stream.max-subscribers-per-topic:1000}") int maxSubscribersPerTopic,
+            @Value("${topic.vote-stream.max-subscribers:10000}") int maxSubscribers
+    ) {
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.maxSubscribersPerTopic = maxSubscribersPerTopic;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * 주제 채널의 잠금을 잡은 채로 현재 집계를 읽어 snapshot 이벤트로 전송하고 구독을 등록한다.
+     * 잠금을 잡은 동안에는 변화량이 쌓이거나 꺼내지지 않으므로, snapshot 이후의 변화량만 snapshot 뒤에 delta 로 받는다.
+     * 집계를 읽지 못하면 구독하지 않고 예외를 그대로 던진다.
+     */
+    public SseEmitter subscribe(Long topicId, Supplier<TallySnapshot> snapshotLoader) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_VOTE_STREAM_SUBSCRIBERS);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        boolean registered;
+        try {
+            registered = register(topicId, emitter, snapshotLoader);
+        } catch (RuntimeException e) {
+            subscriberCount.decrementAndGet();
+            throw e;
+        }
+        if (!registered) {
+            subscriberCount.decrementAndGet();
+            return emitter;
+        }
+
+        emitter.onCompletion(() -> unsubscribe(topicId, emitter));
+        emitter.onTimeout(() -> unsubscribe(topicId, emitter));
+        emitter.onError(e -> unsubscribe(topicId, emitter));
+        return emitter;
+    }
+
+    public int getSubscriberCount(Long topicId) {
+        Channel channel = channels.get(topicId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    // 메모리 집계에 반영된 직후 같은 스레드에서 호출된다.
+    @EventListener
+    public void onVoteTallyChanged(VoteTallyChangedEvent event) {
+        Channel channel = channels.get(event.getTopicId());
+        if (channel == null) return;
+
+        synchronized (channel) {
+            channel.pending.add(event);
+        }
+    }
+
+    /**
+     * 주제별로 누적된 변화량을 구독자마다 delta 이벤트 하나로 묶어 전송한다.
+     * 전송은 채널의 잠금을 놓은 뒤에 하므로, 느린 구독자가 변화량 누적을 막지 않는다.
+     */
+    @Scheduled(fixedRateString = "${topic.vote-stream.flush-interval:200}")
+    public void flush() {
+        channels.forEach((topicId, channel) -> {
+            List<VoteTallyChangedEvent> changes;
+            List<Subscriber> subscribers;
+            synchronized (channel) {
+                if (channel.pending.isEmpty()) return;
+                changes = channel.pending;
+                channel.pending = new ArrayList<>();
+                subscribers = List.copyOf(channel.subscribers);
+            }
+
+            // 대부분의 구독자는 꺼낸 변화량보다 먼저 구독했으므로, 전체 합을 한 번만 계산해 함께 쓴다.
+            long firstSequence = changes.stream().mapToLong(VoteTallyChangedEvent::getSequence).min().getAsLong();
+            VoteCountInfo total = sumAfter(changes, Long.MIN_VALUE);
+            for (Subscriber subscriber : subscribers) {
+                VoteCountInfo delta = subscriber.sequence() < firstSequence ? total : sumAfter(changes, subscriber.sequence());
+                if (delta != null) send(topicId, subscriber, SseEmitter.event().name(DELTA_EVENT).data(delta));
+            }
+        });
+    }
+
+    /**
+     * 변화가 없는 구독에도 주기적으로 주석을 보내, 끊어진 연결을 찾아 정리한다.
+     */
+    @Scheduled(fixedRateString = "${topic.vote-stream.heartbeat-interval:30000}")
+    public void heartbeat() {
+        channels.forEach((topicId, channel) -> channel.subscribers.forEach(subscriber ->
+                send(topicId, subscriber, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    // SseEventBuilder 는 한 번만 build 할 수 있으므로, 호출하는 쪽에서 구독자마다 새로 만들어 넘긴다.
+    private void send(Long topicId, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("투표 스트림 전송 실패로 구독 해제 | topicId={}", topicId);
+            unsubscribe(topicId, subscriber.emitter());
+        }
+    }
+
+    // 아직 응답에 연결되지 않은 emitter 는 전송할 이벤트를 담아 두기만 하므로, 잠금을 잡은 채로 snapshot 을 보내도 기다리지 않는다.
+    // snapshot 을 보내지 못하면 emitter 를 실패로 끝내고 등록하지 않는다.
+    private boolean register(Long topicId, SseEmitter emitter, Supplier<TallySnapshot> snapshotLoader) {
+        while (true) {
+            Channel channel = channels.computeIfAbsent(topicId, id -> new Channel());
+            synchronized (channel) {
+                // 마지막 구독자가 빠지며 제거된 채널이라면 새 채널로 다시 시도한다.
+                if (channels.get(topicId) != channel) continue;
+                if (channel.subscribers.size() >= maxSubscribersPerTopic) {
+                    throw new TooManyRequestsException(ErrorCode.TOO_MANY_VOTE_STREAM_SUBSCRIBERS);
+                }
+
+                TallySnapshot snapshot;
+                try {
+                    snapshot = snapshotLoader.get();
+                } catch (RuntimeException e) {
+                    if (channel.subscribers.isEmpty()) channels.remove(topicId, channel);
+                    throw e;
+                }
+                try {
+                    emitter.send(SseEmitter.event().name(SNAPSHOT_EVENT).data(snapshot.voteCountInfo()));
+                } catch (IOException e) {
+                    if (channel.subscribers.isEmpty()) channels.remove(topicId, channel);
+                    emitter.completeWithError(e);
+                    return false;
+                }
+                channel.subscribers.add(new Subscriber(emitter, snapshot.sequence()));
+                return true;
+            }
+        }
+    }
+
+    // 완료, 타임아웃, 전송 실패에서 여러 번 호출될 수 있으므로 실제로 제거된 경우에만 전체 구독자 수를 줄인다.
+    private void unsubscribe(Long topicId, SseEmitter emitter) {
+        Channel channel = channels.get(topicId);
+        if (channel == null) return;
+
+        synchronized (channel) {
+            if (channel.subscribers.removeIf(subscriber -> subscriber.emitter() == emitter)) subscriberCount.decrementAndGet();
+            if (channel.subscribers.isEmpty()) channels.remove(topicId, channel);
+        }
+    }
+
+    // sequence 보다 큰 순번의 변화량만 더한다. 변화가 없다면 null 을 반환한다.
+    private static VoteCountInfo sumAfter(List<VoteTallyChangedEvent> changes, long sequence) {
+        long vote = 0;
+        long first = 0;
+        long second = 0;
+        for (VoteTallyChangedEvent change : changes) {
+            if (change.getSequence() <= sequence) continue;
+            vote += change.getVoteCountDelta();
+            first += change.getFirstChoiceCountDelta();
+            second += change.getSecondChoiceCountDelta();
+        }
+        if (vote == 0 && first == 0 && second == 0) return null;
+
+        return VoteCountInfo.builder()
+                .voteCount(vote)
+                .firstChoiceCount(first)
+                .secondChoiceCount(second)
+                .build();
+    }
+
+    private record Subscriber(SseEmitter emitter, long sequence) {
+    }
+
+    /**
+     * 주제의 구독자와 아직 전송하지 않은 변화량. pending 은 채널의 잠금을 잡은 채로만 읽고 쓴다.
+     */
+    private static class Channel {
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private List<VoteTallyChangedEvent> pending = new ArrayList<>();
+    }
+}
@@ -0,0 +1,259 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.dto.response.VoteCountInfo;
+import com.maruhxn.lossion.domain.topic.event.VoteCountChangedEvent;
+import com.maruhxn.lossion.domain.topic.event.VoteTallyChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주제별 투표 집계를 메모리에 유지한다.
+ * 첫 번째/두 번째 선택지 수를 주제 id 를 키로 하는 primitive 맵 두 개에 따로 저장하므로, 한쪽의 음수 변화량이 다른 쪽 값에 영향을 주지 않는다.
+ * 변화량은 투표 트랜잭션이 커밋된 뒤에만 반영하므로, 롤백된 투표는 집계에 남지 않는다.
+ * 반영한 변화량에는 순번을 매겨 VoteTallyChangedEvent 로 알리고, snapshot 은 집계와 마지막 순번을 함께 읽으므로
+ * 구독자는 스냅샷에 이미 포함된 변화량을 걸러낼 수 있다.
+ * <p>
+ * topic 의 집계 컬럼에는 마지막 스냅샷 이후 쌓인 변화량만 주기적으로 더한다.
+ * 여러 인스턴스가 각자 자신이 받은 변화량만 더하므로, 다른 인스턴스가 저장한 값을 덮어쓰지 않는다.
+ * <p>
+ * 애플리케이션 시작 시와 집계 컬럼 보정 시 vote 테이블을 GROUP BY 한 번으로 다시 집계하여 메모리 집계를 바로잡는다.
+ * 집계 컬럼 자체는 TopicCountReconciler 가 바로잡는다.
+ */
+@Slf4j
+@Component
+public class VoteTallyEngine {
+
+    private static final String TALLY_SQL = "SELECT topic_id, vote_type, COUNT(*) AS cnt FROM vote" +
+            " WHERE vote_type IS NOT NULL GROUP BY topic_id, vote_type";
+    private static final String FIND_TOPIC_COUNTS_SQL = "SELECT first_choice_count, second_choice_count FROM topic WHERE id = ?";
+    private static final String CHECKPOINT_SQL = "UPDATE topic SET vote_count = vote_count + ?," +
+            " first_choice_count = first_choice_count + ?, second_choice_count = second_choice_count + ? WHERE id = ?";
+
+    private static final int EXPECTED_TOPICS = 1024;
+
+    private final LongLongHashMap firstCounts = new LongLongHashMap(EXPECTED_TOPICS);
+    private final LongLongHashMap secondCounts = new LongLongHashMap(EXPECTED_TOPICS);
+    // 마지막 스냅샷 이후 쌓인 변화량
+    private PendingDeltas pendingDeltas = new PendingDeltas();
+    // 다시 집계하는 동안 변화량이 반영된 주제
+    private LongLongHashMap touchedDuringRebuild;
+    // 마지막으로 반영한 변화량의 순번
+    private long sequence;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public VoteTallyEngine(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * vote 테이블을 다시 집계하여 메모리 집계를 교체한다.
+     * 집계하는 동안 변화량이 반영된 주제는 그 투표가 집계 결과에도 포함되었는지 알 수 없으므로,
+     * 두 번 세지 않도록 이번에는 바로잡지 않고 현재 값을 유지한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long beforeTime = System.currentTimeMillis();
+        synchronized (this) {
+            touchedDuringRebuild = new LongLongHashMap(16);
+        }
+
+        LongLongHashMap firstScanned = new LongLongHashMap(EXPECTED_TOPICS);
+        LongLongHashMap secondScanned = new LongLongHashMap(EXPECTED_TOPICS);
+        try {
+            jdbcTemplate.query(TALLY_SQL, rs -> {
+                LongLongHashMap scanned = rs.getInt("vote_type") == VoteType.FIRST.ordinal() ? firstScanned : secondScanned;
+                scanned.add(rs.getLong("topic_id"), rs.getLong("cnt"));
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                touchedDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        int corrected;
+        int skipped;
+        synchronized (this) {
+            LongLongHashMap touched = touchedDuringRebuild;
+            touchedDuringRebuild = null;
+
+            // vote 테이블에 남은 투표가 없는 주제도 0 으로 바로잡도록 함께 비교한다.
+            LongLongHashMap topicIds = new LongLongHashMap(EXPECTED_TOPICS);
+            firstCounts.forEach((topicId, count) -> topicIds.put(topicId, 0L));
+            firstScanned.forEach((topicId, count) -> topicIds.put(topicId, 0L));
+            secondScanned.forEach((topicId, count) -> topicIds.put(topicId, 0L));
+
+            int[] changed = new int[1];
+            topicIds.forEach((topicId, ignored) -> {
+                if (touched.containsKey(topicId)) return;
+                long first = firstScanned.get(topicId);
+                long second = secondScanned.get(topicId);
+                if (firstCounts.containsKey(topicId) && firstCounts.get(topicId) == first && secondCounts.get(topicId) == second) return;
+                firstCounts.put(topicId, first);
+                secondCounts.put(topicId, second);
+                changed[0]++;
+            });
+            corrected = changed[0];
+            skipped = touched.size();
+        }
+
+        log.info("투표 집계 적재 완료 | corrected={}, skipped={}, 실행 시간(ms)={}", corrected, skipped, System.currentTimeMillis() - beforeTime);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteCountChanged(VoteCountChangedEvent event) {
+        apply(event.getTopicId(), event.getFirstChoiceCountDelta(), event.getSecondChoiceCountDelta());
+    }
+
+    /**
+     * 투표 전후의 선택지를 비교하여 변화량만 반영한다.
+     */
+    public void apply(Long topicId, VoteType before, VoteType after) {
+        long firstDelta = countOf(after == VoteType.FIRST) - countOf(before == VoteType.FIRST);
+        long secondDelta = countOf(after == VoteType.SECOND) - countOf(before == VoteType.SECOND);
+        apply(topicId, firstDelta, secondDelta);
+    }
+
+    public void apply(Long topicId, long firstDelta, long secondDelta) {
+        if (firstDelta == 0 && secondDelta == 0) return;
+
+        // 시작 시 적재되지 않은 주제는 잠금 밖에서 topic 의 집계 컬럼을 읽어 둔다.
+        long[] loaded = isLoaded(topicId) ? null : load(topicId);
+        long appliedSequence;
+        synchronized (this) {
+            if (loaded != null && !firstCounts.containsKey(topicId)) {
+                firstCounts.put(topicId, loaded[0]);
+                secondCounts.put(topicId, loaded[1]);
+            }
+            firstCounts.add(topicId, firstDelta);
+            secondCounts.add(topicId, secondDelta);
+            pendingDeltas.add(topicId, firstDelta, secondDelta);
+            if (touchedDuringRebuild != null) touchedDuringRebuild.put(topicId, 1L);
+            appliedSequence = ++sequence;
+        }
+        eventPublisher.publishEvent(new VoteTallyChangedEvent(topicId, appliedSequence, firstDelta + secondDelta, firstDelta, secondDelta));
+    }
+
+    public synchronized Optional<VoteCountInfo> find(Long topicId) {
+        if (!firstCounts.containsKey(topicId)) return Optional.empty();
+        return Optional.of(toVoteCountInfo(firstCounts.get(topicId), secondCounts.get(topicId)));
+    }
+
+    /**
+     * 집계와 그 집계에 반영된 마지막 순번을 함께 읽는다. 적재되지 않은 주제라면 집계는 null 이다.
+     */
+    public synchronized TallySnapshot snapshot(Long topicId) {
+        return new TallySnapshot(sequence, find(topicId).orElse(null));
+    }
+
+    /**
+     * 마지막 스냅샷 이후 쌓인 변화량을 topic 의 집계 컬럼에 더한다.
+     * 저장에 실패하거나 트랜잭션이 커밋되지 않으면 꺼낸 변화량을 되돌려 다음 스냅샷에서 다시 더한다.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${topic.vote-tally.checkpoint-interval:5000}")
+    public void checkpoint() {
+        PendingDeltas deltas;
+        synchronized (this) {
+            if (pendingDeltas.isEmpty()) return;
+            deltas = pendingDeltas;
+            pendingDeltas = new PendingDeltas();
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.first.size());
+        deltas.first.forEach((topicId, first) -> {
+            long second = deltas.second.get(topicId);
+            if (first == 0 && second == 0) return;
+            rows.add(new Object[]{first + second, first, second, topicId});
+        });
+        if (rows.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(CHECKPOINT_SQL, rows);
+        } catch (RuntimeException e) {
+            restore(deltas);
+            throw e;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) restore(deltas);
+                }
+            });
+        }
+        log.debug("투표 집계 변화량 저장 완료 | topics={}", rows.size());
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    private synchronized void restore(PendingDeltas deltas) {
+        deltas.first.forEach((topicId, first) -> pendingDeltas.add(topicId, first, deltas.second.get(topicId)));
+    }
+
+    private synchronized boolean isLoaded(Long topicId) {
+        return firstCounts.containsKey(topicId);
+    }
+
+    private long[] load(Long topicId) {
+        List<long[]> rows = jdbcTemplate.query(FIND_TOPIC_COUNTS_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("first_choice_count"), rs.getLong("second_choice_count")},
+                topicId);
+        return rows.isEmpty() ? new long[2] : rows.get(0);
+    }
+
+    // 어긋난 변화량으로 음수가 되더라도 응답에는 0 으로 내보낸다. 실제 값은 다음 재집계에서 바로잡힌다.
+    private static VoteCountInfo toVoteCountInfo(long first, long second) {
+        long firstCount = Math.max(0L, first);
+        long secondCount = Math.max(0L, second);
+        return VoteCountInfo.builder()
+                .voteCount(firstCount + secondCount)
+                .firstChoiceCount(firstCount)
+                .secondChoiceCount(secondCount)
+                .build();
+    }
+
+    private static long countOf(boolean condition) {
+        return condition ? 1L : 0L;
+    }
+
+    public record TallySnapshot(long sequence, VoteCountInfo voteCountInfo) {
+    }
+
+    /**
+     * 주제별 선택지 변화량. 두 맵의 키는 항상 같다.
+     */
+    private static final class PendingDeltas {
+        private final LongLongHashMap first = new LongLongHashMap(EXPECTED_TOPICS);
+        private final LongLongHashMap second = new LongLongHashMap(EXPECTED_TOPICS);
+
+        void add(long topicId, long firstDelta, long secondDelta) {
+            first.add(topicId, firstDelta);
+            second.add(topicId, secondDelta);
+        }
+
+        boolean isEmpty() {
+            return first.size() == 0;
+        }
+    }
+}
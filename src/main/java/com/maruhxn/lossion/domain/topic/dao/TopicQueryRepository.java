@@ -1,75 +1,85 @@
 package com.maruhxn.lossion.domain.topic.dao;
 
-import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.domain.TopicImage;
 import com.maruhxn.lossion.domain.topic.dto.request.TopicSearchCond;
-import com.maruhxn.lossion.domain.topic.dto.response.MyTopicItem;
-import com.maruhxn.lossion.domain.topic.dto.response.QMyTopicItem;
-import com.maruhxn.lossion.domain.topic.dto.response.QTopicItem;
-import com.maruhxn.lossion.domain.topic.dto.response.TopicItem;
+import com.maruhxn.lossion.domain.topic.dto.response.*;
+import com.maruhxn.lossion.global.common.dto.Cursor;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
-import static com.maruhxn.lossion.domain.comment.domain.QComment.comment;
-import static com.maruhxn.lossion.domain.favorite.domain.QTopicFavorite.topicFavorite;
 import static com.maruhxn.lossion.domain.member.domain.QMember.member;
 import static com.maruhxn.lossion.domain.topic.domain.QCategory.category;
 import static com.maruhxn.lossion.domain.topic.domain.QTopic.topic;
-import static com.maruhxn.lossion.domain.topic.domain.QVote.vote;
+import static com.maruhxn.lossion.domain.topic.domain.QTopicImage.topicImage;
 import static org.springframework.util.StringUtils.hasText;
 
 @Repository
 @RequiredArgsConstructor
 public class TopicQueryRepository {
-    private final JPAQueryFactory query;
+    private static final int ID_CHUNK_SIZE = 1000;
 
-    public Optional<Topic> findTopicDetail(Long topicId) {
-        return Optional.ofNullable(query
-                .select(topic)
-                .from(topic)
-                .leftJoin(topic.author, member)
-                .leftJoin(topic.category, category)
-                .leftJoin(topic.comments, comment)
-                .leftJoin(topic.votes, vote).on(vote.voteType.isNotNull())
-                .leftJoin(topic.favorites, topicFavorite)
-                .where(topic.id.eq(topicId))
-                .groupBy(topic.id)
-                .fetchOne());
-    }
+    private final JPAQueryFactory query;
+    private final TopicSearchIndex topicSearchIndex;
 
-    public Page<TopicItem> findAllByConditions(TopicSearchCond cond, Pageable pageable) {
-        List<TopicItem> topicItems = query
-                .select(new QTopicItem(
+    /**
+     * 주제 상세 정보는 집계 컬럼을 포함한 하나의 프로젝션으로 조회하고, 이미지는 별도의 쿼리 한 번으로 채운다.
+     */
+    public Optional<TopicDetailItem> findTopicDetail(Long topicId) {
+        TopicDetailItem topicDetailItem = query
+                .select(new QTopicDetailItem(
                         topic.id,
                         category,
                         topic.title,
+                        topic.description,
+                        topic.firstChoice,
+                        topic.secondChoice,
+                        member,
                         topic.viewCount,
-                        vote.countDistinct(),
-                        topic.author,
-                        comment.countDistinct(),
-                        topicFavorite.countDistinct(),
+                        topic.commentCount,
+                        topic.favoriteCount,
+                        topic.voteCount,
+                        topic.firstChoiceCount,
+                        topic.secondChoiceCount,
+                        topic.isClosed,
                         topic.createdAt,
-                        topic.closedAt,
-                        topic.isClosed
+                        topic.updatedAt,
+                        topic.closedAt
                 ))
                 .from(topic)
-                .leftJoin(topic.category, category)
-                .leftJoin(topic.votes, vote).on(vote.voteType.isNotNull())
-                .leftJoin(topic.author, member)
-                .leftJoin(topic.comments, comment)
-                .leftJoin(topic.favorites, topicFavorite)
-                .where(containTitleKeyword(cond.getTitle()),
-                        containContentKeyword(cond.getDescription()),
+                .join(topic.author, member)
+                .join(topic.category, category)
+                .where(topic.id.eq(topicId))
+                .fetchOne();
+
+        if (topicDetailItem == null) return Optional.empty();
+
+        List<TopicImage> images = query
+                .selectFrom(topicImage)
+                .where(topicImage.topic.id.eq(topicId))
+                .fetch();
+        return Optional.of(topicDetailItem.withImages(images));
+    }
+
+    /**
+     * 제목/내용 키워드가 있다면 검색 색인이 관련도 순으로 반환한 주제 id 로 페이지를 자르고, DB 는 해당 페이지를 채우는 데에만 사용한다.
+     * 이때 전체 개수는 색인에 일치한 주제 수이다.
+     * 키워드가 없다면 최신순으로 조회한다.
+     */
+    public Page<TopicItem> findAllByConditions(TopicSearchCond cond, Pageable pageable) {
+        if (hasKeyword(cond)) return findAllByKeyword(cond, pageable);
+
+        List<TopicItem> topicItems = selectTopicItems()
+                .where(categoryIdEq(cond.getCategoryId()),
                         authorLike(cond.getAuthor()))
-                .groupBy(topic.id)
                 .orderBy(topic.createdAt.desc(), topic.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -78,16 +88,78 @@ public class TopicQueryRepository {
         JPAQuery<Long> countQuery = query
                 .select(topic.count())
                 .from(topic)
-                .leftJoin(topic.votes, vote)
-                .leftJoin(topic.comments, comment)
-                .leftJoin(topic.favorites, topicFavorite)
-                .where(containTitleKeyword(cond.getTitle()),
-                        containContentKeyword(cond.getDescription()),
+                .join(topic.author, member)
+                .where(categoryIdEq(cond.getCategoryId()),
                         authorLike(cond.getAuthor()));
 
         return PageableExecutionUtils.getPage(topicItems, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 키셋 방식 주제 리스트 조회. 다음 페이지 존재 여부 판단을 위해 size + 1 건을 조회한다.
+     * 키워드가 있다면 검색 색인에 일치한 주제를 최신순으로 조회한다.
+     * 카테고리 조건이 있다면 (category_id, created_at, id) 인덱스를 따라 해당 카테고리의 주제만 읽는다.
+     */
+    public List<TopicItem> findAllByCursor(TopicSearchCond cond, Cursor cursor, int size) {
+        if (hasKeyword(cond)) return findAllByKeywordCursor(cond, cursor, size);
+
+        return selectTopicItems()
+                .where(categoryIdEq(cond.getCategoryId()),
+                        authorLike(cond.getAuthor()),
+                        beforeCursor(cursor))
+                .orderBy(topic.createdAt.desc(), topic.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 검색 색인을 (생성 시각, id) 내림차순으로 넘겨 가며 일치한 주제를 조회한다.
+     * 작성자나 카테고리 조건으로 걸러진 만큼은 색인의 다음 구간을 이어서 읽어 size + 1 건을 채운다.
+     * 색인의 생성 시각은 DB 와 반올림이 다를 수 있으므로, DB 조회에도 커서 조건을 함께 건다.
+     */
+    private List<TopicItem> findAllByKeywordCursor(TopicSearchCond cond, Cursor cursor, int size) {
+        boolean filtered = hasText(cond.getAuthor()) || cond.getCategoryId() != null;
+        int chunkSize = filtered ? Math.max(size + 1, ID_CHUNK_SIZE) : size + 1;
+
+        List<TopicItem> topicItems = new ArrayList<>();
+        Cursor position = cursor;
+        while (topicItems.size() < size + 1) {
+            List<Cursor> matched = topicSearchIndex.searchRecent(cond.getTitle(), cond.getDescription(), position, chunkSize);
+            if (matched.isEmpty()) break;
+
+            topicItems.addAll(selectTopicItems()
+                    .where(topic.id.in(matched.stream().map(Cursor::getId).toList()),
+                            categoryIdEq(cond.getCategoryId()),
+                            authorLike(cond.getAuthor()),
+                            beforeCursor(cursor))
+                    .orderBy(topic.createdAt.desc(), topic.id.desc())
+                    .limit(size + 1 - topicItems.size())
+                    .fetch());
+
+            if (matched.size() < chunkSize) break;
+            position = matched.get(matched.size() - 1);
+        }
+        return topicItems;
+    }
+
+    /**
+     * 주어진 id 순서대로 주제 목록을 조회한다. 그사이 삭제된 주제는 빠진다.
+     */
+    public List<TopicItem> findAllByIds(List<Long> topicIds) {
+        if (topicIds.isEmpty()) return List.of();
+
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < topicIds.size(); i++) {
+            ranks.put(topicIds.get(i), i);
+        }
+
+        List<TopicItem> topicItems = selectTopicItems()
+                .where(topic.id.in(topicIds))
+                .fetch();
+        topicItems.sort(Comparator.comparing(item -> ranks.get(item.getTopicId())));
+        return topicItems;
+    }
+
     public Page<MyTopicItem> findMyTopics(Long memberId, Pageable pageable) {
         List<MyTopicItem> myTopicItems = query
                 .select(new QMyTopicItem(
@@ -95,21 +167,17 @@ public class TopicQueryRepository {
                         category,
                         topic.title,
                         topic.viewCount,
-                        comment.countDistinct(),
-                        topicFavorite.countDistinct(),
-                        vote.countDistinct(),
+                        topic.commentCount,
+                        topic.favoriteCount,
+                        topic.voteCount,
                         topic.createdAt,
                         topic.updatedAt,
                         topic.closedAt,
                         topic.isClosed
                 ))
                 .from(topic)
-                .leftJoin(topic.category, category)
-                .leftJoin(topic.votes, vote).on(vote.voteType.isNotNull())
-                .leftJoin(topic.comments, comment)
-                .leftJoin(topic.favorites, topicFavorite)
+                .join(topic.category, category)
                 .where(topic.author.id.eq(memberId))
-                .groupBy(topic.id)
                 .orderBy(topic.createdAt.desc(), topic.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -118,23 +186,79 @@ public class TopicQueryRepository {
         JPAQuery<Long> countQuery = query
                 .select(topic.count())
                 .from(topic)
-                .leftJoin(topic.votes, vote)
-                .leftJoin(topic.comments, comment)
-                .leftJoin(topic.favorites, topicFavorite)
                 .where(topic.author.id.eq(memberId));
 
         return PageableExecutionUtils.getPage(myTopicItems, pageable, countQuery::fetchOne);
     }
 
-    private BooleanExpression containTitleKeyword(String title) {
-        return hasText(title) ? topic.title.contains(title) : null;
+    private static BooleanExpression beforeCursor(Cursor cursor) {
+        if (cursor == null) return null;
+        return topic.createdAt.lt(cursor.getCreatedAt())
+                .or(topic.createdAt.eq(cursor.getCreatedAt()).and(topic.id.lt(cursor.getId())));
+    }
+
+    private Page<TopicItem> findAllByKeyword(TopicSearchCond cond, Pageable pageable) {
+        List<Long> rankedIds = findMatchedIds(cond);
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+
+        return new PageImpl<>(findAllByIds(pageIds), pageable, rankedIds.size());
+    }
+
+    // 작성자와 카테고리는 색인하지 않으므로, 해당 조건이 있다면 검색된 id 중 조건이 일치하는 것만 남기고 순위는 유지한다.
+    private List<Long> findMatchedIds(TopicSearchCond cond) {
+        List<Long> rankedIds = topicSearchIndex.search(cond.getTitle(), cond.getDescription());
+        if ((!hasText(cond.getAuthor()) && cond.getCategoryId() == null) || rankedIds.isEmpty()) return rankedIds;
+
+        // 검색 결과 수에 제한이 없으므로 IN 절이 너무 길어지지 않도록 나누어 조회한다.
+        Set<Long> filteredIds = new HashSet<>();
+        for (int from = 0; from < rankedIds.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = rankedIds.subList(from, Math.min(from + ID_CHUNK_SIZE, rankedIds.size()));
+            filteredIds.addAll(query
+                    .select(topic.id)
+                    .from(topic)
+                    .join(topic.author, member)
+                    .where(topic.id.in(chunk),
+                            categoryIdEq(cond.getCategoryId()),
+                            authorLike(cond.getAuthor()))
+                    .fetch());
+        }
+
+        return rankedIds.stream()
+                .filter(filteredIds::contains)
+                .toList();
+    }
+
+    private JPAQuery<TopicItem> selectTopicItems() {
+        return query
+                .select(new QTopicItem(
+                        topic.id,
+                        category,
+                        topic.title,
+                        topic.viewCount,
+                        topic.voteCount,
+                        member,
+                        topic.commentCount,
+                        topic.favoriteCount,
+                        topic.createdAt,
+                        topic.closedAt,
+                        topic.isClosed
+                ))
+                .from(topic)
+                .join(topic.category, category)
+                .join(topic.author, member);
+    }
+
+    private static boolean hasKeyword(TopicSearchCond cond) {
+        return hasText(cond.getTitle()) || hasText(cond.getDescription());
     }
 
-    private BooleanExpression containContentKeyword(String content) {
-        return hasText(content) ? topic.description.contains(content) : null;
+    private static BooleanExpression categoryIdEq(Long categoryId) {
+        return categoryId != null ? topic.category.id.eq(categoryId) : null;
     }
 
     private static BooleanExpression authorLike(String authorName) {
-        return hasText(authorName) ? topic.author.username.eq(authorName) : null;
+        return hasText(authorName) ? member.username.eq(authorName) : null;
     }
 }
@@ -1,12 +1,79 @@
 package com.maruhxn.lossion.domain.topic.dao;
 
 import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.dto.response.VoteCountInfo;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TopicRepository extends JpaRepository<Topic, Long> {
     @EntityGraph(attributePaths = {"author", "category", "votes"})
     Optional<Topic> findTopicWithMemberAndCategoryAndVotesById(Long topicId);
+
+    @Query("select t.closedAt as closedAt, t.isClosed as isClosed from Topic t where t.id = :topicId")
+    Optional<VotingPeriod> findVotingPeriodById(@Param("topicId") Long topicId);
+
+    @Query("select new com.maruhxn.lossion.domain.topic.dto.response.VoteCountInfo(t.voteCount, t.firstChoiceCount, t.secondChoiceCount)" +
+            " from Topic t where t.id = :topicId")
+    Optional<VoteCountInfo> findVoteCountInfoById(@Param("topicId") Long topicId);
+
+    // 결과 스냅샷이 없는 종료된 주제
+    @Query("select t.id from Topic t where t.isClosed = true" +
+            " and not exists (select r.id from TopicResult r where r.topicId = t.id)" +
+            " order by t.id")
+    List<Long> findClosedIdsWithoutResult();
+
+    // 집계 컬럼 갱신
+
+    @Modifying
+    @Query("update Topic t set t.commentCount = t.commentCount + :delta where t.id = :topicId")
+    int updateCommentCount(@Param("topicId") Long topicId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update Topic t set t.favoriteCount = t.favoriteCount + :delta where t.id = :topicId")
+    int updateFavoriteCount(@Param("topicId") Long topicId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update Topic t" +
+            " set t.voteCount = t.voteCount + :voteDelta," +
+            " t.firstChoiceCount = t.firstChoiceCount + :firstDelta," +
+            " t.secondChoiceCount = t.secondChoiceCount + :secondDelta" +
+            " where t.id = :topicId")
+    int updateVoteCount(@Param("topicId") Long topicId,
+                        @Param("voteDelta") long voteDelta,
+                        @Param("firstDelta") long firstDelta,
+                        @Param("secondDelta") long secondDelta);
+
+    // 집계 컬럼 보정
+
+    @Query("select max(t.id) from Topic t")
+    Optional<Long> findMaxId();
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Topic t" +
+            " set t.commentCount = (select count(c) from Comment c where c.topic.id = t.id)," +
+            " t.favoriteCount = (select count(f) from TopicFavorite f where f.topic.id = t.id)," +
+            " t.voteCount = (select count(v) from Vote v where v.topic.id = t.id and v.voteType is not null)," +
+            " t.firstChoiceCount = (select count(v) from Vote v where v.topic.id = t.id and v.voteType = :first)," +
+            " t.secondChoiceCount = (select count(v) from Vote v where v.topic.id = t.id and v.voteType = :second)" +
+            " where t.id between :fromId and :toId")
+    int reconcileCounts(@Param("fromId") Long fromId,
+                        @Param("toId") Long toId,
+                        @Param("first") VoteType first,
+                        @Param("second") VoteType second);
+
+    interface VotingPeriod {
+        LocalDateTime getClosedAt();
+
+        Boolean getIsClosed();
+    }
 }
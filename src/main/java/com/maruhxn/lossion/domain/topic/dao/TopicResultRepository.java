@@ -0,0 +1,16 @@
+package com.maruhxn.lossion.domain.topic.dao;
+
+import com.maruhxn.lossion.domain.topic.domain.TopicResult;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface TopicResultRepository extends JpaRepository<TopicResult, Long> {
+    @EntityGraph(attributePaths = {"topComments"})
+    Optional<TopicResult> findByTopicId(Long topicId);
+
+    boolean existsByTopicId(Long topicId);
+
+    void deleteByTopicId(Long topicId);
+}
@@ -0,0 +1,233 @@
+package com.maruhxn.lossion.domain.topic.dao;
+
+import com.maruhxn.lossion.domain.topic.dto.response.TopicSuggestItem;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import com.maruhxn.lossion.global.common.dto.Cursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 주제 제목/내용 검색용 메모리 역색인.
+ * 정규화(NFKC, 소문자)한 텍스트를 글자 단위 2-gram 으로 쪼개어 색인하므로, 형태소 분석 없이도 한글 부분 문자열 검색이 가능하다.
+ * 검색어의 2-gram 목록을 교집합한 후보만 원문 포함 여부로 검증하므로, 결과는 기존 LIKE '%x%' 검색과 같고 비용은 테이블 크기가 아닌 후보 수에 비례한다.
+ * 일치한 주제는 개수 제한 없이 모두 반환하며, 커서 방식 목록을 위해 주제별 생성 시각도 함께 보관한다.
+ * <p>
+ * 제목은 자동완성용 접두사 트라이(TopicTitleTrie)에도 함께 넣는다.
+ * <p>
+ * 애플리케이션 시작 시 topic 테이블로 전체 색인을 만들고,
+ * 이후에는 주제 생성/수정/삭제 시 발행되는 TopicContentChangedEvent 를 커밋 이후에 받아 해당 주제만 다시 색인한다.
+ */
+@Slf4j
+@Component
+public class TopicSearchIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final String FIND_ALL_SQL = "SELECT id, title, description, created_at FROM topic";
+    private static final double TITLE_WEIGHT = 2.0;
+
+    private final Map<String, Set<Long>> titlePostings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> descriptionPostings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final TopicTitleTrie titleTrie = new TopicTitleTrie(MAX_SUGGESTIONS);
+    private final JdbcTemplate jdbcTemplate;
+
+    public TopicSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long beforeTime = System.currentTimeMillis();
+        titlePostings.clear();
+        descriptionPostings.clear();
+        documents.clear();
+        titleTrie.clear();
+        jdbcTemplate.query(FIND_ALL_SQL, rs -> {
+            index(rs.getLong("id"), rs.getString("title"), rs.getString("description"),
+                    rs.getObject("created_at", LocalDateTime.class));
+        });
+
+        log.info("주제 검색 색인 적재 완료 | topics={}, 실행 시간(ms)={}", documents.size(), System.currentTimeMillis() - beforeTime);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicContentChanged(TopicContentChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getTopicId());
+            return;
+        }
+        index(event.getTopicId(), event.getTitle(), event.getDescription(), event.getCreatedAt());
+    }
+
+    public synchronized void index(Long topicId, String title, String description, LocalDateTime createdAt) {
+        remove(topicId);
+        // DB 의 datetime(6) 과 같은 정밀도로 맞춰, DB 에서 읽은 커서와 비교한다.
+        Document document = new Document(title, normalize(title), normalize(description), createdAt.truncatedTo(ChronoUnit.MICROS));
+        documents.put(topicId, document);
+        titleTrie.insert(topicId, document.title());
+        grams(document.title()).forEach(gram ->
+                titlePostings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(topicId));
+        grams(document.description()).forEach(gram ->
+                descriptionPostings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(topicId));
+    }
+
+    public synchronized void remove(Long topicId) {
+        Document document = documents.remove(topicId);
+        if (document == null) return;
+        titleTrie.remove(topicId, document.title());
+        removePostings(titlePostings, document.title(), topicId);
+        removePostings(descriptionPostings, document.description(), topicId);
+    }
+
+    /**
+     * 제목/내용 키워드를 모두 포함하는 주제 id 를 관련도 순으로 모두 반환한다.
+     * 제목 일치에 가중치를 더 주고, 필드 길이 대비 키워드가 차지하는 비율이 높을수록, 제목이 키워드로 시작할수록 앞에 온다. 점수가 같다면 최신 주제가 먼저다.
+     * 두 키워드가 모두 비어 있다면 빈 목록을 반환한다.
+     */
+    public List<Long> search(String titleKeyword, String descriptionKeyword) {
+        String title = normalize(titleKeyword);
+        String description = normalize(descriptionKeyword);
+
+        List<Hit> hits = new ArrayList<>();
+        forEachMatch(title, description, (topicId, document) -> {
+            double score = score(document.title(), title) * TITLE_WEIGHT + score(document.description(), description);
+            hits.add(new Hit(topicId, score));
+        });
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::topicId, Comparator.reverseOrder()));
+
+        return hits.stream()
+                .map(Hit::topicId)
+                .toList();
+    }
+
+    /**
+     * 제목/내용 키워드를 모두 포함하는 주제 중 커서 이후의 주제를 (생성 시각, id) 내림차순으로 최대 limit 개 반환한다.
+     * 반환한 위치를 다음 커서로 넘기면 일치한 주제를 빠짐없이 최신순으로 훑을 수 있다.
+     */
+    public List<Cursor> searchRecent(String titleKeyword, String descriptionKeyword, Cursor cursor, int limit) {
+        Comparator<Cursor> recentFirst = Comparator.comparing(Cursor::getCreatedAt)
+                .thenComparing(Cursor::getId)
+                .reversed();
+
+        List<Cursor> matched = new ArrayList<>();
+        forEachMatch(normalize(titleKeyword), normalize(descriptionKeyword), (topicId, document) -> {
+            Cursor position = Cursor.of(document.createdAt(), topicId);
+            if (cursor == null || recentFirst.compare(position, cursor) > 0) matched.add(position);
+        });
+        matched.sort(recentFirst);
+
+        return matched.size() > limit ? matched.subList(0, limit) : matched;
+    }
+
+    /**
+     * 입력으로 시작하는 제목(또는 제목 속 단어)을 가진 주제를 최신순으로 최대 limit 개 반환한다.
+     */
+    public List<TopicSuggestItem> suggest(String prefix, int limit) {
+        List<TopicSuggestItem> suggestions = new ArrayList<>();
+        for (Long topicId : titleTrie.search(normalize(prefix).stripLeading(), Math.min(limit, MAX_SUGGESTIONS))) {
+            Document document = documents.get(topicId);
+            if (document == null) continue;
+            suggestions.add(TopicSuggestItem.builder()
+                    .topicId(topicId)
+                    .title(document.rawTitle())
+                    .build());
+        }
+        return suggestions;
+    }
+
+    private void forEachMatch(String title, String description, BiConsumer<Long, Document> action) {
+        if (title.isEmpty() && description.isEmpty()) return;
+
+        Set<Long> candidates = title.isEmpty() ? null : lookup(titlePostings, title);
+        if (!description.isEmpty()) {
+            Set<Long> descriptionCandidates = lookup(descriptionPostings, description);
+            if (candidates == null) {
+                candidates = descriptionCandidates;
+            } else {
+                candidates.retainAll(descriptionCandidates);
+            }
+        }
+
+        for (Long topicId : candidates) {
+            Document document = documents.get(topicId);
+            if (document == null || !document.title().contains(title) || !document.description().contains(description)) {
+                continue;
+            }
+            action.accept(topicId, document);
+        }
+    }
+
+    // 2-gram 이 없는 한 글자 검색어는 색인 대신 전체 문서를 훑는다.
+    private Set<Long> lookup(Map<String, Set<Long>> postings, String keyword) {
+        if (keyword.length() < 2) return new HashSet<>(documents.keySet());
+
+        List<Set<Long>> matchedPostings = new ArrayList<>();
+        for (String gram : grams(keyword)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) return new HashSet<>();
+            matchedPostings.add(posting);
+        }
+        matchedPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(matchedPostings.get(0));
+        for (int i = 1; i < matchedPostings.size() && !result.isEmpty(); i++) {
+            result.retainAll(matchedPostings.get(i));
+        }
+        return result;
+    }
+
+    private static void removePostings(Map<String, Set<Long>> postings, String text, Long topicId) {
+        grams(text).forEach(gram -> postings.computeIfPresent(gram, (g, posting) -> {
+            posting.remove(topicId);
+            return posting.isEmpty() ? null : posting;
+        }));
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static double score(String field, String keyword) {
+        if (keyword.isEmpty()) return 0;
+
+        int occurrences = 0;
+        for (int from = field.indexOf(keyword); from >= 0; from = field.indexOf(keyword, from + 1)) {
+            occurrences++;
+        }
+        double coverage = (double) occurrences * keyword.length() / field.length();
+        return coverage + (field.startsWith(keyword) ? 1 : 0);
+    }
+
+    /**
+     * 색인과 검색어에 같은 규칙을 적용한다. 공백뿐인 텍스트는 빈 문자열이다.
+     */
+    public static String normalize(String text) {
+        if (!hasText(text)) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private record Document(String rawTitle, String title, String description, LocalDateTime createdAt) {
+    }
+
+    private record Hit(Long topicId, double score) {
+    }
+}
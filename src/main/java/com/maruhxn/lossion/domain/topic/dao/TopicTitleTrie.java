@@ -0,0 +1,120 @@
+package com.maruhxn.lossion.domain.topic.dao;
+
+import java.util.*;
+
+/**
+ * 제목 자동완성용 접두사 트라이.
+ * 제목 전체와 공백 뒤의 각 단어 시작 위치를 키로 넣으므로, 제목 중간 단어로 시작하는 입력도 찾을 수 있다.
+ * 각 노드는 하위 키에 속한 주제 중 최신(id 가 큰) topK 개를 미리 들고 있어, 조회는 입력 길이만큼 내려가는 것으로 끝난다.
+ * 삭제 시에는 경로 위 노드의 목록을 자식 노드의 목록만으로 다시 채우므로, 하위 트리 전체를 훑지 않는다.
+ * <p>
+ * 동시 접근은 TopicSearchIndex 가 아닌 이 클래스의 메서드 단위로 동기화한다.
+ */
+class TopicTitleTrie {
+
+    private static final int MAX_KEY_LENGTH = 50;
+
+    private final int topK;
+    private final Node root = new Node();
+
+    TopicTitleTrie(int topK) {
+        this.topK = topK;
+    }
+
+    synchronized void insert(Long topicId, String title) {
+        for (String key : keys(title)) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                offer(node.top, topicId);
+            }
+            node.ends.add(topicId);
+        }
+    }
+
+    synchronized void remove(Long topicId, String title) {
+        List<String> keys = new ArrayList<>(keys(title));
+        List<List<Node>> paths = new ArrayList<>(keys.size());
+        int maxDepth = 0;
+        for (String key : keys) {
+            List<Node> path = new ArrayList<>(key.length());
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                if (node != null) path.add(node);
+            }
+            if (path.size() == key.length()) path.get(path.size() - 1).ends.remove(topicId);
+            paths.add(path);
+            maxDepth = Math.max(maxDepth, path.size());
+        }
+
+        // 목록에서 빠진 노드는 자신의 키와 자식 노드의 목록으로 다시 채운다.
+        // 모든 경로를 깊은 노드부터 처리하므로 자식의 목록은 이미 갱신되어 있고, 비어 버린 노드는 잘라낸다.
+        for (int depth = maxDepth - 1; depth >= 0; depth--) {
+            for (int k = 0; k < keys.size(); k++) {
+                List<Node> path = paths.get(k);
+                if (depth >= path.size()) continue;
+
+                Node current = path.get(depth);
+                if (current.top.remove(topicId)) refill(current);
+                if (current.top.isEmpty()) {
+                    Node parent = depth == 0 ? root : path.get(depth - 1);
+                    parent.children.remove(keys.get(k).charAt(depth));
+                }
+            }
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 키를 가진 주제 id 를 최신순으로 최대 limit 개 반환한다.
+     */
+    synchronized List<Long> search(String prefix, int limit) {
+        if (prefix.isEmpty()) return List.of();
+
+        Node node = find(prefix);
+        if (node == null) return List.of();
+
+        return node.top.descendingSet().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    synchronized void clear() {
+        root.children.clear();
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private void refill(Node node) {
+        node.top.clear();
+        node.ends.forEach(topicId -> offer(node.top, topicId));
+        node.children.values().forEach(child -> child.top.forEach(topicId -> offer(node.top, topicId)));
+    }
+
+    private void offer(TreeSet<Long> top, Long topicId) {
+        top.add(topicId);
+        if (top.size() > topK) top.pollFirst();
+    }
+
+    private static Set<String> keys(String title) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < title.length(); i++) {
+            if (Character.isWhitespace(title.charAt(i))) continue;
+            if (i > 0 && !Character.isWhitespace(title.charAt(i - 1))) continue;
+            keys.add(title.substring(i, Math.min(title.length(), i + MAX_KEY_LENGTH)));
+        }
+        return keys;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final TreeSet<Long> top = new TreeSet<>();
+        private final Set<Long> ends = new HashSet<>();
+    }
+}
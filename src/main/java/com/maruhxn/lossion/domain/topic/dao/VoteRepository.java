@@ -1,10 +1,37 @@
 package com.maruhxn.lossion.domain.topic.dao;
 
 import com.maruhxn.lossion.domain.topic.domain.Vote;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VoteRepository extends JpaRepository<Vote, Long> {
     Optional<Vote> findByTopicIdAndVoter_Id(Long topicId, Long voterId);
+
+    @Query("select v.voteType from Vote v where v.topic.id = :topicId and v.voter.id = :voterId")
+    Optional<VoteType> findVoteType(@Param("topicId") Long topicId, @Param("voterId") Long voterId);
+
+    @Query("select v.topic.id as topicId, v.voteType as voteType from Vote v" +
+            " where v.voter.id = :voterId and v.topic.id in :topicIds")
+    List<TopicVoteType> findVoteTypes(@Param("voterId") Long voterId, @Param("topicIds") List<Long> topicIds);
+
+    @Query("select v.voteType as voteType, count(v) as count from Vote v" +
+            " where v.topic.id = :topicId and v.voteType is not null group by v.voteType")
+    List<VoteTypeCount> countByVoteType(@Param("topicId") Long topicId);
+
+    interface TopicVoteType {
+        Long getTopicId();
+
+        VoteType getVoteType();
+    }
+
+    interface VoteTypeCount {
+        VoteType getVoteType();
+
+        Long getCount();
+    }
 }
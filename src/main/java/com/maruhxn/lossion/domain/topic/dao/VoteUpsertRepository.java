@@ -0,0 +1,158 @@
+package com.maruhxn.lossion.domain.topic.dao;
+
+import com.maruhxn.lossion.domain.topic.domain.Vote;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * (topic_id, voter_id) 유니크 제약을 이용해 투표를 저장한다.
+ * 처음 투표하는 회원은 요청한 선택지로 바로 저장하고, 이미 투표한 회원은 Vote.updateVoteType 과 같이 같은 선택지는 취소(null)하고 다른 선택지는 변경한다.
+ * 운영(MySQL)은 INSERT ... ON DUPLICATE KEY UPDATE, 테스트(H2)는 MERGE 를 사용한다.
+ */
+@Repository
+public class VoteUpsertRepository {
+
+    // 행이 없다면 요청한 선택지로 저장하고, 있다면 updated_at 만 바꾸어 행을 잠근다.
+    // votedAt 은 항상 현재 시각이므로, 기존 행이면 영향받은 행 수가 2, 새로 저장했다면 1 이다.
+    private static final String MYSQL_INSERT_IF_ABSENT = """
+            insert into vote (topic_id, voter_id, vote_type, created_at, updated_at)
+            values (:topicId, :voterId, :voteType, :votedAt, :votedAt) as new
+            on duplicate key update updated_at = new.updated_at
+            """;
+
+    // 행이 있다면 아무 것도 바꾸지 않으므로, 새로 저장한 경우에만 영향받은 행 수가 1 이다.
+    private static final String H2_INSERT_IF_ABSENT = """
+            merge into vote v
+            using (select cast(:topicId as bigint) as topic_id,
+                          cast(:voterId as bigint) as voter_id,
+                          cast(:voteType as tinyint) as vote_type,
+                          cast(:votedAt as timestamp) as voted_at) s
+            on v.topic_id = s.topic_id and v.voter_id = s.voter_id
+            when not matched then insert (topic_id, voter_id, vote_type, created_at, updated_at)
+                values (s.topic_id, s.voter_id, s.vote_type, s.voted_at, s.voted_at)
+            """;
+
+    private static final String FIND_VOTE_TYPE_FOR_UPDATE = """
+            select vote_type from vote
+            where topic_id = :topicId and voter_id = :voterId
+            for update
+            """;
+
+    private static final String TOGGLE_VOTE_TYPE = """
+            update vote
+            set vote_type = case when vote_type = :voteType then null else :voteType end,
+                updated_at = :votedAt
+            where topic_id = :topicId and voter_id = :voterId
+            """;
+
+    private static final String MYSQL_BATCH_SAVE = """
+            insert into vote (topic_id, voter_id, vote_type, created_at, updated_at)
+            values (?, ?, ?, ?, ?) as new
+            on duplicate key update
+                vote_type = new.vote_type,
+                updated_at = new.updated_at
+            """;
+
+    private static final String H2_BATCH_SAVE = """
+            merge into vote v
+            using (select cast(? as bigint) as topic_id,
+                          cast(? as bigint) as voter_id,
+                          cast(? as tinyint) as vote_type,
+                          cast(? as timestamp) as voted_at) s
+            on v.topic_id = s.topic_id and v.voter_id = s.voter_id
+            when matched then update set
+                v.vote_type = s.vote_type,
+                v.updated_at = s.voted_at
+            when not matched then insert (topic_id, voter_id, vote_type, created_at, updated_at)
+                values (s.topic_id, s.voter_id, s.vote_type, s.voted_at, s.voted_at)
+            """;
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean isH2;
+
+    public VoteUpsertRepository(EntityManager em, JdbcTemplate jdbcTemplate) {
+        this.em = em;
+        this.jdbcTemplate = jdbcTemplate;
+        this.isH2 = em.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof H2Dialect;
+    }
+
+    /**
+     * 투표를 토글하고, 반영 전후의 투표 정보를 반환한다.
+     * 처음 투표하는 경우 한 번의 저장으로 끝난다. 이미 투표했다면 저장 시도에서 잠긴 행을 한 번 읽어 토글 결과를 계산한 뒤 바꾸므로,
+     * 같은 회원의 동시 요청도 앞선 요청이 반영된 결과를 이전 상태로 본다.
+     */
+    public VoteToggle upsert(Long topicId, Long voterId, VoteType voteType) {
+        LocalDateTime votedAt = LocalDateTime.now();
+        int inserted = em.createNativeQuery(isH2 ? H2_INSERT_IF_ABSENT : MYSQL_INSERT_IF_ABSENT)
+                .setParameter("topicId", topicId)
+                .setParameter("voterId", voterId)
+                .setParameter("voteType", voteType.ordinal())
+                .setParameter("votedAt", votedAt)
+                .executeUpdate();
+        if (inserted == 1) return new VoteToggle(null, voteType);
+
+        Object before = em.createNativeQuery(FIND_VOTE_TYPE_FOR_UPDATE)
+                .setParameter("topicId", topicId)
+                .setParameter("voterId", voterId)
+                .getSingleResult();
+        VoteType beforeVoteType = before == null ? null : VoteType.values()[((Number) before).intValue()];
+
+        em.createNativeQuery(TOGGLE_VOTE_TYPE)
+                .setParameter("voteType", voteType.ordinal())
+                .setParameter("votedAt", votedAt)
+                .setParameter("topicId", topicId)
+                .setParameter("voterId", voterId)
+                .executeUpdate();
+
+        return new VoteToggle(beforeVoteType, Vote.toggle(beforeVoteType, voteType));
+    }
+
+    /**
+     * 이미 결정된 투표 결과를 JDBC 배치로 한 번에 저장한다. 토글을 적용하지 않으므로 재실행해도 결과가 같다.
+     */
+    public void batchSave(List<VoteState> votes) {
+        Timestamp votedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(isH2 ? H2_BATCH_SAVE : MYSQL_BATCH_SAVE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                VoteState vote = votes.get(i);
+                ps.setLong(1, vote.topicId());
+                ps.setLong(2, vote.voterId());
+                if (vote.voteType() == null) {
+                    ps.setNull(3, Types.TINYINT);
+                } else {
+                    ps.setInt(3, vote.voteType().ordinal());
+                }
+                ps.setTimestamp(4, votedAt);
+                if (!isH2) ps.setTimestamp(5, votedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return votes.size();
+            }
+        });
+    }
+
+    public record VoteToggle(VoteType before, VoteType after) {
+    }
+
+    public record VoteState(Long topicId, Long voterId, VoteType voteType) {
+    }
+}
@@ -24,6 +24,11 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
+@Table(indexes = {
+        @Index(name = "idx_topic_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_topic_is_closed_closed_at", columnList = "is_closed, closed_at"),
+        @Index(name = "idx_topic_category_created_at_id", columnList = "category_id, created_at, id")
+})
 public class Topic extends BaseEntity {
 
     @Column(nullable = false)
@@ -32,7 +37,10 @@ public class Topic extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String description;
 
-    @Column(nullable = false)
+    /**
+     * 조회 수는 TopicViewCountBuffer 가 모아서 반영하므로 변경 감지로 덮어쓰지 않는다.
+     */
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Long viewCount;
 
@@ -49,6 +57,29 @@ public class Topic extends BaseEntity {
     @ColumnDefault("0")
     private Boolean isClosed;
 
+    /**
+     * 집계 컬럼은 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false 로 두고, TopicRepository 의 벌크 연산으로만 갱신한다.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long voteCount;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long firstChoiceCount;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long secondChoiceCount;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long commentCount;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long favoriteCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", referencedColumnName = "id")
     private Member author;
@@ -96,6 +127,11 @@ public class Topic extends BaseEntity {
         this.author = author;
         this.category = category;
         this.viewCount = 0L;
+        this.voteCount = 0L;
+        this.firstChoiceCount = 0L;
+        this.secondChoiceCount = 0L;
+        this.commentCount = 0L;
+        this.favoriteCount = 0L;
     }
 
     public static Topic of(Member author, Category category, List<TopicImage> images, CreateTopicReq req, LocalDateTime now) {
@@ -135,10 +171,6 @@ public class Topic extends BaseEntity {
         votes.add(vote);
     }
 
-    public void addViewCount() {
-        viewCount += 1;
-    }
-
     public void updateCloseStatus() {
         this.isClosed = true;
     }
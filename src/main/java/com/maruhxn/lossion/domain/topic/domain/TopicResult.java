@@ -0,0 +1,66 @@
+package com.maruhxn.lossion.domain.topic.domain;
+
+import com.maruhxn.lossion.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 종료된 주제의 최종 결과 스냅샷. 종료 시점에 한 번 저장된 뒤로는 바뀌지 않는다.
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_topic_result_topic", columnNames = {"topic_id"})
+})
+public class TopicResult extends BaseEntity {
+
+    @Column(name = "topic_id", nullable = false)
+    private Long topicId;
+
+    @Column(nullable = false)
+    private Long firstChoiceCount;
+
+    @Column(nullable = false)
+    private Long secondChoiceCount;
+
+    @Column(nullable = false)
+    private Long participantCount;
+
+    /**
+     * 동률이라면 null
+     */
+    private VoteType winner;
+
+    @ElementCollection
+    @CollectionTable(name = "topic_result_comment", joinColumns = @JoinColumn(name = "topic_result_id"))
+    @OrderColumn(name = "ranking")
+    private List<TopicResultComment> topComments = new ArrayList<>();
+
+    @Builder
+    public TopicResult(Long topicId, Long firstChoiceCount, Long secondChoiceCount, List<TopicResultComment> topComments) {
+        Assert.notNull(topicId, "주제 정보는 필수입니다.");
+        Assert.notNull(firstChoiceCount, "1번 선택지 투표 수는 필수입니다.");
+        Assert.notNull(secondChoiceCount, "2번 선택지 투표 수는 필수입니다.");
+
+        this.topicId = topicId;
+        this.firstChoiceCount = firstChoiceCount;
+        this.secondChoiceCount = secondChoiceCount;
+        this.participantCount = firstChoiceCount + secondChoiceCount;
+        this.winner = firstChoiceCount > secondChoiceCount ? VoteType.FIRST
+                : secondChoiceCount > firstChoiceCount ? VoteType.SECOND
+                : null;
+        if (topComments != null) {
+            this.topComments.addAll(topComments);
+        }
+    }
+}
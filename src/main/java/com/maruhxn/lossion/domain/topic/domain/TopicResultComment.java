@@ -0,0 +1,36 @@
+package com.maruhxn.lossion.domain.topic.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결과 스냅샷에 포함되는 인기 댓글. 이후 댓글이 수정/삭제되어도 종료 시점의 내용을 유지한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TopicResultComment {
+
+    @Column(nullable = false)
+    private Long commentId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String text;
+
+    private String authorName;
+
+    @Column(nullable = false)
+    private Long favoriteCount;
+
+    @Builder
+    public TopicResultComment(Long commentId, String text, String authorName, Long favoriteCount) {
+        this.commentId = commentId;
+        this.text = text;
+        this.authorName = authorName;
+        this.favoriteCount = favoriteCount;
+    }
+}
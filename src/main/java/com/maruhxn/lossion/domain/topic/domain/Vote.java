@@ -3,16 +3,16 @@ package com.maruhxn.lossion.domain.topic.domain;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.topic.dto.request.VoteRequest;
 import com.maruhxn.lossion.global.common.BaseEntity;
-import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.util.Assert;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_vote_topic_voter", columnNames = {"topic_id", "voter_id"})
+})
 public class Vote extends BaseEntity {
 
     private VoteType voteType;
@@ -44,11 +44,14 @@ public class Vote extends BaseEntity {
     }
 
     public void updateVoteType(VoteRequest req) {
-        if (this.getVoteType() != null && this.getVoteType().equals(req.getVoteType())) {
-            this.voteType = null;
-        } else {
-            this.voteType = req.getVoteType();
-        }
+        this.voteType = toggle(this.voteType, req.getVoteType());
+    }
+
+    /**
+     * 기존과 같은 선택지로 투표하면 취소(null)하고, 그렇지 않으면 요청한 선택지로 변경한다.
+     */
+    public static VoteType toggle(VoteType before, VoteType requested) {
+        return before != null && before.equals(requested) ? null : requested;
     }
 
     public void setTopic(Topic topic) {
@@ -17,10 +17,13 @@ public class TopicSearchCond {
     @Size(max = 10, message = "유저명 검색은 최대 10글자입니다.")
     private String author;
 
+    private Long categoryId;
+
     @Builder
-    public TopicSearchCond(String title, String description, String author) {
+    public TopicSearchCond(String title, String description, String author, Long categoryId) {
         this.title = title;
         this.description = description;
         this.author = author;
+        this.categoryId = categoryId;
     }
 }
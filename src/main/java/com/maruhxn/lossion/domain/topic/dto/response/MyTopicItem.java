@@ -38,5 +38,21 @@ public class MyTopicItem {
         this.isClosed = isClosed;
     }
 
+    private MyTopicItem(MyTopicItem source, Long voteCount) {
+        this.topicId = source.topicId;
+        this.categoryItem = source.categoryItem;
+        this.title = source.title;
+        this.viewCount = source.viewCount;
+        this.commentCount = source.commentCount;
+        this.favoriteCount = source.favoriteCount;
+        this.voteCount = voteCount;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.closedAt = source.closedAt;
+        this.isClosed = source.isClosed;
+    }
 
+    public MyTopicItem withVoteCount(Long voteCount) {
+        return new MyTopicItem(this, voteCount);
+    }
 }
@@ -4,7 +4,6 @@ import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.topic.domain.Category;
 import com.maruhxn.lossion.domain.topic.domain.Topic;
 import com.maruhxn.lossion.domain.topic.domain.TopicImage;
-import com.maruhxn.lossion.domain.topic.domain.Vote;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,6 +13,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 주제 상세 정보. 상세 캐시에 담겨 여러 요청이 함께 읽으므로 만든 뒤에는 바꾸지 않으며,
+ * 집계나 이미지를 채울 때는 with 메서드로 새 객체를 만든다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TopicDetailItem {
@@ -35,8 +38,7 @@ public class TopicDetailItem {
     private List<TopicImageItem> images;
 
     @Builder
-    @QueryProjection
-    public TopicDetailItem(Long topicId, Category category, String title, String description, String firstChoice, String secondChoice, Member author, Long viewCount, Long commentCount, Long favoriteCount, List<Vote> votes, Boolean isClosed, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime closedAt, List<TopicImage> images) {
+    public TopicDetailItem(Long topicId, Category category, String title, String description, String firstChoice, String secondChoice, Member author, Long viewCount, Long commentCount, Long favoriteCount, VoteCountInfo voteCountInfo, Boolean isClosed, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime closedAt, List<TopicImage> images) {
         this.topicId = topicId;
         this.categoryItem = CategoryItem.from(category);
         this.title = title;
@@ -47,16 +49,62 @@ public class TopicDetailItem {
         this.viewCount = viewCount;
         this.commentCount = commentCount;
         this.favoriteCount = favoriteCount;
-        this.voteCountInfo = VoteCountInfo.from(votes);
+        this.voteCountInfo = voteCountInfo;
         this.isClosed = isClosed;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.closedAt = closedAt;
-        this.images = images.stream()
+        this.images = images == null ? List.of() : images.stream()
                 .map(TopicImageItem::from)
                 .toList();
     }
 
+    /**
+     * 상세 조회용 프로젝션. 자식 엔티티를 불러오지 않고 주제의 집계 컬럼을 그대로 사용하며, 이미지는 별도로 채운다.
+     */
+    @QueryProjection
+    public TopicDetailItem(Long topicId, Category category, String title, String description, String firstChoice, String secondChoice, Member author, Long viewCount, Long commentCount, Long favoriteCount, Long voteCount, Long firstChoiceCount, Long secondChoiceCount, Boolean isClosed, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime closedAt) {
+        this(topicId, category, title, description, firstChoice, secondChoice, author, viewCount, commentCount, favoriteCount,
+                VoteCountInfo.builder()
+                        .voteCount(voteCount)
+                        .firstChoiceCount(firstChoiceCount)
+                        .secondChoiceCount(secondChoiceCount)
+                        .build(),
+                isClosed, createdAt, updatedAt, closedAt, null);
+    }
+
+    private TopicDetailItem(TopicDetailItem source, Long viewCount, VoteCountInfo voteCountInfo, List<TopicImageItem> images) {
+        this.topicId = source.topicId;
+        this.categoryItem = source.categoryItem;
+        this.title = source.title;
+        this.description = source.description;
+        this.firstChoice = source.firstChoice;
+        this.secondChoice = source.secondChoice;
+        this.author = source.author;
+        this.viewCount = viewCount;
+        this.commentCount = source.commentCount;
+        this.favoriteCount = source.favoriteCount;
+        this.voteCountInfo = voteCountInfo;
+        this.isClosed = source.isClosed;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.closedAt = source.closedAt;
+        this.images = images;
+    }
+
+    public TopicDetailItem withViewCount(Long viewCount) {
+        return new TopicDetailItem(this, viewCount, voteCountInfo, images);
+    }
+
+    public TopicDetailItem withVoteCountInfo(VoteCountInfo voteCountInfo) {
+        return new TopicDetailItem(this, viewCount, voteCountInfo, images);
+    }
+
+    public TopicDetailItem withImages(List<TopicImage> images) {
+        return new TopicDetailItem(this, viewCount, voteCountInfo, images.stream()
+                .map(TopicImageItem::from)
+                .toList());
+    }
 
     public static TopicDetailItem from(Topic topic) {
         return TopicDetailItem.builder()
@@ -65,10 +113,10 @@ public class TopicDetailItem {
                 .description(topic.getDescription())
                 .firstChoice(topic.getFirstChoice())
                 .secondChoice(topic.getSecondChoice())
-                .commentCount((long) topic.getComments().size())
+                .commentCount(topic.getCommentCount())
                 .viewCount(topic.getViewCount())
-                .favoriteCount((long) topic.getFavorites().size())
-                .votes(topic.getVotes())
+                .favoriteCount(topic.getFavoriteCount())
+                .voteCountInfo(VoteCountInfo.from(topic))
                 .images(topic.getImages())
                 .isClosed(topic.getIsClosed())
                 .createdAt(topic.getCreatedAt())
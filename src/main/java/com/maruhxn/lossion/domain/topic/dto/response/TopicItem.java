@@ -42,16 +42,37 @@ public class TopicItem {
         this.isClosed = isClosed;
     }
 
+    private TopicItem(TopicItem source, Long voteCount) {
+        this.topicId = source.topicId;
+        this.categoryItem = source.categoryItem;
+        this.title = source.title;
+        this.viewCount = source.viewCount;
+        this.voteCount = voteCount;
+        this.author = source.author;
+        this.commentCount = source.commentCount;
+        this.favoriteCount = source.favoriteCount;
+        this.createdAt = source.createdAt;
+        this.closedAt = source.closedAt;
+        this.isClosed = source.isClosed;
+    }
+
+    /**
+     * 캐시에 담긴 항목을 여러 요청이 함께 읽으므로, 투표 수를 바꿀 때는 새 객체를 만든다.
+     */
+    public TopicItem withVoteCount(Long voteCount) {
+        return new TopicItem(this, voteCount);
+    }
+
     public static TopicItem from(Topic topic) {
         return TopicItem.builder()
                 .topicId(topic.getId())
                 .category(topic.getCategory())
                 .title(topic.getTitle())
                 .viewCount(topic.getViewCount())
-                .voteCount((long) topic.getVotes().size())
+                .voteCount(topic.getVoteCount())
                 .author(topic.getAuthor())
-                .commentCount((long) topic.getComments().size())
-                .favoriteCount((long) topic.getFavorites().size())
+                .commentCount(topic.getCommentCount())
+                .favoriteCount(topic.getFavoriteCount())
                 .createdAt(topic.getCreatedAt())
                 .closedAt(topic.getClosedAt())
                 .isClosed(topic.getIsClosed())
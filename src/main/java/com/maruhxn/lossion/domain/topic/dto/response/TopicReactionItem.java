@@ -0,0 +1,25 @@
+package com.maruhxn.lossion.domain.topic.dto.response;
+
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주제에 대한 본인의 투표 결과(투표하지 않았다면 null)와 좋아요 여부
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TopicReactionItem {
+    private Long topicId;
+    private VoteType voteType;
+    private Boolean isFavorite;
+
+    @Builder
+    public TopicReactionItem(Long topicId, VoteType voteType, Boolean isFavorite) {
+        this.topicId = topicId;
+        this.voteType = voteType;
+        this.isFavorite = isFavorite;
+    }
+}
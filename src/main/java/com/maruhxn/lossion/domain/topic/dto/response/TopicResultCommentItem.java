@@ -0,0 +1,33 @@
+package com.maruhxn.lossion.domain.topic.dto.response;
+
+import com.maruhxn.lossion.domain.topic.domain.TopicResultComment;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TopicResultCommentItem {
+    private Long commentId;
+    private String text;
+    private String authorName;
+    private Long favoriteCount;
+
+    @Builder
+    public TopicResultCommentItem(Long commentId, String text, String authorName, Long favoriteCount) {
+        this.commentId = commentId;
+        this.text = text;
+        this.authorName = authorName;
+        this.favoriteCount = favoriteCount;
+    }
+
+    public static TopicResultCommentItem from(TopicResultComment comment) {
+        return TopicResultCommentItem.builder()
+                .commentId(comment.getCommentId())
+                .text(comment.getText())
+                .authorName(comment.getAuthorName())
+                .favoriteCount(comment.getFavoriteCount())
+                .build();
+    }
+}
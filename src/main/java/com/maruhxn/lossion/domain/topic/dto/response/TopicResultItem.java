@@ -0,0 +1,59 @@
+package com.maruhxn.lossion.domain.topic.dto.response;
+
+import com.maruhxn.lossion.domain.topic.domain.TopicResult;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 종료된 주제의 최종 결과. 승자는 동률이라면 null 이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TopicResultItem {
+    private Long topicId;
+    private Long firstChoiceCount;
+    private Long secondChoiceCount;
+    private Long participantCount;
+    private VoteType winner;
+    private List<TopicResultCommentItem> topComments;
+    private LocalDateTime finalizedAt;
+
+    @Builder
+    public TopicResultItem(Long topicId, Long firstChoiceCount, Long secondChoiceCount, Long participantCount, VoteType winner, List<TopicResultCommentItem> topComments, LocalDateTime finalizedAt) {
+        this.topicId = topicId;
+        this.firstChoiceCount = firstChoiceCount;
+        this.secondChoiceCount = secondChoiceCount;
+        this.participantCount = participantCount;
+        this.winner = winner;
+        this.topComments = topComments;
+        this.finalizedAt = finalizedAt;
+    }
+
+    public static TopicResultItem from(TopicResult topicResult) {
+        return TopicResultItem.builder()
+                .topicId(topicResult.getTopicId())
+                .firstChoiceCount(topicResult.getFirstChoiceCount())
+                .secondChoiceCount(topicResult.getSecondChoiceCount())
+                .participantCount(topicResult.getParticipantCount())
+                .winner(topicResult.getWinner())
+                .topComments(topicResult.getTopComments().stream()
+                        .map(TopicResultCommentItem::from)
+                        .toList())
+                .finalizedAt(topicResult.getCreatedAt())
+                .build();
+    }
+
+    public VoteCountInfo toVoteCountInfo() {
+        return VoteCountInfo.builder()
+                .voteCount(participantCount)
+                .firstChoiceCount(firstChoiceCount)
+                .secondChoiceCount(secondChoiceCount)
+                .build();
+    }
+}
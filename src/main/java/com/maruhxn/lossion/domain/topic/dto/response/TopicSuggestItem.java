@@ -0,0 +1,22 @@
+package com.maruhxn.lossion.domain.topic.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제목 자동완성 결과
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TopicSuggestItem {
+    private Long topicId;
+    private String title;
+
+    @Builder
+    public TopicSuggestItem(Long topicId, String title) {
+        this.topicId = topicId;
+        this.title = title;
+    }
+}
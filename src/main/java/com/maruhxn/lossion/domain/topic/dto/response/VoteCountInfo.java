@@ -1,14 +1,11 @@
 package com.maruhxn.lossion.domain.topic.dto.response;
 
-import com.maruhxn.lossion.domain.topic.domain.Vote;
-import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.domain.Topic;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class VoteCountInfo {
@@ -23,17 +20,11 @@ public class VoteCountInfo {
         this.secondChoiceCount = secondChoiceCount;
     }
 
-    public static VoteCountInfo from(List<Vote> votes) {
+    public static VoteCountInfo from(Topic topic) {
         return VoteCountInfo.builder()
-                .voteCount((long) votes.size())
-                .firstChoiceCount(countVoteType(votes, VoteType.FIRST))
-                .secondChoiceCount(countVoteType(votes, VoteType.SECOND))
+                .voteCount(topic.getVoteCount())
+                .firstChoiceCount(topic.getFirstChoiceCount())
+                .secondChoiceCount(topic.getSecondChoiceCount())
                 .build();
     }
-
-    private static long countVoteType(List<Vote> votes, VoteType voteType) {
-        return votes.stream()
-                .filter(vote -> vote.getVoteType() != null && vote.getVoteType().equals(voteType))
-                .count();
-    }
 }
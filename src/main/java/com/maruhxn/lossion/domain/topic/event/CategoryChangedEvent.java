@@ -0,0 +1,7 @@
+package com.maruhxn.lossion.domain.topic.event;
+
+/**
+ * 카테고리가 생성, 수정 또는 삭제되었음을 알린다.
+ */
+public class CategoryChangedEvent {
+}
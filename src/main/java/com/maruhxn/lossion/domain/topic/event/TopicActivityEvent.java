@@ -0,0 +1,28 @@
+package com.maruhxn.lossion.domain.topic.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 주제 순위에 반영되는 활동(투표, 댓글, 좋아요, 조회)이 일어났음을 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TopicActivityEvent {
+    private final Long topicId;
+    private final ActivityType activityType;
+
+    /**
+     * 활동 종류별 점수 가중치
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum ActivityType {
+        VOTE(1.0),
+        COMMENT(3.0),
+        FAVORITE(2.0),
+        VIEW(0.1);
+
+        private final double weight;
+    }
+}
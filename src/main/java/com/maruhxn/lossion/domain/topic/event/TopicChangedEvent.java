@@ -0,0 +1,13 @@
+package com.maruhxn.lossion.domain.topic.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주제 상세 응답에 영향을 주는 변경(주제 수정/삭제, 투표, 좋아요, 댓글 등)이 발생했음을 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TopicChangedEvent {
+    private final Long topicId;
+}
@@ -0,0 +1,16 @@
+package com.maruhxn.lossion.domain.topic.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주제 생성 또는 수정으로 투표 종료 시각이 정해졌음을 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TopicClosedAtChangedEvent {
+    private final Long topicId;
+    private final LocalDateTime closedAt;
+}
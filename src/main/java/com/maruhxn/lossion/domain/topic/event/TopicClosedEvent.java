@@ -0,0 +1,13 @@
+package com.maruhxn.lossion.domain.topic.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주제의 투표가 종료되었음을 알린다. 작성자가 직접 종료한 경우와 종료 시각이 되어 자동으로 종료된 경우 모두 발행된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TopicClosedEvent {
+    private final Long topicId;
+}
@@ -0,0 +1,28 @@
+package com.maruhxn.lossion.domain.topic.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 영향을 주는 주제의 제목/내용 변경(생성, 수정, 삭제)을 알린다. 삭제된 경우 제목, 내용, 생성 시각은 null 이다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TopicContentChangedEvent {
+    private final Long topicId;
+    private final String title;
+    private final String description;
+    private final LocalDateTime createdAt;
+    private final boolean deleted;
+
+    public static TopicContentChangedEvent saved(Long topicId, String title, String description, LocalDateTime createdAt) {
+        return new TopicContentChangedEvent(topicId, title, description, createdAt, false);
+    }
+
+    public static TopicContentChangedEvent deleted(Long topicId) {
+        return new TopicContentChangedEvent(topicId, null, null, null, true);
+    }
+}
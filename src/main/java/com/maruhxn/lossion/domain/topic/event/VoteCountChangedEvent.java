@@ -0,0 +1,16 @@
+package com.maruhxn.lossion.domain.topic.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 투표로 인해 주제의 투표 집계가 변한 양을 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class VoteCountChangedEvent {
+    private final Long topicId;
+    private final long voteCountDelta;
+    private final long firstChoiceCountDelta;
+    private final long secondChoiceCountDelta;
+}
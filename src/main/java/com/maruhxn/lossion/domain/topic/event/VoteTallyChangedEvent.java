@@ -0,0 +1,18 @@
+package com.maruhxn.lossion.domain.topic.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메모리 집계(VoteTallyEngine)에 반영된 변화량과, 반영된 순서를 나타내는 순번을 알린다.
+ * 순번은 VoteTallyEngine.TallySnapshot 의 순번과 비교할 수 있으며, 스냅샷 순번 이하의 변화량은 이미 스냅샷에 포함되어 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class VoteTallyChangedEvent {
+    private final Long topicId;
+    private final long sequence;
+    private final long voteCountDelta;
+    private final long firstChoiceCountDelta;
+    private final long secondChoiceCountDelta;
+}
@@ -0,0 +1,108 @@
+package com.maruhxn.lossion.global.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록.
+ * SecurityConfig 의 permitAll 설정과 JwtAuthorizationFilter 가 같은 목록을 사용한다.
+ * 필터는 공개 경로에서도 토큰이 있으면 로그인 정보를 붙이지만, 토큰이 유효하지 않다고 요청을 거절하지는 않는다.
+ * 필터에서는 요청마다 경로를 파싱하지 않도록, 미리 세그먼트로 나눠 둔 패턴과 경로 문자열을 바로 비교한다.
+ * 패턴은 고정 세그먼트, 한 세그먼트에 대응하는 {변수}, 마지막에 오는 ** 만 사용한다.
+ */
+public final class PublicEndpoints {
+
+    public static final String[] PERMIT_ALL = {
+            "/",
+            "/test/**",
+            "/docs/**",
+            "/login/oauth2/**",
+            "/api/auth/sign-up",
+            "/api/auth/refresh",
+            "/api/auth/anonymous/send-verify-email",
+            "/api/auth/anonymous/get-token",
+            "/api/auth/anonymous/password",
+            "/api/categories"
+    };
+
+    public static final String[] PERMIT_ALL_GET = {
+            "/api/categories",
+            "/api/topics",
+            "/api/topics/suggest",
+            "/api/topics/trending",
+            "/api/topics/{topicId}",
+            "/api/topics/{topicId}/result",
+            "/api/topics/{topicId}/votes/stream",
+            "/api/topics/{topicId}/comments",
+            "/api/topics/{topicId}/comments/groups",
+            "/api/topics/{topicId}/comments/groups/{groupId}",
+            "/api/files",
+            "/api/files/**"
+    };
+
+    /**
+     * 공개 GET 패턴과 겹치지만 로그인 정보가 필요한 경로
+     */
+    public static final String[] AUTHENTICATED_GET = {
+            "/api/topics/my",
+            "/api/topics/reactions"
+    };
+
+    private static final String[][] PERMIT_ALL_PATTERNS = compile(PERMIT_ALL);
+    private static final String[][] PERMIT_ALL_GET_PATTERNS = compile(PERMIT_ALL_GET);
+    private static final String[][] AUTHENTICATED_GET_PATTERNS = compile(AUTHENTICATED_GET);
+
+    private PublicEndpoints() {
+    }
+
+    public static boolean isPublic(HttpServletRequest request) {
+        String path = request.getServletPath();
+
+        if (matchesAny(PERMIT_ALL_PATTERNS, path)) return true;
+
+        return HttpMethod.GET.matches(request.getMethod())
+                && matchesAny(PERMIT_ALL_GET_PATTERNS, path)
+                && !matchesAny(AUTHENTICATED_GET_PATTERNS, path);
+    }
+
+    private static boolean matchesAny(String[][] patterns, String path) {
+        for (String[] pattern : patterns) {
+            if (matches(pattern, path)) return true;
+        }
+        return false;
+    }
+
+    private static boolean matches(String[] segments, String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') return false;
+
+        int start = 1;
+        for (String segment : segments) {
+            // ** 는 남은 세그먼트가 없는 경우까지 포함해 나머지 경로 전체에 대응한다.
+            if (segment.equals("**")) return true;
+            if (start > path.length()) return false;
+
+            int end = path.indexOf('/', start);
+            if (end < 0) end = path.length();
+            int length = end - start;
+            if (isVariable(segment)) {
+                if (length == 0) return false;
+            } else if (length != segment.length() || !path.regionMatches(start, segment, 0, length)) {
+                return false;
+            }
+            start = end + 1;
+        }
+        return start == path.length() + 1;
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static String[][] compile(String[] patterns) {
+        String[][] compiled = new String[patterns.length][];
+        for (int i = 0; i < patterns.length; i++) {
+            compiled[i] = patterns[i].substring(1).split("/", -1);
+        }
+        return compiled;
+    }
+}
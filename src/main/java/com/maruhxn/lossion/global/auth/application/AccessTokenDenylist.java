@@ -0,0 +1,108 @@
+package com.maruhxn.lossion.global.auth.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그아웃으로 폐기된 access token 의 jti 목록. 각 항목은 토큰의 만료 시각(exp)까지만 유지된다.
+ * 대부분의 요청은 폐기되지 않은 토큰이므로, Bloom filter 로 먼저 걸러내고 양성일 때만 정확한 저장소를 조회한다.
+ * <p>
+ * 목록은 프로세스 메모리에만 있으므로 단일 인스턴스 배포를 전제로 한다. 여러 인스턴스로 실행하면 로그아웃을 처리한 인스턴스에서만
+ * 토큰이 거부되고, 다른 인스턴스에서는 만료 시각(jwt.expiration)까지 계속 사용할 수 있다. 재시작하면 목록도 비워진다.
+ * 여러 인스턴스로 늘릴 때는 RefreshTokenStore 처럼 공유 저장소 구현을 두고, Bloom filter 는 그 저장소에서 다시 만들어야 한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+    private static final int HASH_COUNT = 7;
+
+    private final int bitSize;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public AccessTokenDenylist(@Value("${auth.access-token-denylist.expected-insertions:100000}") int expectedInsertions) {
+        // 해시 7개 기준 오탐률 약 1% 가 되도록 삽입 예상 개수당 10비트를 할당한다.
+        this.bitSize = Math.max(expectedInsertions, 1) * 10;
+        this.filter = new BloomFilter(bitSize);
+    }
+
+    public synchronized void revoke(String jti, Date expiration) {
+        if (jti == null || expiration == null) return;
+        revoked.put(jti, expiration.getTime());
+        filter.add(jti);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) return false;
+
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 만료된 항목을 제거하고, 남은 항목으로 Bloom filter 를 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${auth.access-token-denylist.sweep-interval:600000}")
+    public synchronized void sweepExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        BloomFilter rebuilt = new BloomFilter(bitSize);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        log.debug("폐기된 access token 정리 완료 | remaining={}", revoked.size());
+    }
+
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final int bitSize;
+
+        private BloomFilter(int bitSize) {
+            this.bits = new AtomicLongArray((bitSize + 63) / 64);
+            this.bitSize = bitSize;
+        }
+
+        private void add(String key) {
+            int h1 = key.hashCode();
+            int h2 = secondaryHash(key);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                int index = indexOf(h1 + i * h2);
+                long mask = 1L << index;
+                bits.getAndUpdate(index >>> 6, word -> word | mask);
+            }
+        }
+
+        private boolean mightContain(String key) {
+            int h1 = key.hashCode();
+            int h2 = secondaryHash(key);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                int index = indexOf(h1 + i * h2);
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) return false;
+            }
+            return true;
+        }
+
+        private int indexOf(int hash) {
+            return (hash & Integer.MAX_VALUE) % bitSize;
+        }
+
+        // 문자열을 새로 할당하지 않고 FNV-1a 로 두 번째 해시를 계산한다.
+        private static int secondaryHash(String key) {
+            int hash = 0x811c9dc5;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x01000193;
+            }
+            return hash | 1;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.maruhxn.lossion.global.auth.application;
 
-import com.maruhxn.lossion.domain.auth.dao.RefreshTokenRepository;
-import com.maruhxn.lossion.domain.auth.domain.RefreshToken;
+import com.maruhxn.lossion.domain.auth.dao.RefreshTokenStore;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.global.auth.dto.JwtMemberInfo;
@@ -9,13 +8,14 @@ import com.maruhxn.lossion.global.auth.dto.TokenDto;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import com.maruhxn.lossion.global.error.exception.UnauthorizedException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.Date;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -23,21 +23,13 @@ import java.util.Optional;
 public class JwtService {
 
     private final JwtUtils jwtUtils;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final MemberRepository memberRepository;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     public void saveRefreshToken(JwtMemberInfo jwtMemberInfo, TokenDto tokenDto) {
-        Optional<RefreshToken> refreshToken = refreshTokenRepository.findByAccountId(jwtMemberInfo.getAccountId());
-        refreshToken.ifPresentOrElse(
-                // 있다면 새토큰 발급후 업데이트
-                token -> {
-                    token.updateToken(tokenDto.getRefreshToken());
-                },
-                // 없다면 새로 만들고 DB에 저장
-                () -> {
-                    RefreshToken newToken = new RefreshToken(tokenDto.getRefreshToken(), jwtMemberInfo.getAccountId());
-                    refreshTokenRepository.save(newToken);
-                });
+        // 계정당 하나의 refresh token 만 유지하며, 기존 토큰은 교체된다.
+        refreshTokenStore.save(jwtMemberInfo.getAccountId(), tokenDto.getRefreshToken(), jwtUtils.getRefreshTokenTtl());
     }
 
     public TokenDto refresh(
@@ -50,10 +42,10 @@ public class JwtService {
             throw new UnauthorizedException(ErrorCode.INVALID_TOKEN);
         }
 
-        RefreshToken findRefreshToken = refreshTokenRepository.findByRefreshToken(refreshToken)
+        String accountId = refreshTokenStore.findAccountIdByRefreshToken(refreshToken)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_REFRESH_TOKEN));
 
-        Member findMember = memberRepository.findByAccountId(findRefreshToken.getAccountId())
+        Member findMember = memberRepository.findByAccountId(accountId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
 
         // access token 과 refresh token 모두를 재발급
@@ -73,10 +65,21 @@ public class JwtService {
         return tokenDto;
     }
 
-    public void logout(String bearerRefreshToken) {
+    /**
+     * 두 토큰을 모두 검증한 뒤에 refresh token 을 지우고 access token 을 폐기하므로, 유효하지 않은 토큰이면 아무 것도 바뀌지 않는다.
+     * 만료된 토큰이라도 로그아웃할 수 있으며, 이미 만료된 access token 은 폐기하지 않는다.
+     */
+    public void logout(String bearerAccessToken, String bearerRefreshToken) {
         String refreshToken = jwtUtils.getBearerTokenToString(bearerRefreshToken);
-        String accountId = jwtUtils.getPayload(refreshToken).getSubject();
-        refreshTokenRepository.deleteAllByAccountId(accountId);
-        // TODO: 블랙리스트 처리하여, 이미 삭제된 accessToken으로는 로그인을 할 수 없게 처리. -> Redis 혹은 DB에 accessToken을 저장해야함.
+        String accessToken = jwtUtils.getBearerTokenToString(bearerAccessToken);
+        String accountId = jwtUtils.verifyIgnoringExpiration(refreshToken).getSubject();
+        Claims accessClaims = StringUtils.hasText(accessToken) ? jwtUtils.verifyIgnoringExpiration(accessToken) : null;
+
+        refreshTokenStore.deleteAllByAccountId(accountId);
+
+        // 로그아웃한 access token 은 만료 시각까지 사용할 수 없도록 폐기한다.
+        if (accessClaims != null && accessClaims.getExpiration().after(new Date())) {
+            accessTokenDenylist.revoke(accessClaims.getId(), accessClaims.getExpiration());
+        }
     }
 }
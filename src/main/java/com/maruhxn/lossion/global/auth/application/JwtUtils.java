@@ -3,6 +3,9 @@ package com.maruhxn.lossion.global.auth.application;
 import com.maruhxn.lossion.global.auth.dto.JwtMemberInfo;
 import com.maruhxn.lossion.global.auth.dto.TokenDto;
 import com.maruhxn.lossion.global.error.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,7 +15,13 @@ import org.springframework.util.StringUtils;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static com.maruhxn.lossion.global.common.Constants.*;
 
@@ -26,14 +35,40 @@ public class JwtUtils {
     private Long refreshTokenExpiration;
     private SecretKey secretKey;
     private JwtParser jwtParser;
-    public static String ID_CLAIM = "id";
-    public static String ACCOUNT_ID_CLAIM = "accountId";
+    public static final String ACCOUNT_ID_CLAIM = "accountId";
+
+    private static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    /**
+     * 서명 검증을 마친 토큰의 해시와 claims. 각 항목은 토큰의 만료 시각(exp)에 함께 만료된다.
+     */
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtUtils(@Value("${jwt.secret-key}") String secret) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
         this.jwtParser = Jwts.parser()
                 .verifyWith(secretKey)
                 .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public TokenDto createJwt(JwtMemberInfo jwtMemberInfo) {
@@ -56,8 +91,13 @@ public class JwtUtils {
                 .compact();
     }
 
+    public Duration getRefreshTokenTtl() {
+        return Duration.ofMillis(refreshTokenExpiration);
+    }
+
     public String generateAccessToken(JwtMemberInfo jwtMemberInfo, Date now) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(jwtMemberInfo.getId()))
                 .claim(ACCOUNT_ID_CLAIM, jwtMemberInfo.getAccountId())
                 .issuedAt(now)
@@ -72,24 +112,66 @@ public class JwtUtils {
                 .getPayload();
     }
 
-    public Long getId(String token) {
-        return getPayload(token).get(ID_CLAIM, Long.class);
+    public Long getId(Claims claims) {
+        // access token 은 회원 id 를 subject 로 발급한다. refresh token 처럼 subject 가 id 가 아닌 토큰은 유효하지 않은 토큰으로 본다.
+        try {
+            return Long.valueOf(claims.getSubject());
+        } catch (NumberFormatException e) {
+            throw new JwtException(ErrorCode.INVALID_TOKEN.getMessage());
+        }
     }
 
-    public String getAccountId(String token) {
-        return getPayload(token).get(ACCOUNT_ID_CLAIM, String.class);
+    public String getAccountId(Claims claims) {
+        return claims.get(ACCOUNT_ID_CLAIM, String.class);
     }
 
-    public boolean validate(String token) {
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 만료를 검증하고 claims 를 반환한다.
+     * 최근에 검증한 토큰은 캐시된 claims 를 그대로 사용하여 서명 검증을 생략한다.
+     */
+    public Claims verify(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) return cached;
+
         try {
-            return getPayload(token)
-                    .getExpiration()
-                    .after(new Date());
+            Claims claims = getPayload(token);
+            verifiedTokens.put(digest, claims);
+            return claims;
         } catch (SecurityException | MalformedJwtException | ExpiredJwtException | UnsupportedJwtException e) {
             throw new JwtException(ErrorCode.INVALID_TOKEN.getMessage());
         }
     }
 
+    /**
+     * 서명은 검증하되, 만료된 토큰이라도 claims 를 반환한다.
+     * 로그아웃처럼 만료 여부와 관계없이 토큰의 주인을 확인해야 할 때 사용하며, 결과는 캐시하지 않는다.
+     */
+    public Claims verifyIgnoringExpiration(String token) {
+        try {
+            return getPayload(token);
+        } catch (ExpiredJwtException e) {
+            return e.getClaims();
+        } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
+            throw new JwtException(ErrorCode.INVALID_TOKEN.getMessage());
+        }
+    }
+
+    public boolean validate(String token) {
+        return verify(token)
+                .getExpiration()
+                .after(new Date());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 
     public String getBearerTokenToString(String bearerToken) {
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
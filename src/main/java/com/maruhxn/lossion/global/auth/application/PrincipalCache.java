@@ -0,0 +1,101 @@
+package com.maruhxn.lossion.global.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.member.domain.OAuthProvider;
+import com.maruhxn.lossion.domain.member.domain.Role;
+import com.maruhxn.lossion.domain.member.event.MemberChangedEvent;
+import com.maruhxn.lossion.global.auth.dto.CustomUserDetails;
+import com.maruhxn.lossion.global.auth.dto.JwtMemberInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인가 필터에서 요청마다 회원을 조회하지 않도록 회원 id 별 인증 주체를 짧게 캐싱한다.
+ * 회원 정보가 바뀌면 서비스가 발행하는 MemberChangedEvent 를 커밋 이후에 받아 무효화한다.
+ * <p>
+ * 요청 간에 Member 엔티티를 공유하지 않도록 회원 정보는 불변 스냅샷으로 저장하고, 요청마다 새 인증 주체를 만들어 반환한다.
+ */
+@Component
+public class PrincipalCache {
+
+    public static final String CACHE_NAME = "principal";
+
+    private final Cache<Long, PrincipalSnapshot> cache;
+
+    public PrincipalCache(
+            @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+            @Value("${auth.principal-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 주체의 accountId 가 토큰과 다르면(아이디가 변경된 경우 등) 캐시를 버리고 다시 불러온다.
+     */
+    public UserDetails get(JwtMemberInfo jwtMemberInfo, Function<String, UserDetails> loader) {
+        Long memberId = jwtMemberInfo.getId();
+        String accountId = jwtMemberInfo.getAccountId();
+
+        PrincipalSnapshot cached = cache.getIfPresent(memberId);
+        if (cached != null && cached.accountId().equals(accountId)) {
+            return cached.toUserDetails();
+        }
+
+        UserDetails loaded = loader.apply(accountId);
+        if (loaded instanceof CustomUserDetails userDetails && userDetails.getId().equals(memberId)) {
+            cache.put(memberId, PrincipalSnapshot.from(userDetails.getMember()));
+        }
+        return loaded;
+    }
+
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        evict(event.getMemberId());
+    }
+
+    private record PrincipalSnapshot(Long id, String accountId, String email, String username, String password,
+                                     String profileImage, Boolean isVerified, OAuthProvider provider, String snsId,
+                                     Role role) {
+
+        private static PrincipalSnapshot from(Member member) {
+            return new PrincipalSnapshot(member.getId(), member.getAccountId(), member.getEmail(), member.getUsername(),
+                    member.getPassword(), member.getProfileImage(), member.getIsVerified(), member.getProvider(),
+                    member.getSnsId(), member.getRole());
+        }
+
+        private CustomUserDetails toUserDetails() {
+            Member member = Member.builder()
+                    .id(id)
+                    .accountId(accountId)
+                    .email(email)
+                    .username(username)
+                    .password(password)
+                    .profileImage(profileImage)
+                    .isVerified(isVerified)
+                    .provider(provider)
+                    .snsId(snsId)
+                    .build();
+            member.setRole(role);
+            return new CustomUserDetails(member);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.maruhxn.lossion.global.auth.dto;
 
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.global.auth.application.JwtUtils;
+import io.jsonwebtoken.Claims;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -22,10 +23,10 @@ public class JwtMemberInfo {
                 .build();
     }
 
-    public static JwtMemberInfo of(JwtUtils jwtUtils, String token) {
+    public static JwtMemberInfo of(JwtUtils jwtUtils, Claims claims) {
         return JwtMemberInfo.builder()
-                .id(jwtUtils.getId(token))
-                .accountId(jwtUtils.getAccountId(token))
+                .id(jwtUtils.getId(claims))
+                .accountId(jwtUtils.getAccountId(claims))
                 .build();
     }
 
@@ -1,40 +1,36 @@
 package com.maruhxn.lossion.global.auth.filter;
 
+import com.maruhxn.lossion.global.auth.PublicEndpoints;
+import com.maruhxn.lossion.global.auth.application.AccessTokenDenylist;
 import com.maruhxn.lossion.global.auth.application.JwtUserDetailsService;
 import com.maruhxn.lossion.global.auth.application.JwtUtils;
+import com.maruhxn.lossion.global.auth.application.PrincipalCache;
 import com.maruhxn.lossion.global.auth.dto.JwtMemberInfo;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 import static com.maruhxn.lossion.global.common.Constants.ACCESS_TOKEN_HEADER;
 
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
-    private static final List<String> EXCLUDE_URL =
-            List.of(
-                    "/",
-                    "/test/**",
-                    "/api/auth/sign-up",
-                    "/api/auth/refresh",
-                    "/api/auth/anonymous/send-verify-email",
-                    "/api/auth/anonymous/get-token",
-                    "/api/auth/anonymous/password",
-                    "/api/categories"
-            );
-
     private final JwtUtils jwtUtils;
     private final JwtUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -44,14 +40,35 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         // 토큰 추출
         String token = jwtUtils.getBearerTokenToString(authorization);
 
-        if (!StringUtils.hasText(token) || !jwtUtils.validate(token)) {
+        if (!StringUtils.hasText(token)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 공개 경로는 토큰이 있을 때 로그인 정보만 붙이고, 만료되었거나 유효하지 않은 토큰이어도 거절하지 않는다.
+        if (PublicEndpoints.isPublic(request)) {
+            try {
+                authenticate(token);
+            } catch (JwtException | AuthenticationException e) {
+                SecurityContextHolder.clearContext();
+            }
             filterChain.doFilter(request, response);
             return;
         }
 
-        // 토큰에서 정보 추출
-        JwtMemberInfo jwtMemberInfo = JwtMemberInfo.of(jwtUtils, token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(jwtMemberInfo.getAccountId());
+        authenticate(token);
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token) {
+        // 토큰 검증 및 정보 추출
+        Claims claims = jwtUtils.verify(token);
+        if (accessTokenDenylist.isRevoked(claims.getId())) {
+            throw new JwtException(ErrorCode.INVALID_TOKEN.getMessage());
+        }
+        JwtMemberInfo jwtMemberInfo = JwtMemberInfo.of(jwtUtils, claims);
+        UserDetails userDetails = principalCache.get(jwtMemberInfo, userDetailsService::loadUserByUsername);
 
         UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken.authenticated(
                 userDetails,
@@ -60,12 +77,5 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         );
 
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-
-        filterChain.doFilter(request, response);
-    }
-
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        return EXCLUDE_URL.stream().anyMatch(exclude -> exclude.equalsIgnoreCase(request.getServletPath()));
     }
 }
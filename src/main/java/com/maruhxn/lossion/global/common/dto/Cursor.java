@@ -0,0 +1,55 @@
+package com.maruhxn.lossion.global.common.dto;
+
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.BadRequestException;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * (createdAt, id) 정렬 기준의 키셋 페이지네이션 커서. 목록은 내림차순, 답글은 오름차순으로 사용한다.
+ * 클라이언트에는 Base64(URL-safe)로 인코딩된 불투명한 문자열로만 노출한다.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return new Cursor(createdAt, id);
+    }
+
+    /**
+     * 비어 있는 커서는 첫 페이지 요청으로 보고 null 을 반환한다.
+     */
+    public static Cursor decode(String encoded) {
+        if (!hasText(encoded)) return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 2) throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
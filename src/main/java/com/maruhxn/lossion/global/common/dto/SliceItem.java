@@ -0,0 +1,45 @@
+package com.maruhxn.lossion.global.common.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 개수를 세지 않는 커서 기반 목록 응답
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SliceItem<T> {
+    private List<T> results;
+    private Boolean hasNext;
+    private Boolean isEmpty;
+    private String nextCursor;
+
+    @Builder
+    public SliceItem(List<T> results, Boolean hasNext, Boolean isEmpty, String nextCursor) {
+        this.results = results;
+        this.hasNext = hasNext;
+        this.isEmpty = isEmpty;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1 건을 조회한 결과를 받아 다음 페이지 존재 여부를 판단하고, 마지막 항목으로 다음 커서를 만든다.
+     */
+    public static <T> SliceItem<T> of(List<T> fetched, int size, Function<T, Cursor> cursorExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> results = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorExtractor.apply(results.get(results.size() - 1)).encode() : null;
+
+        return SliceItem.<T>builder()
+                .results(results)
+                .hasNext(hasNext)
+                .isEmpty(results.isEmpty())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
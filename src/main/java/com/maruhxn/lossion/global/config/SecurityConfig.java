@@ -2,10 +2,13 @@ package com.maruhxn.lossion.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.global.auth.PublicEndpoints;
+import com.maruhxn.lossion.global.auth.application.AccessTokenDenylist;
 import com.maruhxn.lossion.global.auth.application.JwtService;
 import com.maruhxn.lossion.global.auth.application.JwtUserDetailsService;
 import com.maruhxn.lossion.global.auth.application.JwtUtils;
 import com.maruhxn.lossion.global.auth.application.OAuth2UserService;
+import com.maruhxn.lossion.global.auth.application.PrincipalCache;
 import com.maruhxn.lossion.global.auth.filter.JwtAuthenticationFilter;
 import com.maruhxn.lossion.global.auth.filter.JwtAuthorizationFilter;
 import com.maruhxn.lossion.global.auth.filter.JwtExceptionFilter;
@@ -47,6 +50,8 @@ public class SecurityConfig {
     private final JwtService jwtService;
     private final ObjectMapper objectMapper;
     private final JwtUserDetailsService jwtUserDetailsService;
+    private final PrincipalCache principalCache;
+    private final AccessTokenDenylist accessTokenDenylist;
     private final MemberRepository memberRepository;
 
     @Bean
@@ -64,22 +69,11 @@ public class SecurityConfig {
                                 .configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authz ->
                         authz
-                                .requestMatchers(
-                                        "/",
-                                        "/test/**",
-                                        "/docs/**",
-                                        "/login/oauth2/**",
-                                        "/api/auth/sign-up",
-                                        "/api/auth/refresh",
-                                        "/api/auth/anonymous/send-verify-email",
-                                        "/api/auth/anonymous/get-token",
-                                        "/api/auth/anonymous/password",
-                                        "/api/categories"
-                                ).permitAll()
-                                .requestMatchers(HttpMethod.GET, "/api/categories").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/api/topics", "/api/topics/{topicId}").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/api/topics/{topicId}/comments", "/api/topics/{topicId}/comments/groups/{groupId}").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/api/files", "/api/files/**").permitAll()
+                                .requestMatchers(PublicEndpoints.PERMIT_ALL).permitAll()
+                                .requestMatchers(HttpMethod.GET, PublicEndpoints.AUTHENTICATED_GET).authenticated()
+                                .requestMatchers(HttpMethod.GET, PublicEndpoints.PERMIT_ALL_GET).permitAll()
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .requestMatchers("/api/auth/test").authenticated()
                                 .anyRequest().authenticated()
                 )
@@ -131,7 +125,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtils, jwtUserDetailsService);
+        return new JwtAuthorizationFilter(jwtUtils, jwtUserDetailsService, principalCache, accessTokenDenylist);
     }
 
     @Bean
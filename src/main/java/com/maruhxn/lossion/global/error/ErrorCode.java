@@ -10,6 +10,7 @@ public enum ErrorCode {
     /* BAD REQUEST 400 */
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 접근입니다."),
     EMPTY_FILE(HttpStatus.BAD_REQUEST, "파일이 비어있습니다."),
+    INVALID_IMAGE_FILE(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다."),
     PASSWORD_CONFIRM_FAIL(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
     INCORRECT_PASSWORD(HttpStatus.BAD_REQUEST, "비밀번호가 올바르지 않습니다."),
     SAME_PASSWORD(HttpStatus.BAD_REQUEST, "이전과 동일한 비밀번호로 변경할 수 없습니다."),
@@ -20,6 +21,8 @@ public enum ErrorCode {
     EMPTY_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, "refresh token이 필요합니다."),
     NEED_PASSWORD(HttpStatus.BAD_REQUEST, "비밀번호 설정이 필요합니다."),
     ALREADY_EXIST_PASSWORD(HttpStatus.BAD_REQUEST, "이미 비밀번호가 설정되어 있습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "올바르지 않은 커서입니다."),
+    TOO_MANY_IDS(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 개수를 초과했습니다."),
 
     /* UNAUTHORIZED 401 */
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "로그인이 필요한 서비스입니다."),
@@ -41,6 +44,7 @@ public enum ErrorCode {
     NOT_FOUND_FAVORITE(HttpStatus.NOT_FOUND, "좋아요 정보가 존재하지 않습니다."),
     NOT_FOUND_FILE(HttpStatus.NOT_FOUND, "파일이 존재하지 않습니다."),
     NOT_FOUND_VOTE(HttpStatus.NOT_FOUND, "투표 정보가 존재하지 않습니다."),
+    NOT_FOUND_TOPIC_RESULT(HttpStatus.NOT_FOUND, "주제 결과가 존재하지 않습니다."),
     /* UNPROCESSABLE CONTENT 422 */
     EXISTING_RESOURCE(HttpStatus.UNPROCESSABLE_ENTITY, "이미 존재하는 리소스입니다."),
     EXISTING_ID(HttpStatus.UNPROCESSABLE_ENTITY, "이미 존재하는 아이디입니다."),
@@ -50,6 +54,10 @@ public enum ErrorCode {
     ALREADY_VERIFIED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 인증된 이메일입니다."),
     TOKEN_EXPIRATION(HttpStatus.UNPROCESSABLE_ENTITY, "이미 만료된 토큰입니다"),
 
+    /* TOO MANY REQUESTS 429 */
+    TOO_MANY_VOTE_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "투표 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_VOTE_STREAM_SUBSCRIBERS(HttpStatus.TOO_MANY_REQUESTS, "투표 현황 구독자가 많습니다. 잠시 후 다시 시도해주세요."),
+
     /* INTERNAL SERVER ERROR  500 */
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류입니다."),
     SPRING_INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "스프링 오류 입니다."),
@@ -0,0 +1,9 @@
+package com.maruhxn.lossion.global.error.exception;
+
+import com.maruhxn.lossion.global.error.ErrorCode;
+
+public class TooManyRequestsException extends GlobalException {
+    public TooManyRequestsException(ErrorCode code) {
+        super(code);
+    }
+}
@@ -1,6 +1,7 @@
 package com.maruhxn.lossion.infra.file;
 
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.global.error.exception.BadRequestException;
@@ -14,17 +15,35 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.UUID;
 
+/**
+ * 이미지는 임시 파일 없이 메모리에서 리사이징하여 업로드하고, 리사이징이 필요 없다면 원본 스트림을 그대로 업로드한다.
+ * 이미지로 디코딩할 수 없는 파일은 업로드하지 않으며, 콘텐츠 타입은 클라이언트가 보낸 값이 아니라 디코딩한 형식을 따른다.
+ */
 @Service
 @RequiredArgsConstructor
 public class S3FileService implements FileService {
 
+    private static final int TARGET_WIDTH = 400;
+
+    static {
+        // ImageIO 가 스트림을 읽을 때 디스크 캐시(임시 파일)를 만들지 않도록 한다.
+        ImageIO.setUseCache(false);
+    }
+
     private final AmazonS3Client s3Client;
 
     @Value("${cloud.aws.s3.bucket}")
@@ -55,9 +74,15 @@ public class S3FileService implements FileService {
         String storeFileName = createStoreFileName(fileName);
 
         try {
-            File resizedFile = getResizedImage(file, 400);
-            s3Client.putObject(new PutObjectRequest(bucket, storeFileName, resizedFile));
-            resizedFile.delete(); // 임시 파일 삭제
+            DecodedImage image = decode(file);
+            byte[] resized = getResizedImage(image, TARGET_WIDTH);
+            if (resized != null) {
+                putObject(storeFileName, new ByteArrayInputStream(resized), resized.length, image.contentType());
+            } else {
+                try (InputStream inputStream = file.getInputStream()) {
+                    putObject(storeFileName, inputStream, file.getSize(), image.contentType());
+                }
+            }
         } catch (IOException e) {
             throw new InternalServerException(ErrorCode.S3_UPLOAD_ERROR, e);
         }
@@ -65,48 +90,100 @@ public class S3FileService implements FileService {
         return storeFileName;
     }
 
+    private void putObject(String storeFileName, InputStream content, long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        s3Client.putObject(new PutObjectRequest(bucket, storeFileName, content, metadata));
+    }
+
     /**
-     * 이미지 리사이징 + MultipartFile -> File로 만드는 메서드
+     * 파일을 이미지로 디코딩하고, 디코딩한 reader 의 형식 이름과 콘텐츠 타입을 함께 반환한다.
+     * 이미지가 아니거나 손상된 파일이라면 400 에러를 발생시킨다.
      *
      * @param multipartFile
-     * @param targetWidth
      * @return
      * @throws IOException
      */
-    private File getResizedImage(MultipartFile multipartFile, int targetWidth) throws IOException {
-        // 시스템의 임시 디렉토리에 원본 파일 이름으로 임시 파일을 생성
-        File file = new File(System.getProperty("java.io.tmpdir") + "/" + multipartFile.getOriginalFilename());
-        // MultipartFile의 콘텐츠 타입에서 형식 이름을 추출 (예: "jpeg", "png").
-        String formatName = multipartFile.getContentType().split("/")[1];
-        // MultipartFile의 바이트를 임시 파일에 쓰기 위해 FileOutputStream을 사용
-        try (FileOutputStream fos = new FileOutputStream(file)) {
-            fos.write(multipartFile.getBytes());
+    private DecodedImage decode(MultipartFile multipartFile) throws IOException {
+        try (InputStream inputStream = multipartFile.getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? Collections.emptyIterator() : ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) throw new BadRequestException(ErrorCode.INVALID_IMAGE_FILE);
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                BufferedImage image = reader.read(0);
+                String[] mimeTypes = reader.getOriginatingProvider().getMIMETypes();
+                String contentType = mimeTypes != null && mimeTypes.length > 0 ? mimeTypes[0] : "image/" + reader.getFormatName().toLowerCase();
+                return new DecodedImage(image, reader.getFormatName(), contentType);
+            } catch (IOException | RuntimeException e) {
+                throw new BadRequestException(ErrorCode.INVALID_IMAGE_FILE);
+            } finally {
+                reader.dispose();
+            }
         }
+    }
 
-        // ImageIO를 사용하여 임시 파일에서 원본 이미지를 읽어옴.
-        BufferedImage originalImage = ImageIO.read(file);
-        int originWidth = originalImage.getWidth();
-        int originHeight = originalImage.getHeight();
-
-        // 원본 폭이 대상 폭보다 작으면 원본 파일을 반환
-        if (originWidth < targetWidth)
-            return file;
+    /**
+     * 이미지를 메모리에서 리사이징하여 인코딩한 바이트를 반환한다.
+     * 대상 폭보다 작다면 null 을 반환하며 원본을 그대로 올린다.
+     *
+     * @param image
+     * @param targetWidth
+     * @return
+     */
+    private byte[] getResizedImage(DecodedImage image, int targetWidth) {
+        BufferedImage originalImage = image.image();
+        if (originalImage.getWidth() <= targetWidth) return null;
 
         // 원본 이미지의 종횡비를 유지하면서 새로운 높이를 계산
-        double ratio = (double) originHeight / (double) originWidth;
-        int height = (int) Math.round(targetWidth * ratio);
+        double ratio = (double) originalImage.getHeight() / (double) originalImage.getWidth();
+        int targetHeight = Math.max(1, (int) Math.round(targetWidth * ratio));
 
-        // 원본 이미지를 새로운 폭과 높이로 스케일링
-        java.awt.Image scaledImage = originalImage.getScaledInstance(targetWidth, height, java.awt.Image.SCALE_SMOOTH);
-        BufferedImage resizedImage = new BufferedImage(targetWidth, height, BufferedImage.TYPE_INT_RGB);
-        resizedImage.getGraphics().drawImage(scaledImage, 0, 0, null);
+        // JPEG 은 알파 채널을 쓸 수 없으므로 투명도가 있더라도 RGB 로 그린다.
+        boolean keepAlpha = originalImage.getColorModel().hasAlpha() && !isJpeg(image.formatName());
+        BufferedImage resizedImage = scale(originalImage, targetWidth, targetHeight, keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
 
-        // 리사이즈된 이미지를 나타내는 새로운 임시 파일을 생성
-        File resizedFile = new File(System.getProperty("java.io.tmpdir") + "/resized_" + multipartFile.getOriginalFilename());
-        // ImageIO를 사용하여 리사이즈된 이미지를 새로운 임시 파일에 쓰기
-        ImageIO.write(resizedImage, formatName, resizedFile);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            if (!ImageIO.write(resizedImage, image.formatName(), outputStream)) {
+                throw new BadRequestException(ErrorCode.INVALID_IMAGE_FILE);
+            }
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.S3_UPLOAD_ERROR, e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 한 번에 크게 줄이면 bilinear 보간의 화질이 떨어지므로, 대상 폭에 가까워질 때까지 절반씩 줄인다.
+     * getScaledInstance 의 SCALE_SMOOTH 보다 훨씬 빠르면서 비슷한 화질을 얻는다.
+     */
+    private static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, int imageType) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        while (width > targetWidth) {
+            width = Math.max(width / 2, targetWidth);
+            height = width == targetWidth ? targetHeight : Math.max(height / 2, 1);
+
+            BufferedImage scaled = new BufferedImage(width, height, imageType);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        }
+        return current;
+    }
 
-        return resizedFile;
+    private static boolean isJpeg(String formatName) {
+        return formatName.equalsIgnoreCase("jpeg") || formatName.equalsIgnoreCase("jpg");
     }
 
     /**
@@ -131,4 +208,7 @@ public class S3FileService implements FileService {
         int pos = originalFilename.lastIndexOf(".");
         return originalFilename.substring(pos + 1);
     }
+
+    private record DecodedImage(BufferedImage image, String formatName, String contentType) {
+    }
 }
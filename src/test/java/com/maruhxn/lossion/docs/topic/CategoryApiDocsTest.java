@@ -3,6 +3,7 @@ package com.maruhxn.lossion.docs.topic;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.member.domain.Role;
+import com.maruhxn.lossion.domain.topic.application.CategoryListCache;
 import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
 import com.maruhxn.lossion.domain.topic.domain.Category;
 import com.maruhxn.lossion.domain.topic.dto.request.CreateCategoryReq;
@@ -38,6 +39,9 @@ public class CategoryApiDocsTest extends RestDocsSupport {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryListCache categoryListCache;
+
     @DisplayName("카테고리 전체 조회")
     @Test
     void getAllCategories() throws Exception {
@@ -45,6 +49,7 @@ public class CategoryApiDocsTest extends RestDocsSupport {
         createCategory("test1");
         createCategory("test2");
         createCategory("test3");
+        categoryListCache.rebuild();
 
         // When / Then
         getAction(CATEGORY_BASE_URL, false, null)
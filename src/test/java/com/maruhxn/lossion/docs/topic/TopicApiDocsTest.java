@@ -1,6 +1,7 @@
 package com.maruhxn.lossion.docs.topic;
 
 import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.application.TopicViewDeduplicator;
 import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
 import com.maruhxn.lossion.domain.topic.dao.TopicImageRepository;
 import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
@@ -27,8 +28,10 @@ import java.util.Map;
 
 import static com.maruhxn.lossion.global.common.Constants.ACCESS_TOKEN_HEADER;
 import static com.maruhxn.lossion.global.common.Constants.REFRESH_TOKEN_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.JsonFieldType.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
@@ -51,6 +54,9 @@ public class TopicApiDocsTest extends RestDocsSupport {
     @Autowired
     private TopicImageRepository topicImageRepository;
 
+    @Autowired
+    private TopicViewDeduplicator topicViewDeduplicator;
+
     @DisplayName("주제 리스트를 페이징 조회한다.")
     @Test
     void getTopicsByQuery() throws Exception {
@@ -797,6 +803,48 @@ public class TopicApiDocsTest extends RestDocsSupport {
 
     }
 
+    @Test
+    @DisplayName("내가 작성한 주제 리스트 조회 시 로그인 하지 않은 경우 401 에러를 반환한다.")
+    void getMyTopicsFailWhenIsNotLogin() throws Exception {
+        getAction(TOPIC_BASE_URL + "/my", false, null)
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("주제 목록에 대한 본인의 반응 조회 시 로그인 하지 않은 경우 401 에러를 반환한다.")
+    void getTopicReactionsFailWhenIsNotLogin() throws Exception {
+        getAction(TOPIC_BASE_URL + "/reactions", false, Map.of("topicIds", "1,2"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("공개 경로라도 토큰을 함께 보내면, 로그인한 회원으로 조회 활동이 기록된다.")
+    void getTopicDetailWithLogin() throws Exception {
+        // Given
+        Category category = createCategory();
+        Topic topic = createTopic("test1", LocalDateTime.of(2024, 1, 23, 10, 0), LocalDateTime.of(2024, 1, 22, 10, 0), member, category);
+
+        // When
+        getAction(TOPIC_BASE_URL + "/{topicId}", true, null, topic.getId())
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(topicViewDeduplicator.isFirstView(topic.getId(), "member:" + member.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("공개 경로에 유효하지 않은 토큰을 보내면, 로그인하지 않은 사용자로 처리한다.")
+    void getTopicDetailWithInvalidToken() throws Exception {
+        // Given
+        Category category = createCategory();
+        Topic topic = createTopic("test1", LocalDateTime.of(2024, 1, 23, 10, 0), LocalDateTime.of(2024, 1, 22, 10, 0), member, category);
+
+        // When / Then
+        mockMvc.perform(get(TOPIC_BASE_URL + "/{topicId}", topic.getId())
+                        .header(ACCESS_TOKEN_HEADER, "Bearer invalid"))
+                .andExpect(status().isOk());
+    }
+
     private MockMultipartFile getMockMultipartFile() throws IOException {
         final String originalFileName = "defaultProfileImage.jfif";
         final String filePath = "src/test/resources/static/img/" + originalFileName;
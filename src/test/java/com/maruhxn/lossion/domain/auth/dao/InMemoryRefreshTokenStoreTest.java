@@ -0,0 +1,85 @@
+package com.maruhxn.lossion.domain.auth.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Repository] - InMemoryRefreshTokenStore")
+class InMemoryRefreshTokenStoreTest {
+
+    private InMemoryRefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new InMemoryRefreshTokenStore();
+    }
+
+    @DisplayName("저장한 refresh token 을 token 과 accountId 로 조회할 수 있다.")
+    @Test
+    void save() {
+        // When
+        refreshTokenStore.save("tester", "refreshToken", Duration.ofMinutes(1));
+
+        // Then
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken("refreshToken")).hasValue("tester");
+        assertThat(refreshTokenStore.findRefreshTokenByAccountId("tester")).hasValue("refreshToken");
+    }
+
+    @DisplayName("같은 계정으로 다시 저장하면 이전 refresh token 은 더 이상 조회되지 않는다.")
+    @Test
+    void saveReplacesPreviousToken() {
+        // Given
+        refreshTokenStore.save("tester", "refreshToken", Duration.ofMinutes(1));
+
+        // When
+        refreshTokenStore.save("tester", "newRefreshToken", Duration.ofMinutes(1));
+
+        // Then
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken("refreshToken")).isEmpty();
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken("newRefreshToken")).hasValue("tester");
+    }
+
+    @DisplayName("만료된 refresh token 은 조회되지 않는다.")
+    @Test
+    void findExpiredToken() {
+        // Given
+        refreshTokenStore.save("tester", "refreshToken", Duration.ZERO);
+
+        // When / Then
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken("refreshToken")).isEmpty();
+        assertThat(refreshTokenStore.findRefreshTokenByAccountId("tester")).isEmpty();
+    }
+
+    @DisplayName("정리 작업은 만료된 항목만 제거한다.")
+    @Test
+    void sweepExpired() {
+        // Given
+        refreshTokenStore.save("expired", "expiredToken", Duration.ZERO);
+        refreshTokenStore.save("tester", "refreshToken", Duration.ofMinutes(1));
+
+        // When
+        refreshTokenStore.sweepExpired();
+
+        // Then
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken("expiredToken")).isEmpty();
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken("refreshToken")).hasValue("tester");
+    }
+
+    @DisplayName("계정의 refresh token 을 삭제한다.")
+    @Test
+    void deleteAllByAccountId() {
+        // Given
+        refreshTokenStore.save("tester", "refreshToken", Duration.ofMinutes(1));
+
+        // When
+        refreshTokenStore.deleteAllByAccountId("tester");
+
+        // Then
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken("refreshToken")).isEmpty();
+        assertThat(refreshTokenStore.findRefreshTokenByAccountId("tester")).isEmpty();
+    }
+}
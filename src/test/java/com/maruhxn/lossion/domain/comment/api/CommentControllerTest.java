@@ -170,4 +170,22 @@ class CommentControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("message").value("답글 조회 성공"))
                 .andExpect(jsonPath("data").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 그룹의 첫 답글을 한 번에 조회한다.")
+    @CustomWithUserDetails
+    void getReplyGroups() throws Exception {
+        // Given
+        when(commentService.getReplyGroups(anyLong(), anyList(), anyInt())).thenReturn(List.of());
+        // When / Then
+        mockMvc.perform(
+                        get("/api/topics/{topicId}/comments/groups", 1)
+                                .param("groupIds", "group1,group2")
+                                .param("size", "3")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("code").value("OK"))
+                .andExpect(jsonPath("message").value("답글 조회 성공"))
+                .andExpect(jsonPath("data").isArray());
+    }
+}
@@ -5,6 +5,7 @@ import com.maruhxn.lossion.domain.comment.domain.Comment;
 import com.maruhxn.lossion.domain.comment.dto.request.CreateCommentReq;
 import com.maruhxn.lossion.domain.comment.dto.request.UpdateCommentReq;
 import com.maruhxn.lossion.domain.comment.dto.response.CommentItem;
+import com.maruhxn.lossion.domain.comment.dto.response.ReplyGroupItem;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
@@ -12,7 +13,9 @@ import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
 import com.maruhxn.lossion.domain.topic.domain.Category;
 import com.maruhxn.lossion.domain.topic.domain.Topic;
 import com.maruhxn.lossion.global.common.dto.PageItem;
+import com.maruhxn.lossion.global.common.dto.SliceItem;
 import com.maruhxn.lossion.util.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,6 +46,9 @@ class CommentServiceTest extends IntegrationTestSupport {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private EntityManager em;
+
 
     @DisplayName("댓글을 작성한다.")
     @Test
@@ -67,6 +73,8 @@ class CommentServiceTest extends IntegrationTestSupport {
                 .containsExactlyInAnyOrder(
                         tuple("test", member, topic, null, groupId)
                 );
+        em.clear();
+        assertThat(topicRepository.findById(topic.getId()).get().getCommentCount()).isEqualTo(1L);
     }
 
     @DisplayName("댓글 작성 시 내용이 null이면 에러가 발생한다.")
@@ -119,6 +127,8 @@ class CommentServiceTest extends IntegrationTestSupport {
                         tuple("parent", member, topic, null, groupId),
                         tuple("child", member, topic, parent, groupId)
                 );
+        em.clear();
+        assertThat(commentRepository.findById(parent.getId()).get().getReplyCount()).isEqualTo(1L);
     }
 
     @DisplayName("최신 10개의 부모 댓글 리스트를 불러온다.")
@@ -215,6 +225,47 @@ class CommentServiceTest extends IntegrationTestSupport {
                 );
     }
 
+    @DisplayName("여러 그룹의 첫 답글을 그룹별로 size 건씩 조회하고, 남은 답글이 있는 그룹에는 다음 커서를 제공한다.")
+    @Test
+    void getReplyGroups() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = createTopic(member, category);
+
+        Comment comment1 = createComment(topic, member);
+        Comment comment2 = createComment(topic, member);
+        Comment reply1 = createReply(topic, member);
+        Comment reply2 = createReply(topic, member);
+        Comment reply3 = createReply(topic, member);
+        comment1.addReply(reply1);
+        comment1.addReply(reply2);
+        comment2.addReply(reply3);
+        commentRepository.saveAll(List.of(comment1, comment2));
+
+        // When
+        List<ReplyGroupItem> result = commentService.getReplyGroups(
+                topic.getId(), List.of(comment2.getGroupId(), comment1.getGroupId()), 1);
+
+        // Then
+        assertThat(result).extracting("groupId")
+                .containsExactly(comment2.getGroupId(), comment1.getGroupId());
+        assertThat(result.get(0).getReplies())
+                .extracting("hasNext", "nextCursor")
+                .containsExactly(false, null);
+        assertThat(result.get(0).getReplies().getResults()).extracting("id")
+                .containsExactly(reply3.getId());
+        assertThat(result.get(1).getReplies().getHasNext()).isTrue();
+        assertThat(result.get(1).getReplies().getResults()).extracting("id")
+                .containsExactly(reply1.getId());
+
+        SliceItem<CommentItem> nextPage = commentService.getRepliesByCursor(
+                topic.getId(), comment1.getGroupId(), result.get(1).getReplies().getNextCursor(), 1);
+        assertThat(nextPage.getResults()).extracting("id")
+                .containsExactly(reply2.getId());
+        assertThat(nextPage.getHasNext()).isFalse();
+    }
+
     @DisplayName("댓글 내용을 수정한다.")
     @Test
     void updateComment() {
@@ -281,6 +332,60 @@ class CommentServiceTest extends IntegrationTestSupport {
                 .isInstanceOf(NoSuchElementException.class);
     }
 
+    @DisplayName("답글을 삭제하면, 부모 댓글의 답글 수가 줄어든다.")
+    @Test
+    void deleteReplyDecreasesReplyCount() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = createTopic(member, category);
+        Comment comment = createComment(topic, member);
+        Comment reply1 = createReply(topic, member);
+        Comment reply2 = createReply(topic, member);
+        comment.addReply(reply1);
+        comment.addReply(reply2);
+        commentRepository.save(comment);
+        em.flush();
+        em.clear();
+
+        // When
+        commentService.deleteComment(topic.getId(), reply1.getId());
+
+        // Then
+        em.flush();
+        em.clear();
+        assertThat(commentRepository.findById(comment.getId()).get().getReplyCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("답글이 달린 댓글을 삭제하면, 주제의 댓글 수가 하위 답글 수만큼 함께 줄어든다.")
+    @Test
+    void deleteCommentDecreasesCommentCountWithReplies() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = createTopic(member, category);
+        Comment comment = createComment(topic, member);
+        Comment reply1 = createReply(topic, member);
+        Comment reply2 = createReply(topic, member);
+        Comment reply3 = createReply(topic, member);
+        comment.addReply(reply1);
+        reply1.addReply(reply2);
+        comment.addReply(reply3);
+        commentRepository.save(comment);
+        topicRepository.updateCommentCount(topic.getId(), 4L);
+        em.flush();
+        em.clear();
+
+        // When
+        commentService.deleteComment(topic.getId(), reply1.getId());
+
+        // Then
+        em.flush();
+        em.clear();
+        assertThat(topicRepository.findById(topic.getId()).get().getCommentCount()).isEqualTo(2L);
+        assertThat(commentRepository.findAll()).hasSize(2);
+    }
+
     @DisplayName("댓글을 삭제하면, 해당 댓글의 답글까지 모두 삭제된다.")
     @Test
     void deleteCommentWithCascadeAll2() {
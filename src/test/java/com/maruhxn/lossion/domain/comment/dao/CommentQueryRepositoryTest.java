@@ -10,6 +10,7 @@ import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
 import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
 import com.maruhxn.lossion.domain.topic.domain.Category;
 import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.global.common.dto.Cursor;
 import com.maruhxn.lossion.util.IntegrationTestSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -77,6 +78,7 @@ class CommentQueryRepositoryTest extends IntegrationTestSupport {
                 .build();
 
         commentFavoriteRepository.save(commentFavorite);
+        commentRepository.updateFavoriteCount(comment1.getId(), 1L);
 
         PageRequest pageRequest = PageRequest.of(0, 10);
 
@@ -86,17 +88,43 @@ class CommentQueryRepositoryTest extends IntegrationTestSupport {
 
         // Then
         assertThat(topLevelCommentsPageItem).hasSize(5)
-                .extracting("id", "favoriteCount", "replyToId", "groupId")
+                .extracting("id", "favoriteCount", "replyToId", "repliesCount", "groupId")
                 .containsExactlyInAnyOrder(
-                        tuple(comment5.getId(), 0L, null, comment5.getGroupId()),
-                        tuple(comment4.getId(), 0L, null, comment4.getGroupId()),
-                        tuple(comment3.getId(), 0L, null, comment3.getGroupId()),
-                        tuple(comment2.getId(), 0L, null, comment2.getGroupId()),
-                        tuple(comment1.getId(), 1L, null, comment1.getGroupId())
+                        tuple(comment5.getId(), 0L, null, 0L, comment5.getGroupId()),
+                        tuple(comment4.getId(), 0L, null, 0L, comment4.getGroupId()),
+                        tuple(comment3.getId(), 0L, null, 0L, comment3.getGroupId()),
+                        tuple(comment2.getId(), 0L, null, 0L, comment2.getGroupId()),
+                        tuple(comment1.getId(), 1L, null, 1L, comment1.getGroupId())
                 );
 
     }
 
+    @DisplayName("커서 이후의 부모 레벨 댓글을 최신순으로 size + 1 건까지 조회한다.")
+    @Test
+    void findTopLevelCommentsByCursor() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = createTopic(member, category);
+
+        Comment comment1 = commentRepository.save(createComment(topic, member));
+        Comment comment2 = commentRepository.save(createComment(topic, member));
+        Comment comment3 = commentRepository.save(createComment(topic, member));
+
+        // When
+        List<CommentItem> firstPage = commentQueryRepository
+                .findTopLevelCommentsByCursor(topic.getId(), null, 1);
+        CommentItem last = firstPage.get(0);
+        List<CommentItem> nextPage = commentQueryRepository
+                .findTopLevelCommentsByCursor(topic.getId(), Cursor.of(last.getCreatedAt(), last.getId()), 2);
+
+        // Then
+        assertThat(firstPage).extracting("id")
+                .containsExactly(comment3.getId(), comment2.getId());
+        assertThat(nextPage).extracting("id")
+                .containsExactly(comment2.getId(), comment1.getId());
+    }
+
     @DisplayName("답글을 조회한다.")
     @Test
     void findRepliesByGroupId() {
@@ -123,19 +151,86 @@ class CommentQueryRepositoryTest extends IntegrationTestSupport {
                 .build();
 
         commentFavoriteRepository.save(reply1Favorite);
+        commentRepository.updateFavoriteCount(reply1.getId(), 1L);
         // When
         List<CommentItem> replies = commentQueryRepository
                 .findRepliesByGroupId(topic.getId(), comment.getGroupId());
 
         // Then
         assertThat(replies).hasSize(3)
-                .extracting("id", "favoriteCount", "replyToId", "groupId")
+                .extracting("id", "favoriteCount", "replyToId", "repliesCount", "groupId")
                 .containsExactlyInAnyOrder(
-                        tuple(reply1.getId(), 1L, comment.getId(), comment.getGroupId()),
-                        tuple(reply2.getId(), 0L, reply1.getId(), comment.getGroupId()),
-                        tuple(reply3.getId(), 0L, comment.getId(), comment.getGroupId())
+                        tuple(reply1.getId(), 1L, comment.getId(), 1L, comment.getGroupId()),
+                        tuple(reply2.getId(), 0L, reply1.getId(), 0L, comment.getGroupId()),
+                        tuple(reply3.getId(), 0L, comment.getId(), 0L, comment.getGroupId())
+                );
+
+    }
+
+    @DisplayName("여러 그룹의 답글을 그룹별로 작성 순서대로 limit 건까지 조회한다.")
+    @Test
+    void findFirstRepliesByGroupIds() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = createTopic(member, category);
+
+        Comment comment1 = createComment(topic, member);
+        Comment comment2 = createComment(topic, member);
+        Comment comment3 = createComment(topic, member);
+        Comment reply1 = createReply(topic, member);
+        Comment reply2 = createReply(topic, member);
+        Comment reply3 = createReply(topic, member);
+        Comment reply4 = createReply(topic, member);
+        comment1.addReply(reply1);
+        comment1.addReply(reply2);
+        comment1.addReply(reply3);
+        comment2.addReply(reply4);
+        commentRepository.saveAll(List.of(comment1, comment2, comment3));
+
+        // When
+        List<CommentItem> replies = commentQueryRepository.findFirstRepliesByGroupIds(
+                topic.getId(), List.of(comment1.getGroupId(), comment2.getGroupId(), comment3.getGroupId()), 2);
+
+        // Then
+        assertThat(replies)
+                .extracting("id", "groupId")
+                .containsExactly(
+                        tuple(reply1.getId(), comment1.getGroupId()),
+                        tuple(reply2.getId(), comment1.getGroupId()),
+                        tuple(reply4.getId(), comment2.getGroupId())
                 );
+    }
 
+    @DisplayName("커서 이후의 답글을 작성 순서대로 size + 1 건까지 조회한다.")
+    @Test
+    void findRepliesByCursor() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = createTopic(member, category);
+
+        Comment comment = createComment(topic, member);
+        Comment reply1 = createReply(topic, member);
+        Comment reply2 = createReply(topic, member);
+        Comment reply3 = createReply(topic, member);
+        comment.addReply(reply1);
+        comment.addReply(reply2);
+        comment.addReply(reply3);
+        commentRepository.save(comment);
+
+        // When
+        List<CommentItem> firstPage = commentQueryRepository
+                .findRepliesByCursor(topic.getId(), comment.getGroupId(), null, 1);
+        CommentItem last = firstPage.get(0);
+        List<CommentItem> nextPage = commentQueryRepository
+                .findRepliesByCursor(topic.getId(), comment.getGroupId(), Cursor.of(last.getCreatedAt(), last.getId()), 1);
+
+        // Then
+        assertThat(firstPage).extracting("id")
+                .containsExactly(reply1.getId(), reply2.getId());
+        assertThat(nextPage).extracting("id")
+                .containsExactly(reply2.getId(), reply3.getId());
     }
 
     private static Comment createReply(Topic topic, Member member) {
@@ -1,5 +1,6 @@
 package com.maruhxn.lossion.domain.favorite.api;
 
+import com.maruhxn.lossion.domain.comment.dto.response.CommentReactionItem;
 import com.maruhxn.lossion.util.ControllerTestSupport;
 import com.maruhxn.lossion.util.CustomWithUserDetails;
 import org.junit.jupiter.api.DisplayName;
@@ -7,10 +8,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("[Controller] - FavoriteController")
@@ -67,4 +72,24 @@ class FavoriteControllerTest extends ControllerTestSupport {
                 )
                 .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    @DisplayName("댓글 id 목록으로 본인의 좋아요 여부를 한 번에 조회한다.")
+    @Test
+    @CustomWithUserDetails
+    void getCommentReactions() throws Exception {
+        // Given
+        given(favoriteService.getCommentReactions(any(), any())).willReturn(List.of(
+                CommentReactionItem.builder().commentId(1L).isFavorite(true).build()
+        ));
+
+        // When / Then
+        mockMvc.perform(
+                        get("/api/favorites/comments")
+                                .param("commentIds", "1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("message").value("댓글 좋아요 정보 조회 성공"))
+                .andExpect(jsonPath("data[0].commentId").value(1L))
+                .andExpect(jsonPath("data[0].isFavorite").value(true));
+    }
+}
@@ -2,6 +2,7 @@ package com.maruhxn.lossion.domain.favorite.application;
 
 import com.maruhxn.lossion.domain.comment.dao.CommentRepository;
 import com.maruhxn.lossion.domain.comment.domain.Comment;
+import com.maruhxn.lossion.domain.comment.dto.response.CommentReactionItem;
 import com.maruhxn.lossion.domain.favorite.dao.CommentFavoriteRepository;
 import com.maruhxn.lossion.domain.favorite.dao.TopicFavoriteRepository;
 import com.maruhxn.lossion.domain.favorite.domain.CommentFavorite;
@@ -15,16 +16,19 @@ import com.maruhxn.lossion.domain.topic.domain.Topic;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import com.maruhxn.lossion.util.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("[Service] - FavoriteService")
 class FavoriteServiceTest extends IntegrationTestSupport {
@@ -50,6 +54,9 @@ class FavoriteServiceTest extends IntegrationTestSupport {
     @Autowired
     private CommentFavoriteRepository commentFavoriteRepository;
 
+    @Autowired
+    private EntityManager em;
+
     @DisplayName("주제 좋아요 - 좋아요를 누르면 엔티티가 생성된다.")
     @Test
     void topicFavorite() {
@@ -63,6 +70,8 @@ class FavoriteServiceTest extends IntegrationTestSupport {
         // Then
         TopicFavorite topicFavorite = topicFavoriteRepository.findByTopic_IdAndMember_Id(topic.getId(), member.getId()).get();
         assertThat(topicFavorite).isNotNull();
+        em.clear();
+        assertThat(topicRepository.findById(topic.getId()).get().getFavoriteCount()).isEqualTo(1L);
     }
 
     @DisplayName("주제 좋아요 - 좋아요를 취소하면 엔티티가 삭제된다.")
@@ -86,6 +95,39 @@ class FavoriteServiceTest extends IntegrationTestSupport {
         assertThat(optionalTopicFav.isEmpty()).isTrue();
     }
 
+    @DisplayName("주제 좋아요 - 좋아요를 연달아 누르면 좋아요 엔티티와 좋아요 수가 번갈아 바뀐다.")
+    @Test
+    void topicFavoriteRepeatedly() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = createTopic(member, category);
+
+        // When
+        favoriteService.topicFavorite(topic.getId(), member);
+        favoriteService.topicFavorite(topic.getId(), member);
+        favoriteService.topicFavorite(topic.getId(), member);
+
+        // Then
+        assertThat(topicFavoriteRepository.findAll())
+                .filteredOn(topicFavorite -> topicFavorite.getTopic().getId().equals(topic.getId()))
+                .hasSize(1);
+        em.clear();
+        assertThat(topicRepository.findById(topic.getId()).get().getFavoriteCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("주제 좋아요 - 주제가 존재하지 않을 경우 EntityNotFoundException 발생")
+    @Test
+    void topicFavoriteWithNoTopic() {
+        // Given
+        Member member = createMember();
+
+        // When / Then
+        assertThatThrownBy(() -> favoriteService.topicFavorite(1000L, member))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(ErrorCode.NOT_FOUND_TOPIC.getMessage());
+    }
+
     @DisplayName("댓글 좋아요 - 좋아요를 누르면 엔티티가 생성된다.")
     @Test
     void commentFavorite() {
@@ -100,6 +142,8 @@ class FavoriteServiceTest extends IntegrationTestSupport {
         // Then
         Optional<CommentFavorite> optionalCommentFavorite = commentFavoriteRepository.findByComment_IdAndMember_Id(comment.getId(), member.getId());
         assertThat(optionalCommentFavorite.isPresent()).isTrue();
+        em.clear();
+        assertThat(commentRepository.findById(comment.getId()).get().getFavoriteCount()).isEqualTo(1L);
     }
 
     @DisplayName("댓글 좋아요 - 좋아요를 취소하면 엔티티가 삭제된다.")
@@ -124,6 +168,45 @@ class FavoriteServiceTest extends IntegrationTestSupport {
         assertThat(optionalCommentFav.isEmpty()).isTrue();
     }
 
+    @DisplayName("댓글 좋아요 - 댓글이 존재하지 않을 경우 EntityNotFoundException 발생")
+    @Test
+    void commentFavoriteWithNoComment() {
+        // Given
+        Member member = createMember();
+
+        // When / Then
+        assertThatThrownBy(() -> favoriteService.commentFavorite(1000L, member))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(ErrorCode.NOT_FOUND_COMMENT.getMessage());
+    }
+
+    @DisplayName("댓글 id 목록을 전달하면, 각 댓글에 대한 본인의 좋아요 여부를 제공한다.")
+    @Test
+    void getCommentReactions() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = createTopic(member, category);
+        Comment favoriteComment = createComment(topic, member);
+        Comment otherComment = createComment(topic, member);
+        commentFavoriteRepository.save(CommentFavorite.builder()
+                .member(member)
+                .comment(favoriteComment)
+                .build());
+
+        // When
+        List<CommentReactionItem> result = favoriteService.getCommentReactions(
+                List.of(favoriteComment.getId(), otherComment.getId()), member);
+
+        // Then
+        assertThat(result)
+                .extracting("commentId", "isFavorite")
+                .containsExactly(
+                        tuple(favoriteComment.getId(), true),
+                        tuple(otherComment.getId(), false)
+                );
+    }
+
     @DisplayName("주제 좋아요가 존재하지 않을 경우 EntityNotFoundException 발생")
     @Test
     void checkTopicFavoriteWithNoEntity() {
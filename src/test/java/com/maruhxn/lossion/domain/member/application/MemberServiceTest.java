@@ -1,7 +1,6 @@
 package com.maruhxn.lossion.domain.member.application;
 
-import com.maruhxn.lossion.domain.auth.dao.RefreshTokenRepository;
-import com.maruhxn.lossion.domain.auth.domain.RefreshToken;
+import com.maruhxn.lossion.domain.auth.dao.RefreshTokenStore;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.member.dto.request.UpdateMemberProfileReq;
@@ -53,7 +52,7 @@ class MemberServiceTest extends IntegrationTestSupport {
     private JwtUtils jwtUtils;
 
     @Autowired
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @DisplayName("회원 프로필을 조회할 수 있다.")
     @Test
@@ -310,20 +309,15 @@ class MemberServiceTest extends IntegrationTestSupport {
         JwtMemberInfo jwtMemberInfo = JwtMemberInfo.from(member);
 
         String rawRefreshToken = jwtUtils.generateRefreshToken(jwtMemberInfo, new Date());
-        RefreshToken refreshToken = RefreshToken.builder()
-                .accountId(member.getAccountId())
-                .refreshToken(rawRefreshToken)
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(member.getAccountId(), rawRefreshToken, jwtUtils.getRefreshTokenTtl());
 
         // When
         memberService.membershipWithdrawal(member.getId());
 
         // Then
         Optional<Member> optionalMember = memberRepository.findById(member.getId());
-        List<RefreshToken> refreshTokens = refreshTokenRepository.findAll();
         assertThat(optionalMember.isEmpty()).isTrue();
-        assertThat(refreshTokens).isEmpty();
+        assertThat(refreshTokenStore.findRefreshTokenByAccountId(member.getAccountId())).isEmpty();
     }
 
     @DisplayName("회원 탈퇴 시 존재하지 않는 회원의 아이디를 전달하면 에러를 발생한다..")
@@ -6,7 +6,12 @@ import com.maruhxn.lossion.domain.topic.dto.request.VoteRequest;
 import com.maruhxn.lossion.domain.topic.dto.response.MyTopicItem;
 import com.maruhxn.lossion.domain.topic.dto.response.TopicDetailItem;
 import com.maruhxn.lossion.domain.topic.dto.response.TopicItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicReactionItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicResultCommentItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicResultItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicSuggestItem;
 import com.maruhxn.lossion.global.common.dto.PageItem;
+import com.maruhxn.lossion.global.common.dto.SliceItem;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.util.ControllerTestSupport;
 import com.maruhxn.lossion.util.CustomWithUserDetails;
@@ -17,6 +22,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -25,8 +32,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -64,6 +74,32 @@ class TopicControllerTest extends ControllerTestSupport {
                 .andDo(print());
     }
 
+    @DisplayName("cursor 파라미터가 있으면 키셋 방식으로 주제 리스트를 조회한다.")
+    @Test
+    @WithMockUser
+    void getTopicsByCursor() throws Exception {
+        // Given
+        SliceItem<TopicItem> result = SliceItem.<TopicItem>builder()
+                .results(List.of())
+                .hasNext(false)
+                .isEmpty(true)
+                .build();
+
+        given(topicService.getTopicsByCursor(any(TopicSearchCond.class), anyString(), anyInt()))
+                .willReturn(result);
+        // When / Then
+        mockMvc.perform(
+                        get("/api/topics")
+                                .queryParam("cursor", "")
+                                .with(csrf())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("code").value("OK"))
+                .andExpect(jsonPath("message").value("주제 리스트 조회 성공"))
+                .andExpect(jsonPath("data.hasNext").value(false))
+                .andDo(print());
+    }
+
     @DisplayName("주제 리스트를 조회 시 '작성자' 조건은 10글자를 넘길 수 없다.")
     @Test
     @WithMockUser
@@ -290,7 +326,7 @@ class TopicControllerTest extends ControllerTestSupport {
         TopicDetailItem result = TopicDetailItem.builder()
                 .build();
 
-        given(topicService.getTopicDetail(anyLong()))
+        given(topicService.getTopicDetail(anyLong(), anyString()))
                 .willReturn(result);
 
         // When / Then
@@ -304,6 +340,46 @@ class TopicControllerTest extends ControllerTestSupport {
                 .andDo(print());
     }
 
+    @DisplayName("로그인한 회원이 주제를 상세 조회하면, 회원 id 로 조회자를 구분한다.")
+    @Test
+    @CustomWithUserDetails
+    void getTopicDetailWithMemberViewer() throws Exception {
+        // Given
+        given(topicService.getTopicDetail(anyLong(), anyString()))
+                .willReturn(TopicDetailItem.builder().build());
+
+        // When
+        mockMvc.perform(
+                        get("/api/topics/{topicId}", 1)
+                )
+                .andExpect(status().isOk());
+
+        // Then
+        verify(topicService).getTopicDetail(1L, "member:1");
+    }
+
+    @DisplayName("회원 정보가 없는 사용자가 주제를 상세 조회하면, 클라이언트 주소로 조회자를 구분한다.")
+    @Test
+    @WithMockUser
+    void getTopicDetailWithAnonymousViewer() throws Exception {
+        // Given
+        given(topicService.getTopicDetail(anyLong(), anyString()))
+                .willReturn(TopicDetailItem.builder().build());
+
+        // When
+        mockMvc.perform(
+                        get("/api/topics/{topicId}", 1)
+                                .with(request -> {
+                                    request.setRemoteAddr("10.0.0.1");
+                                    return request;
+                                })
+                )
+                .andExpect(status().isOk());
+
+        // Then
+        verify(topicService).getTopicDetail(1L, "addr:10.0.0.1");
+    }
+
     @DisplayName("주제를 상세 조회 시 올바르지 않은 topicId를 전달할 경우 400 에러를 반환한다.")
     @Test
     @WithMockUser
@@ -317,6 +393,121 @@ class TopicControllerTest extends ControllerTestSupport {
                 .andDo(print());
     }
 
+    @DisplayName("주제 id 목록으로 본인의 투표 결과와 좋아요 여부를 한 번에 조회한다.")
+    @Test
+    @CustomWithUserDetails
+    void getTopicReactions() throws Exception {
+        // Given
+        given(topicService.getTopicReactions(any(), anyLong())).willReturn(List.of(
+                TopicReactionItem.builder().topicId(1L).voteType(VoteType.FIRST).isFavorite(true).build(),
+                TopicReactionItem.builder().topicId(2L).isFavorite(false).build()
+        ));
+
+        // When / Then
+        mockMvc.perform(
+                        get("/api/topics/reactions")
+                                .param("topicIds", "1,2")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("code").value("OK"))
+                .andExpect(jsonPath("message").value("투표 및 좋아요 정보 조회 성공"))
+                .andExpect(jsonPath("data[0].voteType").value(VoteType.FIRST.name()))
+                .andExpect(jsonPath("data[0].isFavorite").value(true))
+                .andExpect(jsonPath("data[1].voteType").isEmpty())
+                .andDo(print());
+    }
+
+    @DisplayName("입력으로 시작하는 제목의 주제를 자동완성 목록으로 조회한다.")
+    @Test
+    @WithMockUser
+    void suggestTopics() throws Exception {
+        // Given
+        given(topicService.suggestTopics("짜장")).willReturn(List.of(
+                TopicSuggestItem.builder().topicId(1L).title("짜장면 vs 짬뽕").build()
+        ));
+
+        // When / Then
+        mockMvc.perform(
+                        get("/api/topics/suggest")
+                                .param("q", "짜장")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("code").value("OK"))
+                .andExpect(jsonPath("message").value("주제 자동완성 조회 성공"))
+                .andExpect(jsonPath("data[0].topicId").value(1L))
+                .andExpect(jsonPath("data[0].title").value("짜장면 vs 짬뽕"))
+                .andDo(print());
+    }
+
+    @DisplayName("인기 주제를 점수 순으로 조회한다.")
+    @Test
+    @WithMockUser
+    void getTrendingTopics() throws Exception {
+        // Given
+        given(topicService.getTrendingTopics(anyInt())).willReturn(List.of());
+
+        // When / Then
+        mockMvc.perform(
+                        get("/api/topics/trending")
+                                .param("size", "5")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("code").value("OK"))
+                .andExpect(jsonPath("message").value("인기 주제 조회 성공"))
+                .andExpect(jsonPath("data").isArray())
+                .andDo(print());
+    }
+
+    @DisplayName("종료된 주제의 최종 결과를 조회한다.")
+    @Test
+    @WithMockUser
+    void getTopicResult() throws Exception {
+        // Given
+        given(topicService.getTopicResult(1L)).willReturn(TopicResultItem.builder()
+                .topicId(1L)
+                .firstChoiceCount(2L)
+                .secondChoiceCount(1L)
+                .participantCount(3L)
+                .winner(VoteType.FIRST)
+                .topComments(List.of(TopicResultCommentItem.builder()
+                        .commentId(1L)
+                        .text("test")
+                        .authorName("tester")
+                        .favoriteCount(5L)
+                        .build()))
+                .finalizedAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .build());
+
+        // When / Then
+        mockMvc.perform(
+                        get("/api/topics/{topicId}/result", 1L)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("code").value("OK"))
+                .andExpect(jsonPath("message").value("주제 결과 조회 성공"))
+                .andExpect(jsonPath("data.participantCount").value(3L))
+                .andExpect(jsonPath("data.winner").value("FIRST"))
+                .andExpect(jsonPath("data.topComments[0].text").value("test"))
+                .andDo(print());
+    }
+
+    @DisplayName("주제의 투표 집계 스트림을 구독하면 SSE 응답을 비동기로 시작한다.")
+    @Test
+    @WithMockUser
+    void streamVotes() throws Exception {
+        // Given
+        given(topicService.subscribeVoteStream(anyLong())).willReturn(new SseEmitter());
+
+        // When / Then
+        mockMvc.perform(
+                        get("/api/topics/{topicId}/votes/stream", 1L)
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andDo(print());
+    }
+
     @DisplayName("주제의 제목을 수정할 수 있다.")
     @Test
     @WithMockUser
@@ -0,0 +1,69 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
+import com.maruhxn.lossion.domain.topic.domain.Category;
+import com.maruhxn.lossion.domain.topic.dto.response.CategoryItem;
+import com.maruhxn.lossion.domain.topic.event.CategoryChangedEvent;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[Service] - CategoryListCache")
+class CategoryListCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @DisplayName("카테고리 변경 이벤트를 받기 전까지는 같은 스냅샷을 반환하고, 이벤트를 받으면 목록을 다시 읽는다.")
+    @Test
+    void onCategoryChanged() {
+        // Given
+        CategoryListCache categoryListCache = new CategoryListCache(jdbcTemplate);
+        createCategory("test1");
+        List<CategoryItem> before = categoryListCache.getAll();
+        createCategory("test2");
+
+        // When
+        List<CategoryItem> cached = categoryListCache.getAll();
+        categoryListCache.onCategoryChanged(new CategoryChangedEvent());
+        List<CategoryItem> after = categoryListCache.getAll();
+
+        // Then
+        assertThat(cached).isSameAs(before)
+                .extracting("name")
+                .containsExactly("test1");
+        assertThat(after).extracting("name")
+                .containsExactly("test1", "test2");
+    }
+
+    @DisplayName("스냅샷은 수정할 수 없다.")
+    @Test
+    void getAllIsImmutable() {
+        // Given
+        CategoryListCache categoryListCache = new CategoryListCache(jdbcTemplate);
+        createCategory("test");
+
+        // When
+        List<CategoryItem> categories = categoryListCache.getAll();
+
+        // Then
+        assertThatThrownBy(categories::clear)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private void createCategory(String name) {
+        categoryRepository.save(Category.builder()
+                .name(name)
+                .build());
+    }
+}
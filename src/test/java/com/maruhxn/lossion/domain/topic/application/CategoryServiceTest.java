@@ -34,6 +34,9 @@ class CategoryServiceTest extends IntegrationTestSupport {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryListCache categoryListCache;
+
     @DisplayName("전체 카테고리를 조회한다.")
     @Test
     void getAll() {
@@ -43,6 +46,7 @@ class CategoryServiceTest extends IntegrationTestSupport {
         Category category3 = createCategory("test3");
         Category category4 = createCategory("test4");
         categoryRepository.saveAll(List.of(category1, category2, category3, category4));
+        categoryListCache.rebuild();
 
         // When
         List<CategoryItem> categoryItems = categoryService.getAll();
@@ -0,0 +1,176 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.domain.Category;
+import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.event.TopicClosedAtChangedEvent;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@DisplayName("[Service] - TopicAutoCloser")
+class TopicAutoCloserTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private TopicAutoCloser topicAutoCloser;
+    private Member member;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        topicAutoCloser = new TopicAutoCloser(Duration.ofHours(1), 500, jdbcTemplate, transactionManager, eventPublisher);
+        member = memberRepository.save(Member.builder()
+                .accountId("tester")
+                .email("test@test.com")
+                .username("tester")
+                .password("test")
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("test")
+                .build());
+    }
+
+    @DisplayName("horizon 안에 종료될 주제를 읽어 두었다가, 종료 시각이 지난 주제만 종료한다.")
+    @Test
+    void closeDue() {
+        // Given
+        Topic topic1 = createTopic(LocalDateTime.of(2024, 1, 15, 10, 0));
+        Topic topic2 = createTopic(LocalDateTime.of(2024, 1, 15, 10, 30));
+        Topic topic3 = createTopic(LocalDateTime.of(2024, 1, 15, 12, 0));
+        topicAutoCloser.loadUpcoming(LocalDateTime.of(2024, 1, 15, 9, 55));
+
+        // When
+        topicAutoCloser.closeDue(LocalDateTime.of(2024, 1, 15, 10, 0));
+
+        // Then
+        assertThat(isClosed(topic1)).isTrue();
+        assertThat(isClosed(topic2)).isFalse();
+        assertThat(isClosed(topic3)).isFalse();
+    }
+
+    @DisplayName("이미 읽은 시각 이후의 구간을 이어 읽어, 나중에 종료될 주제도 종료한다.")
+    @Test
+    void loadUpcomingIncrementally() {
+        // Given
+        Topic topic1 = createTopic(LocalDateTime.of(2024, 1, 15, 10, 30));
+        Topic topic2 = createTopic(LocalDateTime.of(2024, 1, 15, 12, 0));
+        topicAutoCloser.loadUpcoming(LocalDateTime.of(2024, 1, 15, 9, 55));
+
+        // When
+        topicAutoCloser.loadUpcoming(LocalDateTime.of(2024, 1, 15, 11, 30));
+        topicAutoCloser.closeDue(LocalDateTime.of(2024, 1, 15, 12, 0));
+
+        // Then
+        assertThat(isClosed(topic1)).isTrue();
+        assertThat(isClosed(topic2)).isTrue();
+    }
+
+    @DisplayName("종료에 실패한 주제는 큐에 되돌려 두고, 다음 tick 에 다시 종료한다.")
+    @Test
+    void closeDueAfterFailure() {
+        // Given
+        JdbcTemplate failingJdbcTemplate = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .doCallRealMethod()
+                .when(failingJdbcTemplate).batchUpdate(anyString(), anyList());
+        TopicAutoCloser topicAutoCloser = new TopicAutoCloser(Duration.ofHours(1), 500, failingJdbcTemplate, transactionManager, eventPublisher);
+        Topic topic = createTopic(LocalDateTime.of(2024, 1, 15, 10, 0));
+        topicAutoCloser.loadUpcoming(LocalDateTime.of(2024, 1, 15, 9, 55));
+        topicAutoCloser.closeDue(LocalDateTime.of(2024, 1, 15, 10, 0));
+
+        // When
+        topicAutoCloser.closeDue(LocalDateTime.of(2024, 1, 15, 10, 0, 1));
+
+        // Then
+        assertThat(isClosed(topic)).isTrue();
+    }
+
+    @DisplayName("큐에 올린 뒤 종료 시각이 늦춰진 주제는 종료하지 않는다.")
+    @Test
+    void closeDueWhenClosedAtPostponed() {
+        // Given
+        Topic topic = createTopic(LocalDateTime.of(2024, 1, 15, 10, 0));
+        topicAutoCloser.loadUpcoming(LocalDateTime.of(2024, 1, 15, 9, 55));
+        jdbcTemplate.update("UPDATE topic SET closed_at = ? WHERE id = ?", LocalDateTime.of(2024, 1, 16, 10, 0), topic.getId());
+
+        // When
+        topicAutoCloser.closeDue(LocalDateTime.of(2024, 1, 15, 10, 0));
+
+        // Then
+        assertThat(isClosed(topic)).isFalse();
+    }
+
+    @DisplayName("종료 시각이 정해졌다는 이벤트를 받으면 적재를 기다리지 않고 큐에 올린다.")
+    @Test
+    void onClosedAtChanged() {
+        // Given
+        LocalDateTime closedAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+        Topic topic = createTopic(closedAt);
+
+        // When
+        topicAutoCloser.onClosedAtChanged(new TopicClosedAtChangedEvent(topic.getId(), closedAt));
+        topicAutoCloser.closeDue(closedAt);
+
+        // Then
+        assertThat(isClosed(topic)).isTrue();
+    }
+
+    private boolean isClosed(Topic topic) {
+        em.clear();
+        return topicRepository.findById(topic.getId()).get().getIsClosed();
+    }
+
+    private Topic createTopic(LocalDateTime closedAt) {
+        Topic topic = topicRepository.save(Topic.builder()
+                .title("test")
+                .description("test")
+                .closedAt(closedAt)
+                .now(closedAt.minusDays(1))
+                .firstChoice("first")
+                .secondChoice("second")
+                .author(member)
+                .category(category)
+                .build());
+        em.flush();
+        return topic;
+    }
+}
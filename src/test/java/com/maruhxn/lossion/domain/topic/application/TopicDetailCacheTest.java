@@ -0,0 +1,97 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.member.event.MemberChangedEvent;
+import com.maruhxn.lossion.domain.topic.dto.response.AuthorInfoItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicDetailItem;
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("[Service] - TopicDetailCache")
+class TopicDetailCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private TopicDetailCache topicDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        topicDetailCache = new TopicDetailCache(100, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @DisplayName("같은 주제를 다시 조회하면 캐시된 응답을 반환하고 적중 횟수를 기록한다.")
+    @Test
+    void get() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When
+        TopicDetailItem first = topicDetailCache.get(1L, () -> load(loadCount));
+        TopicDetailItem second = topicDetailCache.get(1L, () -> load(loadCount));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", TopicDetailCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", TopicDetailCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("주제 변경 이벤트를 받으면 해당 주제의 캐시를 무효화한다.")
+    @Test
+    void onTopicChanged() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        topicDetailCache.get(1L, () -> load(loadCount));
+
+        // When
+        topicDetailCache.onTopicChanged(new TopicChangedEvent(1L));
+        topicDetailCache.get(1L, () -> load(loadCount));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("회원 정보 변경 이벤트를 받으면 그 회원이 작성한 주제의 캐시만 무효화한다.")
+    @Test
+    void onMemberChanged() {
+        // Given
+        topicDetailCache.get(1L, () -> createItem(1L, 10L));
+        topicDetailCache.get(2L, () -> createItem(2L, 20L));
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When
+        topicDetailCache.onMemberChanged(new MemberChangedEvent(10L));
+        topicDetailCache.get(1L, () -> load(loadCount));
+        topicDetailCache.get(2L, () -> load(loadCount));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    private static TopicDetailItem createItem(Long topicId, Long authorId) {
+        TopicDetailItem item = mock(TopicDetailItem.class);
+        given(item.getTopicId()).willReturn(topicId);
+        given(item.getAuthor()).willReturn(AuthorInfoItem.builder()
+                .authorId(authorId)
+                .username("tester")
+                .build());
+        return item;
+    }
+
+    private static TopicDetailItem load(AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return mock(TopicDetailItem.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.domain.TopicImage;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.InternalServerException;
+import com.maruhxn.lossion.infra.file.FileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("[Service] - TopicImageUploader")
+class TopicImageUploaderTest {
+
+    private FileService fileService;
+    private TopicImageUploader topicImageUploader;
+
+    @BeforeEach
+    void setUp() {
+        fileService = mock(FileService.class);
+        topicImageUploader = new TopicImageUploader(2, 10, fileService);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        topicImageUploader.shutdown();
+    }
+
+    @DisplayName("이미지를 병렬로 업로드하고, 전달받은 순서대로 반환한다.")
+    @Test
+    void upload() {
+        // Given
+        List<MultipartFile> images = List.of(createImage("image1.png"), createImage("image2.png"), createImage("image3.png"));
+        images.forEach(image -> given(fileService.storeOneFile(image)).willReturn("stored-" + image.getOriginalFilename()));
+
+        // When
+        List<TopicImage> topicImages = topicImageUploader.upload(images);
+
+        // Then
+        assertThat(topicImages)
+                .extracting("originalName", "storedName")
+                .containsExactly(
+                        tuple("image1.png", "stored-image1.png"),
+                        tuple("image2.png", "stored-image2.png"),
+                        tuple("image3.png", "stored-image3.png")
+                );
+    }
+
+    @DisplayName("하나라도 업로드에 실패하면, 업로드된 나머지 이미지를 삭제하고 예외를 던진다.")
+    @Test
+    void uploadWithFailure() {
+        // Given
+        MultipartFile image1 = createImage("image1.png");
+        MultipartFile image2 = createImage("image2.png");
+        given(fileService.storeOneFile(image1)).willReturn("stored-image1.png");
+        given(fileService.storeOneFile(image2)).willThrow(new InternalServerException(ErrorCode.S3_UPLOAD_ERROR));
+
+        // When / Then
+        assertThatThrownBy(() -> topicImageUploader.upload(List.of(image1, image2)))
+                .isInstanceOf(InternalServerException.class)
+                .hasMessage(ErrorCode.S3_UPLOAD_ERROR.getMessage());
+        verify(fileService).deleteFile("stored-image1.png");
+        verify(fileService, never()).deleteFile("stored-image2.png");
+    }
+
+    @DisplayName("이미지가 없다면 업로드하지 않는다.")
+    @Test
+    void uploadWithoutImages() {
+        // When
+        List<TopicImage> topicImages = topicImageUploader.upload(null);
+
+        // Then
+        assertThat(topicImages).isEmpty();
+        verifyNoInteractions(fileService);
+    }
+
+    private static MultipartFile createImage(String originalFilename) {
+        return new MockMultipartFile("images", originalFilename, "image/png", new byte[]{1});
+    }
+}
@@ -0,0 +1,193 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.comment.dao.CommentRepository;
+import com.maruhxn.lossion.domain.comment.domain.Comment;
+import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicResultRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteRepository;
+import com.maruhxn.lossion.domain.topic.domain.Category;
+import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.domain.Vote;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicResultItem;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("[Service] - TopicResultService")
+class TopicResultServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TopicResultService topicResultService;
+
+    @Autowired
+    private TopicResultBackfiller topicResultBackfiller;
+
+    @Autowired
+    private TopicResultRepository topicResultRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @DisplayName("주제가 종료되면 vote 테이블을 집계하여 최종 투표 수, 참여자 수, 승자와 인기 댓글을 스냅샷으로 저장한다.")
+    @Test
+    void finalizeResult() {
+        // Given
+        Member author = createMember("author");
+        Topic topic = createTopic(author);
+        createVote(topic, createMember("voter1"), VoteType.FIRST);
+        createVote(topic, createMember("voter2"), VoteType.FIRST);
+        createVote(topic, createMember("voter3"), VoteType.SECOND);
+        createVote(topic, createMember("voter4"), null);
+
+        Comment comment1 = createComment(topic, author, "comment1", 1L);
+        Comment comment2 = createComment(topic, author, "comment2", 5L);
+        createComment(topic, author, "comment3", 0L);
+        Comment comment4 = createComment(topic, author, "comment4", 1L);
+        em.flush();
+        em.clear();
+
+        // When
+        topicResultService.finalizeResult(topic.getId());
+
+        // Then
+        TopicResultItem result = topicResultService.getTopicResult(topic.getId());
+        assertThat(result)
+                .extracting("firstChoiceCount", "secondChoiceCount", "participantCount", "winner")
+                .containsExactly(2L, 1L, 3L, VoteType.FIRST);
+        assertThat(result.getTopComments())
+                .extracting("commentId", "text", "authorName", "favoriteCount")
+                .containsExactly(
+                        tuple(comment2.getId(), "comment2", "author", 5L),
+                        tuple(comment1.getId(), "comment1", "author", 1L),
+                        tuple(comment4.getId(), "comment4", "author", 1L)
+                );
+    }
+
+    @DisplayName("이미 스냅샷이 있다면 다시 저장하지 않는다.")
+    @Test
+    void finalizeResultTwice() {
+        // Given
+        Topic topic = createTopic(createMember("author"));
+        topicResultService.finalizeResult(topic.getId());
+        createVote(topic, createMember("voter1"), VoteType.SECOND);
+
+        // When
+        topicResultService.finalizeResult(topic.getId());
+
+        // Then
+        assertThat(topicResultRepository.findByTopicId(topic.getId())).hasValueSatisfying(topicResult ->
+                assertThat(topicResult)
+                        .extracting("firstChoiceCount", "secondChoiceCount", "winner")
+                        .containsExactly(0L, 0L, null));
+        assertThat(topicResultRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("종료되었지만 스냅샷이 없는 주제만 결과를 보충한다.")
+    @Test
+    void backfill() {
+        // Given
+        Topic topic = createTopic(createMember("author"));
+        createVote(topic, createMember("voter1"), VoteType.FIRST);
+        topicResultBackfiller.backfill();
+        boolean finalizedBeforeClose = topicResultRepository.existsByTopicId(topic.getId());
+        topic.updateCloseStatus();
+        em.flush();
+        em.clear();
+
+        // When
+        topicResultBackfiller.backfill();
+
+        // Then
+        assertThat(finalizedBeforeClose).isFalse();
+        assertThat(topicResultService.getTopicResult(topic.getId()))
+                .extracting("firstChoiceCount", "secondChoiceCount", "winner")
+                .containsExactly(1L, 0L, VoteType.FIRST);
+    }
+
+    @DisplayName("종료되지 않아 스냅샷이 없는 주제의 결과를 조회하면 404 에러를 반환한다.")
+    @Test
+    void getTopicResultWithNoResult() {
+        // Given
+        Topic topic = createTopic(createMember("author"));
+
+        // When / Then
+        assertThatThrownBy(() -> topicResultService.getTopicResult(topic.getId()))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(ErrorCode.NOT_FOUND_TOPIC_RESULT.getMessage());
+    }
+
+    private Topic createTopic(Member author) {
+        Category category = categoryRepository.save(Category.builder()
+                .name("test")
+                .build());
+
+        return topicRepository.save(Topic.builder()
+                .title("test")
+                .description("test")
+                .closedAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .now(LocalDateTime.of(2024, 1, 14, 10, 0))
+                .firstChoice("first")
+                .secondChoice("second")
+                .author(author)
+                .category(category)
+                .build());
+    }
+
+    private Member createMember(String accountId) {
+        return memberRepository.save(Member.builder()
+                .accountId(accountId)
+                .email(accountId + "@test.com")
+                .username(accountId)
+                .password("test")
+                .build());
+    }
+
+    private void createVote(Topic topic, Member member, VoteType voteType) {
+        voteRepository.save(Vote.builder()
+                .topic(topic)
+                .voter(member)
+                .voteType(voteType)
+                .build());
+    }
+
+    private Comment createComment(Topic topic, Member author, String text, long favoriteCount) {
+        Comment comment = commentRepository.save(Comment.builder()
+                .text(text)
+                .topic(topic)
+                .author(author)
+                .groupId(String.valueOf(UUID.randomUUID()))
+                .build());
+        commentRepository.updateFavoriteCount(comment.getId(), favoriteCount);
+        return comment;
+    }
+}
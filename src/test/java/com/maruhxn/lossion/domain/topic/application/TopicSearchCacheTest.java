@@ -0,0 +1,69 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.dto.request.TopicSearchCond;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import com.maruhxn.lossion.global.common.dto.PageItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Service] - TopicSearchCache")
+class TopicSearchCacheTest {
+
+    private TopicSearchCache topicSearchCache;
+
+    @BeforeEach
+    void setUp() {
+        topicSearchCache = new TopicSearchCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @DisplayName("정규화한 검색 조건과 페이지가 같다면 캐시된 결과를 반환한다.")
+    @Test
+    void get() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        TopicSearchCond cond = TopicSearchCond.builder().title("Java").build();
+        TopicSearchCond sameCond = TopicSearchCond.builder().title("java").author(" ").build();
+
+        // When
+        PageItem first = topicSearchCache.get(cond, PageRequest.of(0, 10), () -> load(loadCount));
+        PageItem second = topicSearchCache.get(sameCond, PageRequest.of(0, 10), () -> load(loadCount));
+        topicSearchCache.get(cond, PageRequest.of(1, 10), () -> load(loadCount));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("주제가 생성/수정/삭제되면 캐시된 검색 결과를 모두 무효화한다.")
+    @Test
+    void onTopicContentChanged() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        TopicSearchCond cond = TopicSearchCond.builder().title("java").build();
+        topicSearchCache.get(cond, PageRequest.of(0, 10), () -> load(loadCount));
+
+        // When
+        topicSearchCache.onTopicContentChanged(TopicContentChangedEvent.saved(1L, "Java vs Kotlin", "test", LocalDateTime.now()));
+        topicSearchCache.get(cond, PageRequest.of(0, 10), () -> load(loadCount));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private static PageItem load(AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return PageItem.builder()
+                .results(List.of())
+                .build();
+    }
+}
@@ -1,39 +1,52 @@
 package com.maruhxn.lossion.domain.topic.application;
 
+import com.maruhxn.lossion.domain.favorite.dao.TopicFavoriteRepository;
+import com.maruhxn.lossion.domain.favorite.domain.TopicFavorite;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
 import com.maruhxn.lossion.domain.topic.dao.TopicImageRepository;
 import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicSearchIndex;
 import com.maruhxn.lossion.domain.topic.dao.VoteRepository;
 import com.maruhxn.lossion.domain.topic.domain.*;
 import com.maruhxn.lossion.domain.topic.dto.request.CreateTopicReq;
 import com.maruhxn.lossion.domain.topic.dto.request.TopicSearchCond;
 import com.maruhxn.lossion.domain.topic.dto.request.UpdateTopicReq;
 import com.maruhxn.lossion.domain.topic.dto.request.VoteRequest;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicReactionItem;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent;
+import com.maruhxn.lossion.domain.topic.event.VoteCountChangedEvent;
 import com.maruhxn.lossion.global.common.dto.PageItem;
 import com.maruhxn.lossion.global.error.ErrorCode;
 import com.maruhxn.lossion.global.error.exception.BadRequestException;
 import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import com.maruhxn.lossion.util.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("[Service] - TopicService")
+@RecordApplicationEvents
 class TopicServiceTest extends IntegrationTestSupport {
 
     @Autowired
@@ -54,6 +67,21 @@ class TopicServiceTest extends IntegrationTestSupport {
     @Autowired
     private TopicImageRepository topicImageRepository;
 
+    @Autowired
+    private TopicFavoriteRepository topicFavoriteRepository;
+
+    @Autowired
+    private VoteTallyEngine voteTallyEngine;
+
+    @Autowired
+    private TopicSearchIndex topicSearchIndex;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @DisplayName("주제 리스트 조회 시 검색 조건을 전달하지 않을 경우, 최신 10개의 주제를 페이징 조회힌다.")
     @Test
     void getTopics() {
@@ -113,6 +141,8 @@ class TopicServiceTest extends IntegrationTestSupport {
         Topic topic11 = createTopic("title2", "test", closedAt, member, category);
 
         topicRepository.saveAll(List.of(topic1, topic2, topic3, topic4, topic5, topic6, topic7, topic8, topic9, topic10, topic11));
+        em.flush();
+        topicSearchIndex.rebuild();
 
         TopicSearchCond cond = TopicSearchCond.builder()
                 .title("title1")
@@ -148,6 +178,8 @@ class TopicServiceTest extends IntegrationTestSupport {
         Topic topic11 = createTopic("title2", "test2", closedAt, member, category);
 
         topicRepository.saveAll(List.of(topic1, topic2, topic3, topic4, topic5, topic6, topic7, topic8, topic9, topic10, topic11));
+        em.flush();
+        topicSearchIndex.rebuild();
 
         TopicSearchCond cond = TopicSearchCond.builder()
                 .description("test2")
@@ -220,6 +252,8 @@ class TopicServiceTest extends IntegrationTestSupport {
         Topic topic11 = createTopic("title2", "test", closedAt, member2, category);
 
         topicRepository.saveAll(List.of(topic1, topic2, topic3, topic4, topic5, topic6, topic7, topic8, topic9, topic10, topic11));
+        em.flush();
+        topicSearchIndex.rebuild();
 
         TopicSearchCond cond = TopicSearchCond.builder()
                 .title("title1")
@@ -328,6 +362,35 @@ class TopicServiceTest extends IntegrationTestSupport {
                 .hasMessage("제목은 필수입니다.");
     }
 
+    @DisplayName("이미지를 업로드한 뒤 주제 저장에 실패하면, 업로드한 이미지를 삭제한다.")
+    @Test
+    void createTopicWithImagesNotFoundCategory() {
+        // Given
+        Member member = createMember();
+        LocalDateTime closedAt = LocalDateTime.of(2024, 1, 16, 10, 0);
+        MockMultipartFile image1 = new MockMultipartFile("images", "image1.png", "image/png", new byte[]{1});
+        MockMultipartFile image2 = new MockMultipartFile("images", "image2.png", "image/png", new byte[]{1});
+
+        CreateTopicReq req = CreateTopicReq.builder()
+                .title("test")
+                .description("test")
+                .firstChoice("first")
+                .secondChoice("second")
+                .closedAt(closedAt)
+                .categoryId(-1L)
+                .images(List.of(image1, image2))
+                .build();
+
+        given(fileService.storeOneFile(any(MultipartFile.class)))
+                .willReturn("storedName");
+
+        // When / Then
+        assertThatThrownBy(() -> topicService.createTopic(member, req, closedAt.minusDays(1)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(ErrorCode.NOT_FOUND_CATEGORY.getMessage());
+        verify(fileService, times(2)).deleteFile("storedName");
+    }
+
     @DisplayName("주제를 생성 시 제목이 1글자이면 에러가 발생한다.")
     @Test
     void createTopicWithLessThan1LengthTitle() {
@@ -614,10 +677,18 @@ class TopicServiceTest extends IntegrationTestSupport {
                 .build();
 
         // When
-        Vote vote = topicService.vote(topic.getId(), member.getId(), request);
+        VoteType voteType = topicService.vote(topic.getId(), member.getId(), request);
 
         // Then
-        assertThat(vote.getVoteType()).isEqualTo(request.getVoteType());
+        assertThat(voteType).isEqualTo(request.getVoteType());
+        assertThat(voteTallyEngine.find(topic.getId())).isEmpty();
+        commitVoteCountChanges();
+        voteTallyEngine.checkpoint();
+        em.clear();
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).hasValue(VoteType.FIRST);
+        assertThat(topicRepository.findById(topic.getId()).get())
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(1L, 1L, 0L);
     }
 
     @DisplayName("기존과 다른 투표 정보로 재투표를 하는 경우, 해당 정보로 변경된다.")
@@ -643,10 +714,12 @@ class TopicServiceTest extends IntegrationTestSupport {
                 .build();
 
         // When
-        Vote resultVote = topicService.vote(topic.getId(), member.getId(), request);
+        VoteType voteType = topicService.vote(topic.getId(), member.getId(), request);
 
         // Then
-        assertThat(resultVote.getVoteType()).isEqualTo(resultVote.getVoteType());
+        assertThat(voteType).isEqualTo(VoteType.SECOND);
+        em.clear();
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).hasValue(VoteType.SECOND);
     }
 
     @DisplayName("기존과 같은 투표 정보로 재투표를 하는 경우, null이 저장된다.")
@@ -672,10 +745,49 @@ class TopicServiceTest extends IntegrationTestSupport {
                 .build();
 
         // When
-        Vote resultVote = topicService.vote(topic.getId(), member.getId(), request);
+        VoteType voteType = topicService.vote(topic.getId(), member.getId(), request);
+
+        // Then
+        assertThat(voteType).isNull();
+        em.clear();
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).isEmpty();
+        assertThat(voteRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("같은 회원이 여러 번 투표해도 투표 정보는 하나만 유지되고, 집계는 마지막 투표 정보를 따른다.")
+    @Test
+    void voteRepeatedly() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        LocalDateTime closedAt = LocalDateTime.of(2024, 1, 11, 12, 0);
+        Topic topic = createTopic("title", "test", closedAt, member, category);
+        topicRepository.save(topic);
+
+        VoteRequest first = VoteRequest.builder()
+                .voteType(VoteType.FIRST)
+                .voteAt(closedAt.minusDays(1))
+                .build();
+        VoteRequest second = VoteRequest.builder()
+                .voteType(VoteType.SECOND)
+                .voteAt(closedAt.minusDays(1))
+                .build();
+
+        // When
+        topicService.vote(topic.getId(), member.getId(), first);
+        topicService.vote(topic.getId(), member.getId(), second);
+        topicService.vote(topic.getId(), member.getId(), second);
+        topicService.vote(topic.getId(), member.getId(), first);
 
         // Then
-        assertThat(resultVote.getVoteType()).isNull();
+        commitVoteCountChanges();
+        voteTallyEngine.checkpoint();
+        em.clear();
+        assertThat(voteRepository.count()).isEqualTo(1);
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).hasValue(VoteType.FIRST);
+        assertThat(topicRepository.findById(topic.getId()).get())
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(1L, 1L, 0L);
     }
 
     @DisplayName("이미 종료된 토론에 투표하는 경우 에러가 발생한다.")
@@ -699,6 +811,96 @@ class TopicServiceTest extends IntegrationTestSupport {
                 .hasMessage(ErrorCode.ALREADY_CLOSED.getMessage());
     }
 
+    @DisplayName("종료 시각 전이라도 직접 종료된 토론에 투표하는 경우 에러가 발생한다.")
+    @Test
+    void voteOnClosedTopic() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        LocalDateTime closedAt = LocalDateTime.of(2024, 1, 11, 12, 0);
+        Topic topic = createTopic("title", "test", closedAt, member, category);
+        topic.updateCloseStatus();
+        topicRepository.save(topic);
+
+        VoteRequest request = VoteRequest.builder()
+                .voteType(VoteType.FIRST)
+                .voteAt(closedAt.minusDays(1))
+                .build();
+
+        // When / Then
+        assertThatThrownBy(() -> topicService.vote(topic.getId(), member.getId(), request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorCode.ALREADY_CLOSED.getMessage());
+    }
+
+    @DisplayName("같은 조회자가 주제를 반복해서 조회하면, 조회 활동은 한 번만 발행된다.")
+    @Test
+    void getTopicDetailPublishesViewOncePerViewer() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Topic topic = topicRepository.save(createTopic("title", "test", LocalDateTime.of(2024, 1, 11, 12, 0), member, category));
+        em.flush();
+        em.clear();
+
+        // When
+        topicService.getTopicDetail(topic.getId(), "addr:127.0.0.1");
+        topicService.getTopicDetail(topic.getId(), "addr:127.0.0.1");
+        topicService.getTopicDetail(topic.getId(), "member:" + member.getId());
+
+        // Then
+        assertThat(applicationEvents.stream(TopicActivityEvent.class)
+                .filter(event -> event.getActivityType() == TopicActivityEvent.ActivityType.VIEW))
+                .hasSize(2);
+    }
+
+    @DisplayName("주제 id 목록을 전달하면, 각 주제에 대한 본인의 투표 결과와 좋아요 여부를 제공한다.")
+    @Test
+    void getTopicReactions() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        LocalDateTime closedAt = LocalDateTime.of(2024, 1, 11, 12, 0);
+        Topic votedTopic = topicRepository.save(createTopic("voted", "test", closedAt, member, category));
+        Topic favoriteTopic = topicRepository.save(createTopic("favorite", "test", closedAt, member, category));
+        Topic otherTopic = topicRepository.save(createTopic("other", "test", closedAt, member, category));
+
+        voteRepository.save(Vote.builder()
+                .topic(votedTopic)
+                .voter(member)
+                .voteType(VoteType.SECOND)
+                .build());
+        topicFavoriteRepository.save(TopicFavorite.builder()
+                .topic(favoriteTopic)
+                .member(member)
+                .build());
+
+        // When
+        List<TopicReactionItem> result = topicService.getTopicReactions(
+                List.of(votedTopic.getId(), favoriteTopic.getId(), otherTopic.getId(), votedTopic.getId()), member.getId());
+
+        // Then
+        assertThat(result)
+                .extracting("topicId", "voteType", "isFavorite")
+                .containsExactly(
+                        tuple(votedTopic.getId(), VoteType.SECOND, false),
+                        tuple(favoriteTopic.getId(), null, true),
+                        tuple(otherTopic.getId(), null, false)
+                );
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 주제 수를 초과하면 400 에러가 발생한다.")
+    @Test
+    void getTopicReactionsWithTooManyIds() {
+        // Given
+        List<Long> topicIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // When / Then
+        assertThatThrownBy(() -> topicService.getTopicReactions(topicIds, 1L))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorCode.TOO_MANY_IDS.getMessage());
+    }
+
     @DisplayName("유저 정보와 PageRequest를 전달하면, 해당 유저가 작성한 주제를 페이징하여 제공한다.")
     @Test
     void getMyTopics() {
@@ -745,6 +947,12 @@ class TopicServiceTest extends IntegrationTestSupport {
         return categoryRepository.save(category);
     }
 
+    // 투표 집계는 커밋 후에 반영되므로, 롤백되는 테스트 트랜잭션에서는 발행된 변화량을 직접 전달한다.
+    private void commitVoteCountChanges() {
+        applicationEvents.stream(VoteCountChangedEvent.class)
+                .forEach(voteTallyEngine::onVoteCountChanged);
+    }
+
     private Member createMember() {
         Member member = Member.builder()
                 .accountId("tester1")
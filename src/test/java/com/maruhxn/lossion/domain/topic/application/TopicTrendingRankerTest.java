@@ -0,0 +1,185 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.comment.dao.CommentRepository;
+import com.maruhxn.lossion.domain.comment.domain.Comment;
+import com.maruhxn.lossion.domain.favorite.dao.TopicFavoriteRepository;
+import com.maruhxn.lossion.domain.favorite.domain.TopicFavorite;
+import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteRepository;
+import com.maruhxn.lossion.domain.topic.domain.Category;
+import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.domain.Vote;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.event.TopicActivityEvent.ActivityType;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Service] - TopicTrendingRanker")
+class TopicTrendingRankerTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TopicFavoriteRepository topicFavoriteRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @DisplayName("활동 종류별 가중치를 더한 점수가 높은 순으로 정렬하며, 점수가 같다면 최신 주제가 먼저다.")
+    @Test
+    void getTrendingIds() {
+        // Given
+        TopicTrendingRanker ranker = createRanker(100);
+        ranker.record(1L, ActivityType.VOTE, NOW);
+        ranker.record(1L, ActivityType.VOTE, NOW);
+        ranker.record(2L, ActivityType.COMMENT, NOW);
+        ranker.record(3L, ActivityType.FAVORITE, NOW);
+        ranker.record(4L, ActivityType.VIEW, NOW);
+
+        // When / Then
+        assertThat(ranker.getTrendingIds(10)).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(ranker.getTrendingIds(2)).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("오래된 활동일수록 점수가 반감기마다 절반으로 줄어든다.")
+    @Test
+    void getTrendingIdsWithDecay() {
+        // Given
+        TopicTrendingRanker ranker = createRanker(100);
+        // 두 반감기 전의 댓글 1개(3 * 1/4)보다 지금의 투표 1개(1)가 더 높다.
+        ranker.record(1L, ActivityType.COMMENT, NOW.minusHours(2));
+        ranker.record(2L, ActivityType.VOTE, NOW);
+        // 한 반감기 전의 댓글 1개(3 * 1/2)는 지금의 투표 1개보다 높다.
+        ranker.record(3L, ActivityType.COMMENT, NOW.minusHours(1));
+
+        // When / Then
+        assertThat(ranker.getTrendingIds(10)).containsExactly(3L, 2L, 1L);
+    }
+
+    @DisplayName("상위 K 개만 보관하며, 그 안의 주제가 삭제되면 나머지 주제로 다시 채운다.")
+    @Test
+    void onTopicContentChanged() {
+        // Given
+        TopicTrendingRanker ranker = createRanker(2);
+        ranker.record(1L, ActivityType.COMMENT, NOW);
+        ranker.record(2L, ActivityType.FAVORITE, NOW);
+        ranker.record(3L, ActivityType.VOTE, NOW);
+        assertThat(ranker.getTrendingIds(10)).containsExactly(1L, 2L);
+
+        // When
+        ranker.onTopicContentChanged(TopicContentChangedEvent.deleted(1L));
+
+        // Then
+        assertThat(ranker.getTrendingIds(10)).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("기준 시각을 옮긴 뒤에도 순위는 유지되고, 무시할 만큼 작아진 점수는 버린다.")
+    @Test
+    void recordAfterRescale() {
+        // Given
+        TopicTrendingRanker ranker = createRanker(100);
+        ranker.record(1L, ActivityType.VOTE, NOW);
+        ranker.record(2L, ActivityType.VOTE, NOW.plusHours(92));
+        ranker.record(3L, ActivityType.COMMENT, NOW.plusHours(92));
+
+        // When
+        ranker.record(4L, ActivityType.VOTE, NOW.plusHours(100));
+
+        // Then
+        assertThat(ranker.getTrendingIds(10)).containsExactly(4L, 3L, 2L);
+        assertThat(ranker.size()).isEqualTo(3);
+    }
+
+    @DisplayName("시작 시 최근에 저장된 투표, 댓글, 좋아요로 점수를 채운다.")
+    @Test
+    void warmUp() {
+        // Given
+        Member member = createMember();
+        Category category = categoryRepository.save(Category.builder()
+                .name("test")
+                .build());
+        Topic topic1 = createTopic(member, category);
+        Topic topic2 = createTopic(member, category);
+        voteRepository.save(Vote.builder()
+                .topic(topic1)
+                .voter(member)
+                .voteType(VoteType.FIRST)
+                .build());
+        commentRepository.save(Comment.builder()
+                .text("test")
+                .topic(topic2)
+                .author(member)
+                .groupId(String.valueOf(UUID.randomUUID()))
+                .build());
+        topicFavoriteRepository.save(TopicFavorite.builder()
+                .topic(topic2)
+                .member(member)
+                .build());
+        em.flush();
+        TopicTrendingRanker ranker = createRanker(100);
+
+        // When
+        ranker.warmUp(LocalDateTime.now());
+
+        // Then
+        assertThat(ranker.getTrendingIds(10)).containsExactly(topic2.getId(), topic1.getId());
+    }
+
+    private TopicTrendingRanker createRanker(int maxSize) {
+        return new TopicTrendingRanker(Duration.ofHours(1), maxSize, Duration.ofHours(48), jdbcTemplate);
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .accountId("tester")
+                .email("test@test.com")
+                .username("tester")
+                .password("test")
+                .build());
+    }
+
+    private Topic createTopic(Member member, Category category) {
+        return topicRepository.save(Topic.builder()
+                .title("test")
+                .description("test")
+                .closedAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .now(LocalDateTime.of(2024, 1, 14, 10, 0))
+                .firstChoice("first")
+                .secondChoice("second")
+                .author(member)
+                .category(category)
+                .build());
+    }
+}
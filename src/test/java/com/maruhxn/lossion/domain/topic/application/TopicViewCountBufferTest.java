@@ -0,0 +1,171 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.domain.Category;
+import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicDetailItem;
+import com.maruhxn.lossion.domain.topic.event.TopicChangedEvent;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@DisplayName("[Service] - TopicViewCountBuffer")
+@RecordApplicationEvents
+class TopicViewCountBufferTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TopicViewCountBuffer topicViewCountBuffer;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @DisplayName("주제 상세 조회 시 조회 수는 버퍼에만 누적되고, 응답의 조회 수에는 누적된 조회 수가 더해진다.")
+    @Test
+    void getTopicDetailBuffersViewCount() {
+        // Given
+        Topic topic = createTopic();
+        em.flush();
+        em.clear();
+
+        // When
+        topicService.getTopicDetail(topic.getId(), "member:1");
+        TopicDetailItem topicDetailItem = topicService.getTopicDetail(topic.getId(), "member:1");
+
+        // Then
+        assertThat(topicDetailItem.getViewCount()).isEqualTo(2L);
+        assertThat(topicViewCountBuffer.getPendingCount(topic.getId())).isEqualTo(2L);
+        em.clear();
+        assertThat(topicRepository.findById(topic.getId()).get().getViewCount()).isZero();
+    }
+
+    @DisplayName("버퍼를 비우면 누적된 조회 수가 한 번에 반영되고, 반영된 주제의 변경을 알린다.")
+    @Test
+    void flush() {
+        // Given
+        Topic topic = createTopic();
+        em.flush();
+        topicViewCountBuffer.increment(topic.getId());
+        topicViewCountBuffer.increment(topic.getId());
+        topicViewCountBuffer.increment(topic.getId());
+
+        // When
+        topicViewCountBuffer.flush();
+
+        // Then
+        em.clear();
+        assertThat(topicRepository.findById(topic.getId()).get().getViewCount()).isEqualTo(3L);
+        assertThat(topicViewCountBuffer.getPendingCount(topic.getId())).isZero();
+        assertThat(applicationEvents.stream(TopicChangedEvent.class))
+                .extracting("topicId")
+                .containsExactly(topic.getId());
+    }
+
+    @DisplayName("반영에 실패하면 꺼낸 조회 수를 버퍼에 되돌린다.")
+    @Test
+    void flushWithFailure() {
+        // Given
+        JdbcTemplate failingJdbcTemplate = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(failingJdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        TopicViewCountBuffer failingBuffer = new TopicViewCountBuffer(failingJdbcTemplate, eventPublisher);
+        failingBuffer.increment(1L);
+        failingBuffer.increment(1L);
+
+        // When / Then
+        assertThatThrownBy(failingBuffer::flush)
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(failingBuffer.getPendingCount(1L)).isEqualTo(2L);
+    }
+
+    @DisplayName("반영한 트랜잭션이 커밋되지 않으면 꺼낸 조회 수를 버퍼에 되돌린다.")
+    @Test
+    void flushWithRollback() {
+        // Given
+        TopicViewCountBuffer buffer = new TopicViewCountBuffer(jdbcTemplate, eventPublisher);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            buffer.flush();
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(buffer.getPendingCount(1L)).isEqualTo(2L);
+    }
+
+    private Topic createTopic() {
+        Member member = memberRepository.save(Member.builder()
+                .accountId("tester")
+                .email("test@test.com")
+                .username("tester")
+                .password("test")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("test")
+                .build());
+
+        Topic topic = Topic.builder()
+                .title("test")
+                .description("test")
+                .closedAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .now(LocalDateTime.of(2024, 1, 14, 10, 0))
+                .firstChoice("first")
+                .secondChoice("second")
+                .author(member)
+                .category(category)
+                .build();
+
+        return topicRepository.save(topic);
+    }
+}
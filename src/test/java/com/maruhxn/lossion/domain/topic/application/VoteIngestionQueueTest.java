@@ -0,0 +1,278 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteUpsertRepository;
+import com.maruhxn.lossion.domain.topic.domain.Category;
+import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.event.VoteCountChangedEvent;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.TooManyRequestsException;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 큐는 호출한 쪽과 별개의 트랜잭션에서 커밋하므로, 테스트 트랜잭션 없이 실행하고 저장된 데이터는 테스트마다 지운다.
+ */
+@DisplayName("[Service] - VoteIngestionQueue")
+@RecordApplicationEvents
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VoteIngestionQueueTest extends IntegrationTestSupport {
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private VoteUpsertRepository voteUpsertRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private VoteTallyEngine voteTallyEngine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteRepository.deleteAllInBatch();
+        topicRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("큐에 담긴 투표는 반영 전에도 본인의 투표 결과로 조회된다.")
+    @Test
+    void submit() {
+        // Given
+        VoteIngestionQueue voteIngestionQueue = createQueue(10);
+        Member member = createMember();
+        Topic topic = createTopic(member);
+
+        // When
+        VoteType first = voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.FIRST);
+        VoteType second = voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.FIRST);
+
+        // Then
+        assertThat(first).isEqualTo(VoteType.FIRST);
+        assertThat(second).isNull();
+        assertThat(voteIngestionQueue.findPendingVote(topic.getId(), member.getId()))
+                .hasValueSatisfying(pendingVote -> assertThat(pendingVote.voteType()).isNull());
+        assertThat(voteRepository.count()).isZero();
+    }
+
+    @DisplayName("큐를 비우면 마지막 투표 결과가 저장되고, 주제의 투표 집계에 변화량이 한 번에 반영된다.")
+    @Test
+    void flush() {
+        // Given
+        VoteIngestionQueue voteIngestionQueue = createQueue(10);
+        Member member = createMember();
+        Topic topic = createTopic(member);
+        voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.FIRST);
+        voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.SECOND);
+
+        // When
+        voteIngestionQueue.flush();
+
+        // Then
+        assertThat(voteTallyEngine.find(topic.getId())).hasValueSatisfying(voteCountInfo ->
+                assertThat(voteCountInfo)
+                        .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                        .containsExactly(1L, 0L, 1L));
+        voteTallyEngine.checkpoint();
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).hasValue(VoteType.SECOND);
+        assertThat(topicRepository.findById(topic.getId()).get())
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(1L, 0L, 1L);
+        assertThat(voteIngestionQueue.findPendingVote(topic.getId(), member.getId())).isEmpty();
+    }
+
+    @DisplayName("주제를 지정해 비우면, 그 주제의 투표가 호출한 스레드에서 저장된다.")
+    @Test
+    void flushTopic() {
+        // Given
+        VoteIngestionQueue voteIngestionQueue = createQueue(10);
+        Member member = createMember();
+        Topic topic = createTopic(member);
+        voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.FIRST);
+
+        // When
+        voteIngestionQueue.flush(topic.getId());
+
+        // Then
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).hasValue(VoteType.FIRST);
+        assertThat(voteIngestionQueue.findPendingVote(topic.getId(), member.getId())).isEmpty();
+    }
+
+    @DisplayName("큐를 비운 트랜잭션이 롤백되어도, 반영된 투표는 남는다.")
+    @Test
+    void flushInRolledBackTransaction() {
+        // Given
+        VoteIngestionQueue voteIngestionQueue = createQueue(10);
+        Member member = createMember();
+        Topic topic = createTopic(member);
+        voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.FIRST);
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            voteIngestionQueue.flush(topic.getId());
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).hasValue(VoteType.FIRST);
+        assertThat(applicationEvents.stream(VoteCountChangedEvent.class))
+                .extracting("topicId")
+                .containsExactly(topic.getId());
+    }
+
+    @DisplayName("일시적으로 저장에 실패한 투표는 버리지 않고, 재시도 목록에서 다시 반영한다.")
+    @Test
+    void flushWithTransientFailure() {
+        // Given
+        VoteUpsertRepository failingRepository = spy(voteUpsertRepository);
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("connection lost");
+        // 배치 저장 세 번과 한 건씩 저장 한 번이 실패한 뒤 복구된다.
+        doThrow(failure).doThrow(failure).doThrow(failure).doThrow(failure).doCallRealMethod()
+                .when(failingRepository).batchSave(anyList());
+        VoteIngestionQueue voteIngestionQueue = createQueue(10, failingRepository);
+        Member member = createMember();
+        Topic topic = createTopic(member);
+        voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.FIRST);
+
+        // When
+        voteIngestionQueue.flush();
+
+        // Then
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).hasValue(VoteType.FIRST);
+        assertThat(voteIngestionQueue.findPendingVote(topic.getId(), member.getId())).isEmpty();
+        assertThat(meterRegistry.get("vote.ingestion.failures").tag("outcome", "requeued").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("vote.ingestion.failures").tag("outcome", "dropped").counter().count()).isZero();
+    }
+
+    @DisplayName("다시 반영해도 계속 저장할 수 없는 투표만 버리고, 버린 횟수를 지표로 남긴다.")
+    @Test
+    void flushWithInvalidVote() {
+        // Given
+        VoteIngestionQueue voteIngestionQueue = createQueue(10);
+        Member member = createMember();
+        Topic topic = createTopic(member);
+        Long deletedTopicId = topic.getId() + 1000;
+        voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.FIRST);
+        voteIngestionQueue.submit(deletedTopicId, member.getId(), VoteType.FIRST);
+
+        // When
+        voteIngestionQueue.flush();
+
+        // Then
+        assertThat(voteRepository.findVoteType(topic.getId(), member.getId())).hasValue(VoteType.FIRST);
+        assertThat(applicationEvents.stream(VoteCountChangedEvent.class))
+                .extracting("topicId")
+                .containsExactly(topic.getId());
+        assertThat(voteIngestionQueue.findPendingVote(topic.getId(), member.getId())).isEmpty();
+        assertThat(voteIngestionQueue.findPendingVote(deletedTopicId, member.getId())).isEmpty();
+        assertThat(meterRegistry.get("vote.ingestion.failures").tag("outcome", "requeued").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("vote.ingestion.failures").tag("outcome", "dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("큐가 가득 차면 429 에러를 발생시키고, 본인의 투표 결과는 이전 상태로 되돌린다.")
+    @Test
+    void submitWhenQueueIsFull() {
+        // Given
+        VoteIngestionQueue voteIngestionQueue = createQueue(1);
+        Member member = createMember();
+        Topic topic = createTopic(member);
+        voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.FIRST);
+
+        // When / Then
+        assertThatThrownBy(() -> voteIngestionQueue.submit(topic.getId(), member.getId(), VoteType.SECOND))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage(ErrorCode.TOO_MANY_VOTE_REQUESTS.getMessage());
+        assertThat(voteIngestionQueue.findPendingVote(topic.getId(), member.getId()))
+                .hasValueSatisfying(pendingVote -> assertThat(pendingVote.voteType()).isEqualTo(VoteType.FIRST));
+    }
+
+    private VoteIngestionQueue createQueue(int capacityPerShard) {
+        return createQueue(capacityPerShard, voteUpsertRepository);
+    }
+
+    private VoteIngestionQueue createQueue(int capacityPerShard, VoteUpsertRepository upsertRepository) {
+        // 워커를 시작하지 않고, flush 로 반영한다.
+        return new VoteIngestionQueue(true, 1, capacityPerShard, 100,
+                voteRepository, upsertRepository, transactionManager, eventPublisher, meterRegistry);
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .accountId("tester")
+                .email("test@test.com")
+                .username("tester")
+                .password("test")
+                .build());
+    }
+
+    private Topic createTopic(Member member) {
+        Category category = categoryRepository.save(Category.builder()
+                .name("test")
+                .build());
+
+        Topic topic = Topic.builder()
+                .title("test")
+                .description("test")
+                .closedAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .now(LocalDateTime.of(2024, 1, 14, 10, 0))
+                .firstChoice("first")
+                .secondChoice("second")
+                .author(member)
+                .category(category)
+                .build();
+
+        return topicRepository.save(topic);
+    }
+}
@@ -0,0 +1,151 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.topic.application.VoteTallyEngine.TallySnapshot;
+import com.maruhxn.lossion.domain.topic.dto.response.VoteCountInfo;
+import com.maruhxn.lossion.domain.topic.event.VoteTallyChangedEvent;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
+import com.maruhxn.lossion.global.error.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("[Service] - VoteStreamHub")
+class VoteStreamHubTest {
+
+    private VoteStreamHub voteStreamHub;
+
+    @BeforeEach
+    void setUp() {
+        voteStreamHub = new VoteStreamHub(Duration.ofMinutes(1), 2, 4);
+    }
+
+    @DisplayName("주제를 구독하면 해당 주제의 구독자로 등록된다.")
+    @Test
+    void subscribe() {
+        // When
+        SseEmitter emitter1 = voteStreamHub.subscribe(1L, VoteStreamHubTest::createSnapshot);
+        SseEmitter emitter2 = voteStreamHub.subscribe(1L, VoteStreamHubTest::createSnapshot);
+
+        // Then
+        assertThat(emitter1).isNotSameAs(emitter2);
+        assertThat(voteStreamHub.getSubscriberCount(1L)).isEqualTo(2);
+        assertThat(voteStreamHub.getSubscriberCount(2L)).isZero();
+    }
+
+    @DisplayName("주제별 구독자 수나 전체 구독자 수를 넘으면 429 에러가 발생한다.")
+    @Test
+    void subscribeOverLimit() {
+        // Given
+        voteStreamHub.subscribe(1L, VoteStreamHubTest::createSnapshot);
+        voteStreamHub.subscribe(1L, VoteStreamHubTest::createSnapshot);
+        voteStreamHub.subscribe(2L, VoteStreamHubTest::createSnapshot);
+
+        // When / Then
+        assertThatThrownBy(() -> voteStreamHub.subscribe(1L, VoteStreamHubTest::createSnapshot))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage(ErrorCode.TOO_MANY_VOTE_STREAM_SUBSCRIBERS.getMessage());
+        voteStreamHub.subscribe(2L, VoteStreamHubTest::createSnapshot);
+        assertThatThrownBy(() -> voteStreamHub.subscribe(3L, VoteStreamHubTest::createSnapshot))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage(ErrorCode.TOO_MANY_VOTE_STREAM_SUBSCRIBERS.getMessage());
+        assertThat(voteStreamHub.getSubscriberCount(1L)).isEqualTo(2);
+        assertThat(voteStreamHub.getSubscriberCount(3L)).isZero();
+    }
+
+    @DisplayName("현재 집계를 읽지 못하면 구독을 해제하고 예외를 던진다.")
+    @Test
+    void subscribeWhenSnapshotFails() {
+        // When / Then
+        assertThatThrownBy(() -> voteStreamHub.subscribe(1L, () -> {
+            throw new EntityNotFoundException(ErrorCode.NOT_FOUND_TOPIC);
+        }))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(voteStreamHub.getSubscriberCount(1L)).isZero();
+        assertThatNoException().isThrownBy(() -> voteStreamHub.subscribe(2L, VoteStreamHubTest::createSnapshot));
+    }
+
+    @DisplayName("구독자가 없는 주제의 투표 변화는 무시한다.")
+    @Test
+    void onVoteCountChangedWithoutSubscriber() {
+        // When
+        voteStreamHub.onVoteTallyChanged(new VoteTallyChangedEvent(1L, 1L, 1L, 1L, 0L));
+
+        // Then
+        assertThatNoException().isThrownBy(() -> voteStreamHub.flush());
+        assertThat(voteStreamHub.getSubscriberCount(1L)).isZero();
+    }
+
+    @DisplayName("누적된 투표 변화는 flush 시점에 구독자에게 전송되며, 구독은 유지된다.")
+    @Test
+    void flush() {
+        // Given
+        voteStreamHub.subscribe(1L, VoteStreamHubTest::createSnapshot);
+        voteStreamHub.onVoteTallyChanged(new VoteTallyChangedEvent(1L, 1L, 1L, 1L, 0L));
+        voteStreamHub.onVoteTallyChanged(new VoteTallyChangedEvent(1L, 2L, 0L, -1L, 1L));
+
+        // When
+        voteStreamHub.flush();
+        voteStreamHub.heartbeat();
+
+        // Then
+        assertThat(voteStreamHub.getSubscriberCount(1L)).isEqualTo(1);
+    }
+
+    @DisplayName("스냅샷에 이미 포함된 순번의 변화량은, 그 스냅샷으로 구독한 구독자에게 전송하지 않는다.")
+    @Test
+    void flushSkipsChangesInSnapshot() {
+        // Given
+        SseEmitter earlier = voteStreamHub.subscribe(1L, () -> createSnapshot(0L, 0L));
+        voteStreamHub.onVoteTallyChanged(new VoteTallyChangedEvent(1L, 1L, 1L, 1L, 0L));
+        SseEmitter later = voteStreamHub.subscribe(1L, () -> createSnapshot(1L, 1L));
+        voteStreamHub.onVoteTallyChanged(new VoteTallyChangedEvent(1L, 2L, 1L, 0L, 1L));
+
+        // When
+        voteStreamHub.flush();
+
+        // Then
+        assertThat(sentVoteCounts(earlier))
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(tuple(0L, 0L, 0L), tuple(2L, 1L, 1L));
+        assertThat(sentVoteCounts(later))
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(tuple(1L, 1L, 0L), tuple(1L, 0L, 1L));
+    }
+
+    private static TallySnapshot createSnapshot() {
+        return createSnapshot(0L, 0L);
+    }
+
+    private static TallySnapshot createSnapshot(long sequence, long firstChoiceCount) {
+        return new TallySnapshot(sequence, VoteCountInfo.builder()
+                .voteCount(firstChoiceCount)
+                .firstChoiceCount(firstChoiceCount)
+                .secondChoiceCount(0L)
+                .build());
+    }
+
+    // 응답에 연결되지 않은 emitter 는 전송한 이벤트를 담아 두므로, 그 중 집계만 꺼낸다.
+    @SuppressWarnings("unchecked")
+    private static List<VoteCountInfo> sentVoteCounts(SseEmitter emitter) {
+        Collection<ResponseBodyEmitter.DataWithMediaType> sent =
+                (Collection<ResponseBodyEmitter.DataWithMediaType>) ReflectionTestUtils.getField(emitter, "earlySendAttempts");
+        return sent.stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(VoteCountInfo.class::isInstance)
+                .map(VoteCountInfo.class::cast)
+                .toList();
+    }
+}
@@ -0,0 +1,292 @@
+package com.maruhxn.lossion.domain.topic.application;
+
+import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.dao.CategoryRepository;
+import com.maruhxn.lossion.domain.topic.dao.TopicRepository;
+import com.maruhxn.lossion.domain.topic.dao.VoteRepository;
+import com.maruhxn.lossion.domain.topic.domain.Category;
+import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.domain.Vote;
+import com.maruhxn.lossion.domain.topic.domain.VoteType;
+import com.maruhxn.lossion.domain.topic.event.VoteCountChangedEvent;
+import com.maruhxn.lossion.domain.topic.event.VoteTallyChangedEvent;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@DisplayName("[Service] - VoteTallyEngine")
+@RecordApplicationEvents
+class VoteTallyEngineTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @DisplayName("투표, 취소, 변경에 따라 선택지별 집계와 전체 투표 수가 함께 바뀐다.")
+    @Test
+    void apply() {
+        // Given
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(jdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+
+        // When
+        voteTallyEngine.apply(topic.getId(), null, VoteType.FIRST);
+        voteTallyEngine.apply(topic.getId(), null, VoteType.FIRST);
+        voteTallyEngine.apply(topic.getId(), VoteType.FIRST, VoteType.SECOND);
+        voteTallyEngine.apply(topic.getId(), null, VoteType.SECOND);
+        voteTallyEngine.apply(topic.getId(), VoteType.SECOND, null);
+
+        // Then
+        assertThat(voteTallyEngine.find(topic.getId())).hasValueSatisfying(voteCountInfo ->
+                assertThat(voteCountInfo)
+                        .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                        .containsExactly(2L, 1L, 1L));
+    }
+
+    @DisplayName("시작 시 vote 테이블을 집계하여 주제별 투표 수를 채운다.")
+    @Test
+    void rebuild() {
+        // Given
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(jdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+        createVote(topic, createMember("voter1"), VoteType.FIRST);
+        createVote(topic, createMember("voter2"), VoteType.FIRST);
+        createVote(topic, createMember("voter3"), VoteType.SECOND);
+        createVote(topic, createMember("voter4"), null);
+        em.flush();
+
+        // When
+        voteTallyEngine.rebuild();
+
+        // Then
+        assertThat(voteTallyEngine.find(topic.getId())).hasValueSatisfying(voteCountInfo ->
+                assertThat(voteCountInfo)
+                        .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                        .containsExactly(3L, 2L, 1L));
+    }
+
+    @DisplayName("스냅샷을 저장하면 변경된 주제의 집계 컬럼에 쌓인 변화량만 더한다.")
+    @Test
+    void checkpoint() {
+        // Given
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(jdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+        topicRepository.updateVoteCount(topic.getId(), 1L, 1L, 0L);
+
+        voteTallyEngine.apply(topic.getId(), null, VoteType.SECOND);
+        // 다른 인스턴스가 그 사이 자신의 변화량을 저장한 경우
+        topicRepository.updateVoteCount(topic.getId(), 1L, 1L, 0L);
+
+        // When
+        voteTallyEngine.checkpoint();
+
+        // Then
+        em.clear();
+        assertThat(topicRepository.findById(topic.getId()).get())
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(3L, 2L, 1L);
+    }
+
+    @DisplayName("변화량 저장에 실패하면, 꺼낸 변화량을 되돌려 다음 스냅샷에서 다시 더한다.")
+    @Test
+    void checkpointWithFailure() {
+        // Given
+        JdbcTemplate failingJdbcTemplate = spy(jdbcTemplate);
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(failingJdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+        voteTallyEngine.apply(topic.getId(), null, VoteType.FIRST);
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .doCallRealMethod()
+                .when(failingJdbcTemplate).batchUpdate(anyString(), anyList());
+
+        // When
+        assertThatThrownBy(voteTallyEngine::checkpoint)
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        voteTallyEngine.checkpoint();
+
+        // Then
+        em.clear();
+        assertThat(topicRepository.findById(topic.getId()).get())
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(1L, 1L, 0L);
+    }
+
+    @DisplayName("한 선택지의 음수 변화량이 다른 선택지의 집계에 영향을 주지 않는다.")
+    @Test
+    void applyNegativeDeltaKeepsOtherChoice() {
+        // Given
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(jdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+        voteTallyEngine.apply(topic.getId(), null, VoteType.FIRST);
+
+        // When
+        voteTallyEngine.apply(topic.getId(), 0L, -1L);
+
+        // Then
+        assertThat(voteTallyEngine.find(topic.getId())).hasValueSatisfying(voteCountInfo ->
+                assertThat(voteCountInfo)
+                        .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                        .containsExactly(1L, 1L, 0L));
+    }
+
+    @DisplayName("다시 집계하는 동안 변화량이 반영된 주제는, 집계 결과와 겹쳐 두 번 세지 않도록 현재 값을 유지한다.")
+    @Test
+    void rebuildKeepsTopicsTouchedDuringScan() {
+        // Given
+        JdbcTemplate scanningJdbcTemplate = spy(jdbcTemplate);
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(scanningJdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+        createVote(topic, createMember("voter1"), VoteType.FIRST);
+        em.flush();
+        // 집계 직전에 커밋된 투표의 변화량이 집계 도중에 도착한 경우
+        doAnswer(invocation -> {
+            voteTallyEngine.apply(topic.getId(), null, VoteType.FIRST);
+            return invocation.callRealMethod();
+        }).when(scanningJdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // When
+        voteTallyEngine.rebuild();
+
+        // Then
+        assertThat(voteTallyEngine.find(topic.getId())).hasValueSatisfying(voteCountInfo ->
+                assertThat(voteCountInfo)
+                        .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                        .containsExactly(1L, 1L, 0L));
+    }
+
+    @DisplayName("투표 집계 변경 이벤트를 받으면 변화량을 반영한다.")
+    @Test
+    void onVoteCountChanged() {
+        // Given
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(jdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+
+        // When
+        voteTallyEngine.onVoteCountChanged(new VoteCountChangedEvent(topic.getId(), 1L, 1L, 0L));
+        voteTallyEngine.onVoteCountChanged(new VoteCountChangedEvent(topic.getId(), 0L, -1L, 1L));
+
+        // Then
+        assertThat(voteTallyEngine.find(topic.getId())).hasValueSatisfying(voteCountInfo ->
+                assertThat(voteCountInfo)
+                        .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                        .containsExactly(1L, 0L, 1L));
+    }
+
+    @DisplayName("반영한 변화량에는 순번을 매겨 알리고, 스냅샷은 집계와 마지막 순번을 함께 읽는다.")
+    @Test
+    void snapshot() {
+        // Given
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(jdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+        voteTallyEngine.apply(topic.getId(), null, VoteType.FIRST);
+
+        // When
+        VoteTallyEngine.TallySnapshot snapshot = voteTallyEngine.snapshot(topic.getId());
+        voteTallyEngine.apply(topic.getId(), VoteType.FIRST, VoteType.SECOND);
+
+        // Then
+        assertThat(snapshot.voteCountInfo())
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(1L, 1L, 0L);
+        assertThat(applicationEvents.stream(VoteTallyChangedEvent.class))
+                .extracting("sequence", "voteCountDelta", "firstChoiceCountDelta", "secondChoiceCountDelta")
+                .containsExactly(
+                        tuple(snapshot.sequence(), 1L, 1L, 0L),
+                        tuple(snapshot.sequence() + 1, 0L, -1L, 1L));
+        assertThat(voteTallyEngine.snapshot(topic.getId() + 1000).voteCountInfo()).isNull();
+    }
+
+    @DisplayName("다시 집계하면 어긋난 메모리 집계를 vote 테이블 기준으로 바로잡는다.")
+    @Test
+    void rebuildCorrectsDrift() {
+        // Given
+        VoteTallyEngine voteTallyEngine = new VoteTallyEngine(jdbcTemplate, eventPublisher);
+        Topic topic = createTopic("tester");
+        createVote(topic, createMember("voter1"), VoteType.FIRST);
+        createVote(topic, createMember("voter2"), VoteType.FIRST);
+        em.flush();
+        voteTallyEngine.apply(topic.getId(), null, VoteType.SECOND);
+
+        // When
+        voteTallyEngine.rebuild();
+
+        // Then
+        assertThat(voteTallyEngine.find(topic.getId())).hasValueSatisfying(voteCountInfo ->
+                assertThat(voteCountInfo)
+                        .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                        .containsExactly(2L, 2L, 0L));
+    }
+
+    private Topic createTopic(String accountId) {
+        Member member = createMember(accountId);
+        Category category = categoryRepository.save(Category.builder()
+                .name("test")
+                .build());
+
+        Topic topic = Topic.builder()
+                .title("test")
+                .description("test")
+                .closedAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .now(LocalDateTime.of(2024, 1, 14, 10, 0))
+                .firstChoice("first")
+                .secondChoice("second")
+                .author(member)
+                .category(category)
+                .build();
+
+        return topicRepository.save(topic);
+    }
+
+    private Member createMember(String accountId) {
+        return memberRepository.save(Member.builder()
+                .accountId(accountId)
+                .email(accountId + "@test.com")
+                .username(accountId)
+                .password("test")
+                .build());
+    }
+
+    private void createVote(Topic topic, Member member, VoteType voteType) {
+        voteRepository.save(Vote.builder()
+                .topic(topic)
+                .voter(member)
+                .voteType(voteType)
+                .build());
+    }
+}
@@ -8,12 +8,15 @@ import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.domain.topic.domain.Category;
 import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.domain.TopicImage;
 import com.maruhxn.lossion.domain.topic.domain.Vote;
 import com.maruhxn.lossion.domain.topic.domain.VoteType;
 import com.maruhxn.lossion.domain.topic.dto.request.TopicSearchCond;
 import com.maruhxn.lossion.domain.topic.dto.response.AuthorInfoItem;
 import com.maruhxn.lossion.domain.topic.dto.response.MyTopicItem;
+import com.maruhxn.lossion.domain.topic.dto.response.TopicDetailItem;
 import com.maruhxn.lossion.domain.topic.dto.response.TopicItem;
+import com.maruhxn.lossion.global.common.dto.Cursor;
 import com.maruhxn.lossion.util.IntegrationTestSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,6 +55,9 @@ class TopicQueryRepositoryTest extends IntegrationTestSupport {
     @Autowired
     private TopicFavoriteRepository topicFavoriteRepository;
 
+    @Autowired
+    private TopicSearchIndex topicSearchIndex;
+
     @Test
     @DisplayName("아무 검색 조건을 전달하지 않으면 가장 최신의 주제 10개를 페이징하여 전달한다.")
     void findAllByConditions() {
@@ -89,12 +96,134 @@ class TopicQueryRepositoryTest extends IntegrationTestSupport {
                 );
     }
 
+    @Test
+    @DisplayName("커서가 주어지면 커서 이후의 주제를 최신순으로 size + 1 건까지 조회한다.")
+    void findAllByCursor() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+
+        Topic topic1 = createTopic("test1", member, category);
+        Topic topic2 = createTopic("test2", member, category);
+        Topic topic3 = createTopic("test3", member, category);
+
+        TopicSearchCond cond = TopicSearchCond.builder()
+                .build();
+
+        // When
+        List<TopicItem> firstPage = topicQueryRepository.findAllByCursor(cond, null, 1);
+        TopicItem last = firstPage.get(0);
+        List<TopicItem> nextPage = topicQueryRepository.findAllByCursor(cond, Cursor.of(last.getCreatedAt(), last.getTopicId()), 2);
+
+        // Then
+        assertThat(firstPage).extracting("topicId")
+                .containsExactly(topic3.getId(), topic2.getId());
+        assertThat(nextPage).extracting("topicId")
+                .containsExactly(topic2.getId(), topic1.getId());
+    }
+
+    @Test
+    @DisplayName("카테고리 조건을 전달하면 해당 카테고리의 주제만 페이징 또는 커서 방식으로 최신순 조회한다.")
+    void findAllByCategory() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Category otherCategory = categoryRepository.save(Category.builder()
+                .name("other")
+                .build());
+
+        Topic topic1 = createTopic("test1", member, category);
+        createTopic("test2", member, otherCategory);
+        Topic topic3 = createTopic("test3", member, category);
+        Topic topic4 = createTopic("test4", member, category);
+
+        TopicSearchCond cond = TopicSearchCond.builder()
+                .categoryId(category.getId())
+                .build();
+
+        // When
+        Page<TopicItem> page = topicQueryRepository.findAllByConditions(cond, PageRequest.of(0, 10));
+        List<TopicItem> firstSlice = topicQueryRepository.findAllByCursor(cond, null, 1);
+        TopicItem last = firstSlice.get(0);
+        List<TopicItem> nextSlice = topicQueryRepository.findAllByCursor(cond, Cursor.of(last.getCreatedAt(), last.getTopicId()), 2);
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(3L);
+        assertThat(page.getContent()).extracting("topicId")
+                .containsExactly(topic4.getId(), topic3.getId(), topic1.getId());
+        assertThat(firstSlice).extracting("topicId")
+                .containsExactly(topic4.getId(), topic3.getId());
+        assertThat(nextSlice).extracting("topicId")
+                .containsExactly(topic3.getId(), topic1.getId());
+    }
+
+    @Test
+    @DisplayName("id 목록으로 주제를 조회하면 전달한 순서를 유지하고, 없는 주제는 제외한다.")
+    void findAllByIds() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+
+        Topic topic1 = createTopic("test1", member, category);
+        Topic topic2 = createTopic("test2", member, category);
+        Topic topic3 = createTopic("test3", member, category);
+
+        // When
+        List<TopicItem> result = topicQueryRepository.findAllByIds(List.of(topic2.getId(), topic3.getId(), -1L, topic1.getId()));
+
+        // Then
+        assertThat(result).extracting("topicId")
+                .containsExactly(topic2.getId(), topic3.getId(), topic1.getId());
+    }
+
+    @Test
+    @DisplayName("주제 상세 정보를 집계 컬럼과 이미지와 함께 조회한다.")
+    void findTopicDetail() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+
+        Topic topic = createTopic("test", member, category);
+        topic.addTopicImage(TopicImage.builder()
+                .originalName("original")
+                .storedName("stored")
+                .build());
+
+        createVote(member, topic);
+        createComment(topic, member);
+        createComment(topic, member);
+        createTopicFavorite(topic, member);
+
+        // When
+        TopicDetailItem topicDetailItem = topicQueryRepository.findTopicDetail(topic.getId()).get();
+
+        // Then
+        assertThat(topicDetailItem)
+                .extracting("topicId", "title", "author", "commentCount", "favoriteCount")
+                .containsExactly(topic.getId(), "test", AuthorInfoItem.from(member), 2L, 1L);
+        assertThat(topicDetailItem.getVoteCountInfo())
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount")
+                .containsExactly(1L, 1L, 0L);
+        assertThat(topicDetailItem.getImages()).hasSize(1)
+                .extracting("originalName", "storedName")
+                .containsExactly(tuple("original", "stored"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 주제의 상세 정보를 조회하면 빈 값을 반환한다.")
+    void findTopicDetailWithNonExistingId() {
+        // When / Then
+        assertThat(topicQueryRepository.findTopicDetail(1000L)).isEmpty();
+    }
+
     private TopicFavorite createTopicFavorite(Topic topic1, Member member) {
         TopicFavorite topicFavorite = TopicFavorite.builder()
                 .topic(topic1)
                 .member(member)
                 .build();
-        return topicFavoriteRepository.save(topicFavorite);
+        topicFavoriteRepository.save(topicFavorite);
+        topicRepository.updateFavoriteCount(topic1.getId(), 1L);
+        return topicFavorite;
     }
 
     private Vote createVote(Member member, Topic topic1) {
@@ -104,7 +233,44 @@ class TopicQueryRepositoryTest extends IntegrationTestSupport {
                 .topic(topic1)
                 .build();
 
-        return voteRepository.save(vote);
+        voteRepository.save(vote);
+        topicRepository.updateVoteCount(topic1.getId(), 1L, 1L, 0L);
+        return vote;
+    }
+
+    @Test
+    @DisplayName("제목 키워드와 커서를 전달하면 키워드에 일치하는 주제를 조건에 맞게 걸러 최신순으로 빠짐없이 조회한다.")
+    void findAllByCursorWithTitleCond() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+        Category otherCategory = categoryRepository.save(Category.builder()
+                .name("other")
+                .build());
+
+        Topic topic1 = createTopic("keyword1", member, category);
+        createTopic("keyword2", member, otherCategory);
+        createTopic("test3", member, category);
+        Topic topic4 = createTopic("keyword4", member, category);
+        Topic topic5 = createTopic("keyword5", member, category);
+
+        topicSearchIndex.rebuild();
+
+        TopicSearchCond cond = TopicSearchCond.builder()
+                .title("keyword")
+                .categoryId(category.getId())
+                .build();
+
+        // When
+        List<TopicItem> firstSlice = topicQueryRepository.findAllByCursor(cond, null, 1);
+        TopicItem last = firstSlice.get(0);
+        List<TopicItem> nextSlice = topicQueryRepository.findAllByCursor(cond, Cursor.of(last.getCreatedAt(), last.getTopicId()), 2);
+
+        // Then
+        assertThat(firstSlice).extracting("topicId")
+                .containsExactly(topic5.getId(), topic4.getId());
+        assertThat(nextSlice).extracting("topicId")
+                .containsExactly(topic4.getId(), topic1.getId());
     }
 
     @Test
@@ -122,6 +288,8 @@ class TopicQueryRepositoryTest extends IntegrationTestSupport {
         createTopicFavorite(topic1, member);
         createTopicFavorite(topic1, member);
 
+        topicSearchIndex.rebuild();
+
         TopicSearchCond cond = TopicSearchCond.builder()
                 .title("1")
                 .build();
@@ -181,7 +349,9 @@ class TopicQueryRepositoryTest extends IntegrationTestSupport {
                 .author(member)
                 .groupId(String.valueOf(UUID.randomUUID()))
                 .build();
-        return commentRepository.save(comment);
+        commentRepository.save(comment);
+        topicRepository.updateCommentCount(topic.getId(), 1L);
+        return comment;
     }
 
     private Topic createTopic(String title, Member member, Category category) {
@@ -74,6 +74,32 @@ class TopicRepositoryTest extends IntegrationTestSupport {
         assertThat(favorites).containsExactly(topicFavorite);
     }
 
+    @Test
+    @DisplayName("집계 컬럼을 보정하면 실제 투표, 댓글, 좋아요 수로 갱신된다.")
+    void reconcileCounts() {
+        // Given
+        Member member = createMember();
+        Category category = createCategory();
+
+        Topic topic = createTopic("test", member, category);
+
+        createVote(member, topic);
+        createComment(topic, member);
+        createComment(topic, member);
+        createComment(topic, member);
+        createTopicFavorite(topic, member);
+
+        // When
+        int updated = topicRepository.reconcileCounts(topic.getId(), topic.getId(), VoteType.FIRST, VoteType.SECOND);
+
+        // Then
+        Topic findTopic = topicRepository.findById(topic.getId()).get();
+        assertThat(updated).isEqualTo(1);
+        assertThat(findTopic)
+                .extracting("voteCount", "firstChoiceCount", "secondChoiceCount", "commentCount", "favoriteCount")
+                .containsExactly(1L, 1L, 0L, 3L, 1L);
+    }
+
     private TopicFavorite createTopicFavorite(Topic topic1, Member member) {
         TopicFavorite topicFavorite = TopicFavorite.builder()
                 .topic(topic1)
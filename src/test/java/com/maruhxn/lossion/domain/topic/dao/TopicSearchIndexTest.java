@@ -0,0 +1,223 @@
+package com.maruhxn.lossion.domain.topic.dao;
+
+import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.topic.domain.Category;
+import com.maruhxn.lossion.domain.topic.domain.Topic;
+import com.maruhxn.lossion.domain.topic.event.TopicContentChangedEvent;
+import com.maruhxn.lossion.global.common.dto.Cursor;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("[Repository] - TopicSearchIndex")
+class TopicSearchIndexTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 14, 10, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @DisplayName("한글 제목과 내용의 부분 문자열로 검색하며, 대소문자를 구분하지 않는다.")
+    @Test
+    void search() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        topicSearchIndex.index(1L, "짜장면 vs 짬뽕", "중식 최강자는?", NOW);
+        topicSearchIndex.index(2L, "부먹 vs 찍먹", "탕수육 소스 논쟁", NOW);
+        topicSearchIndex.index(3L, "Java vs Kotlin", "서버 언어 선택", NOW);
+
+        // When / Then
+        assertThat(topicSearchIndex.search("짬뽕", null)).containsExactly(1L);
+        assertThat(topicSearchIndex.search("vs", null)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(topicSearchIndex.search("java", null)).containsExactly(3L);
+        assertThat(topicSearchIndex.search(null, "소스")).containsExactly(2L);
+        assertThat(topicSearchIndex.search("vs", "중")).containsExactly(1L);
+        assertThat(topicSearchIndex.search("짬짜", null)).isEmpty();
+        assertThat(topicSearchIndex.search(" ", null)).isEmpty();
+    }
+
+    @DisplayName("제목이 키워드로 시작하거나 키워드가 차지하는 비율이 높을수록 앞에 오고, 점수가 같다면 최신 주제가 먼저다.")
+    @Test
+    void searchRanking() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        topicSearchIndex.index(1L, "오늘 점심 메뉴 추천", "test", NOW);
+        topicSearchIndex.index(2L, "점심 메뉴", "test", NOW);
+        topicSearchIndex.index(3L, "점심 메뉴 투표", "test", NOW);
+        topicSearchIndex.index(4L, "오늘 점심 메뉴 추천", "test", NOW);
+
+        // When / Then
+        assertThat(topicSearchIndex.search("점심", null)).containsExactly(2L, 3L, 4L, 1L);
+    }
+
+    @DisplayName("주제가 수정되거나 삭제되면 해당 주제의 색인만 갱신된다.")
+    @Test
+    void onTopicContentChanged() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        topicSearchIndex.index(1L, "짜장면 vs 짬뽕", "test", NOW);
+        topicSearchIndex.index(2L, "부먹 vs 찍먹", "test", NOW);
+
+        // When
+        topicSearchIndex.onTopicContentChanged(TopicContentChangedEvent.saved(1L, "볶음밥 vs 짬뽕밥", "test", NOW));
+        topicSearchIndex.onTopicContentChanged(TopicContentChangedEvent.deleted(2L));
+
+        // Then
+        assertThat(topicSearchIndex.search("짜장", null)).isEmpty();
+        assertThat(topicSearchIndex.search("볶음밥", null)).containsExactly(1L);
+        assertThat(topicSearchIndex.search("vs", null)).containsExactly(1L);
+    }
+
+    @DisplayName("시작 시 topic 테이블의 제목과 내용으로 전체 색인을 만든다.")
+    @Test
+    void rebuild() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        Topic topic = createTopic("민트초코 호불호", "치약 맛인가요?");
+
+        // When
+        topicSearchIndex.rebuild();
+
+        // Then
+        assertThat(topicSearchIndex.search("민트", "치약")).containsExactly(topic.getId());
+    }
+
+    @DisplayName("검색 결과는 개수 제한 없이 일치한 주제를 모두 반환한다.")
+    @Test
+    void searchWithoutLimit() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        for (long topicId = 1; topicId <= 1500; topicId++) {
+            topicSearchIndex.index(topicId, "test", "test", NOW);
+        }
+
+        // When / Then
+        assertThat(topicSearchIndex.search("test", null)).hasSize(1500);
+    }
+
+    @DisplayName("최신순 검색은 커서 이후의 일치한 주제를 (생성 시각, id) 내림차순으로 넘겨 가며 빠짐없이 반환한다.")
+    @Test
+    void searchRecent() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        topicSearchIndex.index(1L, "test", "test", NOW.plusHours(3));
+        topicSearchIndex.index(2L, "test", "test", NOW.plusHours(1));
+        topicSearchIndex.index(3L, "test", "test", NOW.plusHours(1));
+        topicSearchIndex.index(4L, "other", "test", NOW.plusHours(4));
+        topicSearchIndex.index(5L, "test", "test", NOW);
+
+        // When
+        List<Cursor> firstPage = topicSearchIndex.searchRecent("test", null, null, 2);
+        List<Cursor> nextPage = topicSearchIndex.searchRecent("test", null, firstPage.get(1), 2);
+        List<Cursor> lastPage = topicSearchIndex.searchRecent("test", null, nextPage.get(1), 2);
+
+        // Then
+        assertThat(firstPage).extracting("id").containsExactly(1L, 3L);
+        assertThat(nextPage).extracting("id").containsExactly(2L, 5L);
+        assertThat(lastPage).isEmpty();
+    }
+
+    @DisplayName("제목이나 제목 속 단어가 입력으로 시작하는 주제를 최신순으로 자동완성한다.")
+    @Test
+    void suggest() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        topicSearchIndex.index(1L, "짜장면 vs 짬뽕", "test", NOW);
+        topicSearchIndex.index(2L, "짬뽕 국물 맵기", "test", NOW);
+        topicSearchIndex.index(3L, "Java vs Kotlin", "test", NOW);
+
+        // When / Then
+        assertThat(topicSearchIndex.suggest("짬", 10))
+                .extracting("topicId", "title")
+                .containsExactly(tuple(2L, "짬뽕 국물 맵기"), tuple(1L, "짜장면 vs 짬뽕"));
+        assertThat(topicSearchIndex.suggest("VS k", 10))
+                .extracting("topicId")
+                .containsExactly(3L);
+        assertThat(topicSearchIndex.suggest("국물", 10)).extracting("topicId").containsExactly(2L);
+        assertThat(topicSearchIndex.suggest("뽕", 10)).isEmpty();
+        assertThat(topicSearchIndex.suggest(" ", 10)).isEmpty();
+    }
+
+    @DisplayName("주제가 삭제되면 자동완성에서도 빠지고, 남은 주제로 목록이 다시 채워진다.")
+    @Test
+    void suggestAfterRemove() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        for (long topicId = 1; topicId <= TopicSearchIndex.MAX_SUGGESTIONS + 1; topicId++) {
+            topicSearchIndex.index(topicId, "test" + topicId, "test", NOW);
+        }
+
+        // When
+        topicSearchIndex.remove((long) TopicSearchIndex.MAX_SUGGESTIONS + 1);
+        topicSearchIndex.remove(5L);
+
+        // Then
+        assertThat(topicSearchIndex.suggest("test", 10))
+                .extracting("topicId")
+                .containsExactly(10L, 9L, 8L, 7L, 6L, 4L, 3L, 2L, 1L);
+        assertThat(topicSearchIndex.suggest("test5", 10)).isEmpty();
+    }
+
+    @DisplayName("제목 속 여러 단어가 같은 접두사를 공유하는 주제가 삭제되어도, 공유하는 노드의 목록이 남은 주제로 다시 채워진다.")
+    @Test
+    void suggestAfterRemoveWithSharedPrefix() {
+        // Given
+        TopicSearchIndex topicSearchIndex = new TopicSearchIndex(jdbcTemplate);
+        for (long topicId = 1; topicId <= TopicSearchIndex.MAX_SUGGESTIONS; topicId++) {
+            topicSearchIndex.index(topicId, "test" + topicId, "test", NOW);
+        }
+        long removedId = TopicSearchIndex.MAX_SUGGESTIONS + 1;
+        topicSearchIndex.index(removedId, "tea test tester", "test", NOW);
+
+        // When
+        topicSearchIndex.remove(removedId);
+
+        // Then
+        assertThat(topicSearchIndex.suggest("te", 10))
+                .extracting("topicId")
+                .containsExactly(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+        assertThat(topicSearchIndex.suggest("tea", 10)).isEmpty();
+        assertThat(topicSearchIndex.suggest("tester", 10)).isEmpty();
+    }
+
+    private Topic createTopic(String title, String description) {
+        Member member = memberRepository.save(Member.builder()
+                .accountId("tester")
+                .email("test@test.com")
+                .username("tester")
+                .password("test")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("test")
+                .build());
+
+        return topicRepository.save(Topic.builder()
+                .title(title)
+                .description(description)
+                .closedAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .now(LocalDateTime.of(2024, 1, 14, 10, 0))
+                .firstChoice("first")
+                .secondChoice("second")
+                .author(member)
+                .category(category)
+                .build());
+    }
+}
@@ -0,0 +1,47 @@
+package com.maruhxn.lossion.global.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Auth] - PublicEndpoints")
+class PublicEndpointsTest {
+
+    @DisplayName("공개 경로 여부를 HTTP 메서드와 경로 패턴으로 판단한다.")
+    @ParameterizedTest
+    @CsvSource({
+            "GET, /, true",
+            "GET, /test/anything/nested, true",
+            "POST, /api/auth/sign-up, true",
+            "GET, /api/topics, true",
+            "GET, /api/topics/1, true",
+            "GET, /api/topics/1/comments, true",
+            "GET, /api/topics/1/votes/stream, true",
+            "GET, /api/topics/1/comments/groups, true",
+            "GET, /api/topics/1/comments/groups/abc, true",
+            "GET, /api/files/image.jpg, true",
+            "GET, /api/topics/suggest, true",
+            "GET, /api/topics/trending, true",
+            "GET, /api/topics/1/result, true",
+            "GET, /api/files, true",
+            "GET, /api/topics/, false",
+            "GET, /api/topics/1/comments/groups/, false",
+            "GET, /api/topicsx, false",
+            "GET, /api/topics/my, false",
+            "GET, /api/topics/reactions, false",
+            "GET, /api/topics/1/vote, false",
+            "POST, /api/topics, false",
+            "PATCH, /api/topics/1, false"
+    })
+    void isPublic(String method, String path, boolean expected) {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+
+        // When / Then
+        assertThat(PublicEndpoints.isPublic(request)).isEqualTo(expected);
+    }
+}
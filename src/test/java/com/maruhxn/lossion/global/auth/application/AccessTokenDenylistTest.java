@@ -0,0 +1,64 @@
+package com.maruhxn.lossion.global.auth.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Service] - AccessTokenDenylist")
+class AccessTokenDenylistTest {
+
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        accessTokenDenylist = new AccessTokenDenylist(1000);
+    }
+
+    @DisplayName("폐기한 토큰의 jti 는 폐기된 것으로 판단한다.")
+    @Test
+    void revoke() {
+        // Given
+        String jti = UUID.randomUUID().toString();
+
+        // When
+        accessTokenDenylist.revoke(jti, new Date(System.currentTimeMillis() + 60_000));
+
+        // Then
+        assertThat(accessTokenDenylist.isRevoked(jti)).isTrue();
+    }
+
+    @DisplayName("폐기하지 않은 토큰의 jti 는 폐기되지 않은 것으로 판단한다.")
+    @Test
+    void isRevokedWhenNotRevoked() {
+        // Given
+        accessTokenDenylist.revoke(UUID.randomUUID().toString(), new Date(System.currentTimeMillis() + 60_000));
+
+        // When / Then
+        for (int i = 0; i < 100; i++) {
+            assertThat(accessTokenDenylist.isRevoked(UUID.randomUUID().toString())).isFalse();
+        }
+        assertThat(accessTokenDenylist.isRevoked(null)).isFalse();
+    }
+
+    @DisplayName("만료 시각이 지난 항목은 폐기 목록에서 제거된다.")
+    @Test
+    void sweepExpired() {
+        // Given
+        String expiredJti = UUID.randomUUID().toString();
+        String jti = UUID.randomUUID().toString();
+        accessTokenDenylist.revoke(expiredJti, new Date(System.currentTimeMillis() - 1));
+        accessTokenDenylist.revoke(jti, new Date(System.currentTimeMillis() + 60_000));
+
+        // When
+        accessTokenDenylist.sweepExpired();
+
+        // Then
+        assertThat(accessTokenDenylist.isRevoked(expiredJti)).isFalse();
+        assertThat(accessTokenDenylist.isRevoked(jti)).isTrue();
+    }
+}
@@ -1,7 +1,6 @@
 package com.maruhxn.lossion.global.auth.application;
 
-import com.maruhxn.lossion.domain.auth.dao.RefreshTokenRepository;
-import com.maruhxn.lossion.domain.auth.domain.RefreshToken;
+import com.maruhxn.lossion.domain.auth.dao.RefreshTokenStore;
 import com.maruhxn.lossion.domain.member.dao.MemberRepository;
 import com.maruhxn.lossion.domain.member.domain.Member;
 import com.maruhxn.lossion.global.auth.dto.JwtMemberInfo;
@@ -12,6 +11,7 @@ import com.maruhxn.lossion.global.error.exception.EntityNotFoundException;
 import com.maruhxn.lossion.util.IntegrationTestSupport;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,8 +20,6 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
-import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,7 +31,7 @@ class JwtServiceTest extends IntegrationTestSupport {
     private JwtService jwtService;
 
     @Autowired
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @Autowired
     private MemberRepository memberRepository;
@@ -41,6 +39,15 @@ class JwtServiceTest extends IntegrationTestSupport {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @AfterEach
+    void tearDown() {
+        // 저장소는 트랜잭션 롤백 대상이 아니므로 테스트마다 비운다.
+        refreshTokenStore.deleteAllByAccountId("tester");
+    }
+
     @DisplayName("jwt의 payload를 바탕으로 조회한 refreshToken이 없다면 새롭게 저장한다.")
     @Test
     void saveRefreshToken1() {
@@ -56,8 +63,8 @@ class JwtServiceTest extends IntegrationTestSupport {
         jwtService.saveRefreshToken(jwtMemberInfo, tokenDto);
 
         // Then
-        Optional<RefreshToken> optionalRefreshToken = refreshTokenRepository.findByAccountId(jwtMemberInfo.getAccountId());
-        assertThat(optionalRefreshToken.isPresent()).isTrue();
+        assertThat(refreshTokenStore.findRefreshTokenByAccountId(jwtMemberInfo.getAccountId()))
+                .hasValue(tokenDto.getRefreshToken());
 
     }
 
@@ -65,11 +72,7 @@ class JwtServiceTest extends IntegrationTestSupport {
     @Test
     void saveRefreshToken2() {
         // Given
-        RefreshToken refreshToken = RefreshToken.builder()
-                .accountId("tester")
-                .refreshToken("refreshToken")
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save("tester", "refreshToken", jwtUtils.getRefreshTokenTtl());
 
         JwtMemberInfo jwtMemberInfo = createJwtMemberInfo();
 
@@ -82,8 +85,9 @@ class JwtServiceTest extends IntegrationTestSupport {
         jwtService.saveRefreshToken(jwtMemberInfo, tokenDto);
 
         // Then
-        RefreshToken findRefreshToken = refreshTokenRepository.findByAccountId(jwtMemberInfo.getAccountId()).get();
-        assertThat(findRefreshToken.getRefreshToken()).isEqualTo(tokenDto.getRefreshToken());
+        assertThat(refreshTokenStore.findRefreshTokenByAccountId(jwtMemberInfo.getAccountId()))
+                .hasValue(tokenDto.getRefreshToken());
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken("refreshToken")).isEmpty();
 
     }
 
@@ -96,11 +100,7 @@ class JwtServiceTest extends IntegrationTestSupport {
         JwtMemberInfo jwtMemberInfo = JwtMemberInfo.from(member);
 
         String rawRefreshToken = jwtUtils.generateRefreshToken(jwtMemberInfo, new Date());
-        RefreshToken refreshToken = RefreshToken.builder()
-                .accountId(member.getAccountId())
-                .refreshToken(rawRefreshToken)
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(member.getAccountId(), rawRefreshToken, jwtUtils.getRefreshTokenTtl());
 
         String bearerRefreshToken = Constants.BEARER_PREFIX + rawRefreshToken;
         // When
@@ -120,11 +120,7 @@ class JwtServiceTest extends IntegrationTestSupport {
         LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
         String rawRefreshToken = jwtUtils.generateRefreshToken(jwtMemberInfo, Date.from(now.atZone(ZoneId.systemDefault()).toInstant()));
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .accountId(member.getAccountId())
-                .refreshToken(rawRefreshToken)
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(member.getAccountId(), rawRefreshToken, jwtUtils.getRefreshTokenTtl());
 
         String bearerRefreshToken = Constants.BEARER_PREFIX + rawRefreshToken;
         // When / Then
@@ -159,11 +155,7 @@ class JwtServiceTest extends IntegrationTestSupport {
 
         String rawRefreshToken = jwtUtils.generateRefreshToken(jwtMemberInfo, new Date());
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .accountId(jwtMemberInfo.getAccountId())
-                .refreshToken(rawRefreshToken)
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(jwtMemberInfo.getAccountId(), rawRefreshToken, jwtUtils.getRefreshTokenTtl());
 
         String bearerRefreshToken = Constants.BEARER_PREFIX + rawRefreshToken;
         // When / Then
@@ -180,20 +172,58 @@ class JwtServiceTest extends IntegrationTestSupport {
         JwtMemberInfo jwtMemberInfo = JwtMemberInfo.from(member);
 
         String rawRefreshToken = jwtUtils.generateRefreshToken(jwtMemberInfo, new Date());
-        RefreshToken refreshToken = RefreshToken.builder()
-                .accountId(member.getAccountId())
-                .refreshToken(rawRefreshToken)
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(member.getAccountId(), rawRefreshToken, jwtUtils.getRefreshTokenTtl());
+
+        String rawAccessToken = jwtUtils.generateAccessToken(jwtMemberInfo, new Date());
 
+        String bearerAccessToken = Constants.BEARER_PREFIX + rawAccessToken;
         String bearerRefreshToken = Constants.BEARER_PREFIX + rawRefreshToken;
         // When
-        jwtService.logout(bearerRefreshToken);
+        jwtService.logout(bearerAccessToken, bearerRefreshToken);
 
         // Then
-        List<RefreshToken> refreshTokens = refreshTokenRepository.findAll();
-        assertThat(refreshTokens).isEmpty();
+        assertThat(refreshTokenStore.findRefreshTokenByAccountId(member.getAccountId())).isEmpty();
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken(rawRefreshToken)).isEmpty();
+        assertThat(accessTokenDenylist.isRevoked(jwtUtils.verify(rawAccessToken).getId())).isTrue();
+
+    }
+
+    @DisplayName("access token 이 만료되었더라도 refreshToken을 삭제하여 로그아웃 한다.")
+    @Test
+    void logoutWithExpiredAccessToken() {
+        // Given
+        Member member = createMember();
+        JwtMemberInfo jwtMemberInfo = JwtMemberInfo.from(member);
 
+        String rawRefreshToken = jwtUtils.generateRefreshToken(jwtMemberInfo, new Date());
+        refreshTokenStore.save(member.getAccountId(), rawRefreshToken, jwtUtils.getRefreshTokenTtl());
+
+        Date issuedAt = Date.from(LocalDateTime.of(2024, 1, 1, 0, 0).atZone(ZoneId.systemDefault()).toInstant());
+        String rawAccessToken = jwtUtils.generateAccessToken(jwtMemberInfo, issuedAt);
+
+        // When
+        jwtService.logout(Constants.BEARER_PREFIX + rawAccessToken, Constants.BEARER_PREFIX + rawRefreshToken);
+
+        // Then
+        assertThat(refreshTokenStore.findRefreshTokenByAccountId(member.getAccountId())).isEmpty();
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken(rawRefreshToken)).isEmpty();
+    }
+
+    @DisplayName("access token 이 유효하지 않으면 refreshToken을 삭제하지 않고 예외를 던진다.")
+    @Test
+    void logoutWithInvalidAccessToken() {
+        // Given
+        Member member = createMember();
+        JwtMemberInfo jwtMemberInfo = JwtMemberInfo.from(member);
+
+        String rawRefreshToken = jwtUtils.generateRefreshToken(jwtMemberInfo, new Date());
+        refreshTokenStore.save(member.getAccountId(), rawRefreshToken, jwtUtils.getRefreshTokenTtl());
+
+        // When / Then
+        assertThatThrownBy(() -> jwtService.logout(Constants.BEARER_PREFIX + "invalid", Constants.BEARER_PREFIX + rawRefreshToken))
+                .isInstanceOf(JwtException.class)
+                .hasMessage(ErrorCode.INVALID_TOKEN.getMessage());
+        assertThat(refreshTokenStore.findAccountIdByRefreshToken(rawRefreshToken)).hasValue(member.getAccountId());
     }
 
     private static JwtMemberInfo createJwtMemberInfo() {
@@ -0,0 +1,77 @@
+package com.maruhxn.lossion.global.auth.application;
+
+import com.maruhxn.lossion.global.auth.dto.JwtMemberInfo;
+import com.maruhxn.lossion.global.error.ErrorCode;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[Service] - JwtUtils")
+class JwtUtilsTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @DisplayName("access token 을 한 번 검증하여 회원 정보를 추출한다.")
+    @Test
+    void verify() {
+        // Given
+        JwtMemberInfo jwtMemberInfo = new JwtMemberInfo(1L, "tester");
+        String accessToken = jwtUtils.generateAccessToken(jwtMemberInfo, new Date());
+
+        // When
+        Claims claims = jwtUtils.verify(accessToken);
+
+        // Then
+        assertThat(JwtMemberInfo.of(jwtUtils, claims))
+                .extracting("id", "accountId")
+                .containsExactly(1L, "tester");
+    }
+
+    @DisplayName("이미 검증한 토큰은 캐시된 claims 를 반환한다.")
+    @Test
+    void verifyWithCachedToken() {
+        // Given
+        String accessToken = jwtUtils.generateAccessToken(new JwtMemberInfo(2L, "tester"), new Date());
+        Claims first = jwtUtils.verify(accessToken);
+
+        // When
+        Claims second = jwtUtils.verify(accessToken);
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @DisplayName("서명이 올바르지 않은 토큰은 검증에 실패한다.")
+    @Test
+    void verifyWithTamperedToken() {
+        // Given
+        String accessToken = jwtUtils.generateAccessToken(new JwtMemberInfo(3L, "tester"), new Date());
+        String tamperedToken = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        // When / Then
+        assertThatThrownBy(() -> jwtUtils.verify(tamperedToken))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @DisplayName("subject 가 회원 id 가 아닌 refresh token 에서 회원 id 를 꺼내면 유효하지 않은 토큰으로 처리한다.")
+    @Test
+    void getIdWithRefreshToken() {
+        // Given
+        String refreshToken = jwtUtils.generateRefreshToken(new JwtMemberInfo(4L, "tester"), new Date());
+        Claims claims = jwtUtils.verify(refreshToken);
+
+        // When / Then
+        assertThatThrownBy(() -> jwtUtils.getId(claims))
+                .isInstanceOf(JwtException.class)
+                .hasMessage(ErrorCode.INVALID_TOKEN.getMessage());
+    }
+}
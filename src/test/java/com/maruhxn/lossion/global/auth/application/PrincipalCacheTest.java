@@ -0,0 +1,84 @@
+package com.maruhxn.lossion.global.auth.application;
+
+import com.maruhxn.lossion.domain.member.dao.MemberRepository;
+import com.maruhxn.lossion.domain.member.domain.Member;
+import com.maruhxn.lossion.domain.member.event.MemberChangedEvent;
+import com.maruhxn.lossion.global.auth.dto.CustomUserDetails;
+import com.maruhxn.lossion.global.auth.dto.JwtMemberInfo;
+import com.maruhxn.lossion.util.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Service] - PrincipalCache")
+class PrincipalCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private JwtUserDetailsService jwtUserDetailsService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @DisplayName("같은 회원의 인증 주체를 다시 요청하면 회원을 다시 조회하지 않고, 요청마다 새 인증 주체를 반환한다.")
+    @Test
+    void get() {
+        // Given
+        Member member = createMember();
+        JwtMemberInfo jwtMemberInfo = JwtMemberInfo.from(member);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When
+        CustomUserDetails first = (CustomUserDetails) principalCache.get(jwtMemberInfo, accountId -> load(accountId, loadCount));
+        CustomUserDetails second = (CustomUserDetails) principalCache.get(jwtMemberInfo, accountId -> load(accountId, loadCount));
+        second.getMember().updateProfile("changed", null, null);
+        CustomUserDetails third = (CustomUserDetails) principalCache.get(jwtMemberInfo, accountId -> load(accountId, loadCount));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second.getMember()).isNotSameAs(first.getMember());
+        assertThat(third)
+                .extracting("id", "accountId", "username", "authorities")
+                .containsExactly(first.getId(), first.getAccountId(), "tester", first.getAuthorities());
+    }
+
+    @DisplayName("회원 정보 변경 이벤트를 받으면 해당 회원의 인증 주체를 무효화한다.")
+    @Test
+    void onMemberChanged() {
+        // Given
+        Member member = createMember();
+        JwtMemberInfo jwtMemberInfo = JwtMemberInfo.from(member);
+        AtomicInteger loadCount = new AtomicInteger();
+        principalCache.get(jwtMemberInfo, accountId -> load(accountId, loadCount));
+
+        // When
+        principalCache.onMemberChanged(new MemberChangedEvent(member.getId()));
+        principalCache.get(jwtMemberInfo, accountId -> load(accountId, loadCount));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private UserDetails load(String accountId, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return jwtUserDetailsService.loadUserByUsername(accountId);
+    }
+
+    private Member createMember() {
+        Member member = Member.builder()
+                .accountId("tester")
+                .email("test@test.com")
+                .username("tester")
+                .password("test")
+                .build();
+
+        return memberRepository.save(member);
+    }
+}